@@ -17,62 +17,95 @@
 
 package org.cosinus.swing.boot;
 
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.boot.event.ApplicationInitializedEvent;
 import org.cosinus.swing.boot.initialize.ApplicationFrameInitializer;
+import org.cosinus.swing.boot.initialize.ApplicationInitializationReport;
 import org.cosinus.swing.boot.initialize.ApplicationInitializer;
+import org.cosinus.swing.boot.initialize.ApplicationInitializerGraph;
 import org.cosinus.swing.context.ApplicationHandler;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Set;
-
-import static java.util.function.Predicate.not;
-import static javax.swing.SwingUtilities.invokeLater;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * An {@link ApplicationRunner} which handle application initializers.
  * Also, as an {@link ApplicationHandler} it can reload the swing configuration
  */
+@Slf4j
 public class ApplicationInitializationHandler implements ApplicationRunner, ApplicationHandler {
 
     private final Set<ApplicationInitializer> applicationInitializers;
 
     private final ApplicationFrameInitializer applicationFrameInitializer;
 
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ExecutorService backgroundExecutor;
+
     public ApplicationInitializationHandler(
         final Set<ApplicationInitializer> applicationInitializers,
-        final ApplicationFrameInitializer applicationFrameInitializer) {
+        final ApplicationFrameInitializer applicationFrameInitializer,
+        final ApplicationEventPublisher applicationEventPublisher) {
 
         this.applicationInitializers = applicationInitializers;
         this.applicationFrameInitializer = applicationFrameInitializer;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.backgroundExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name("application-initializer-", 0)
+            .factory());
     }
 
     @Override
     public void run(ApplicationArguments args) {
-        invokeLater(this::initApplication);
+        initApplication();
     }
 
     /**
-     * Run all {@link ApplicationInitializer} beans from application context
+     * Run all {@link ApplicationInitializer} beans from application context.
+     * <p>
+     * The initializers run in dependency order, concurrently when they allow it,
+     * and the timing report is logged and published as {@link ApplicationInitializedEvent}
+     * when all of them are finished.
+     *
+     * @return the future timing report
      */
-    public void initApplication() {
-        applicationInitializers
-            .stream()
-            .filter(ApplicationInitializer::beforeInitializeApplicationFrame)
-            .forEach(ApplicationInitializer::initialize);
-
-        applicationFrameInitializer.initialize();
-
-        applicationInitializers
-            .stream()
-            .filter(not(ApplicationInitializer::beforeInitializeApplicationFrame))
-            .forEach(ApplicationInitializer::initialize);
+    public CompletableFuture<ApplicationInitializationReport> initApplication() {
+        return createInitializerGraph()
+            .run()
+            .whenComplete((report, error) -> {
+                if (report != null) {
+                    initializationFinished(report);
+                } else {
+                    log.error("Failed to initialize the application", error);
+                }
+            });
     }
 
     /**
-     * Reload the swing configuration of the application
+     * Reload the swing configuration of the application.
+     * <p>
+     * Unlike the first start, this waits for all the initializers to finish,
+     * so the caller can rely on the reloaded configuration.
      */
     @Override
     public void reloadApplication() {
-        initApplication();
+        initializationFinished(createInitializerGraph().runAndWait());
+    }
+
+    private ApplicationInitializerGraph createInitializerGraph() {
+        return new ApplicationInitializerGraph(applicationInitializers,
+            applicationFrameInitializer,
+            backgroundExecutor);
+    }
+
+    private void initializationFinished(final ApplicationInitializationReport report) {
+        log.info(report.format());
+        applicationEventPublisher.publishEvent(new ApplicationInitializedEvent(report));
     }
 }
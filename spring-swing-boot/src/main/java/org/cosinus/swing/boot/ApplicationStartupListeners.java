@@ -22,16 +22,21 @@ import org.cosinus.swing.boot.event.ApplicationContextBeforeInitializeBeanEvent;
 import org.cosinus.swing.boot.event.ApplicationContextBeforeInitializeBeansEvent;
 import org.cosinus.swing.boot.event.ApplicationFrameAfterInitializeEvent;
 import org.cosinus.swing.boot.event.ApplicationFrameBeforeInitializeEvent;
+import org.cosinus.swing.boot.event.ApplicationInitializedEvent;
+import org.cosinus.swing.boot.event.StartupProgress;
 import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
 import org.springframework.boot.context.event.ApplicationPreparedEvent;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.cosinus.swing.boot.event.StartupProgress.STARTUP_PROGRESS_BEAN_NAME;
+
 /**
  * Handler for {@link SwingSpringApplicationStartupListener}.
  * <p>
@@ -63,8 +68,10 @@ class ApplicationStartupListeners {
      */
     ApplicationListener<?>[] listeners() {
         return new ApplicationListener<?>[]{
-            (ApplicationListener<ApplicationContextInitializedEvent>) event ->
-                startupListeners.forEach(listener -> listener.contextPrepared(event.getApplicationContext())),
+            (ApplicationListener<ApplicationContextInitializedEvent>) event -> {
+                registerStartupProgress(event.getApplicationContext());
+                startupListeners.forEach(listener -> listener.contextPrepared(event.getApplicationContext()));
+            },
             (ApplicationListener<ApplicationPreparedEvent>) event ->
                 startupListeners.forEach(listener -> listener.contextLoaded(event.getApplicationContext())),
             (ApplicationListener<ApplicationContextBeforeInitializeBeansEvent>) event ->
@@ -82,7 +89,21 @@ class ApplicationStartupListeners {
             (ApplicationListener<ApplicationFrameBeforeInitializeEvent>) event ->
                 startupListeners.forEach(listener -> listener.applicationFrameInitializing(event.getApplicationFrame())),
             (ApplicationListener<ApplicationFrameAfterInitializeEvent>) event ->
-                startupListeners.forEach(listener -> listener.applicationFrameInitialized(event.getApplicationFrame()))
+                startupListeners.forEach(listener -> listener.applicationFrameInitialized(event.getApplicationFrame())),
+            (ApplicationListener<ApplicationInitializedEvent>) event ->
+                startupListeners.forEach(listener -> listener.applicationInitialized(event.getReport()))
         };
     }
+
+    /**
+     * Register a {@link StartupProgress} in the application context,
+     * requiring the per bean events only if a startup listener requires them.
+     *
+     * @param context the application context
+     */
+    private void registerStartupProgress(ConfigurableApplicationContext context) {
+        context.getBeanFactory().registerSingleton(STARTUP_PROGRESS_BEAN_NAME,
+            new StartupProgress(startupListeners.stream()
+                .anyMatch(SwingSpringApplicationStartupListener::requiresBeanEvents)));
+    }
 }
@@ -18,6 +18,7 @@
 package org.cosinus.swing.boot;
 
 import lombok.Setter;
+import org.cosinus.swing.boot.training.TrainingRunWindowPostProcessor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -26,6 +27,7 @@ import org.springframework.core.io.ResourceLoader;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static java.lang.System.getProperty;
 import static javax.swing.SwingUtilities.invokeLater;
 import static org.springframework.boot.Banner.Mode.OFF;
 import static org.springframework.boot.WebApplicationType.NONE;
@@ -38,10 +40,18 @@ import static org.springframework.boot.WebApplicationType.NONE;
  * <p>
  * Keeping the application class as static field is a compromise
  * for rare cases when you need a unique class which identify the application
+ * <p>
+ * When started with "-Dspring.context.exit=onRefresh" (and "-Djava.awt.headless=true"),
+ * the application runs in training mode: the context is refreshed with the window beans stubbed,
+ * then the application exits, so the JVM can dump a class data sharing archive.
  */
 @Setter
 public class SpringSwingApplication extends SpringApplication {
 
+    public static final String CONTEXT_EXIT_PROPERTY = "spring.context.exit";
+
+    public static final String CONTEXT_EXIT_ON_REFRESH = "onRefresh";
+
     public static Class<?> applicationClass;
 
     private boolean logStartupProgress;
@@ -55,6 +65,18 @@ public class SpringSwingApplication extends SpringApplication {
         setHeadless(false);
         setWebApplicationType(NONE);
         setBannerMode(OFF);
+        if (isTrainingRun()) {
+            addInitializers(context -> context.addBeanFactoryPostProcessor(new TrainingRunWindowPostProcessor()));
+        }
+    }
+
+    /**
+     * Check if the application runs in training mode, only to refresh the context and exit.
+     *
+     * @return true if this is a training run
+     */
+    public static boolean isTrainingRun() {
+        return CONTEXT_EXIT_ON_REFRESH.equals(getProperty(CONTEXT_EXIT_PROPERTY));
     }
 
     public static ConfigurableApplicationContext run(Class<?> appClass,
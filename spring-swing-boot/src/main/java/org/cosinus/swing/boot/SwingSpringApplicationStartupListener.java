@@ -19,6 +19,8 @@ package org.cosinus.swing.boot;
 
 import org.cosinus.swing.boot.event.ApplicationContextCreationEvent;
 import org.cosinus.swing.boot.event.ApplicationFrameEvent;
+import org.cosinus.swing.boot.event.StartupProgress;
+import org.cosinus.swing.boot.initialize.ApplicationInitializationReport;
 import org.springframework.boot.SpringApplicationRunListener;
 import org.springframework.context.ApplicationContext;
 
@@ -36,6 +38,19 @@ public interface SwingSpringApplicationStartupListener extends SpringApplication
      */
     void contextBeforeInitializeBeans(ApplicationContext context);
 
+    /**
+     * Check if this listener requires the per bean initialization events.
+     * <p>
+     * If no startup listener requires them, the events are not published
+     * and {@link #contextBeforeInitializeBean} and {@link #contextAfterInitializeBean} are not called.
+     * The progress can be sampled instead from the {@link StartupProgress} bean of the context.
+     *
+     * @return true if this listener requires the per bean initialization events
+     */
+    default boolean requiresBeanEvents() {
+        return true;
+    }
+
     /**
      * Called just before a bean is initialized.
      *
@@ -72,4 +87,12 @@ public interface SwingSpringApplicationStartupListener extends SpringApplication
      * @param applicationFrame the application frame
      */
     void applicationFrameInitialized(ApplicationFrame applicationFrame);
+
+    /**
+     * Called after all the application initializers are finished.
+     *
+     * @param report the timing report of the application initializers
+     */
+    default void applicationInitialized(ApplicationInitializationReport report) {
+    }
 }
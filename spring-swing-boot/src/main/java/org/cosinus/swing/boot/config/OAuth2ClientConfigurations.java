@@ -18,6 +18,7 @@
 package org.cosinus.swing.boot.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cosinus.swing.context.LazySwingComponent;
 import org.cosinus.swing.resource.FilesystemResourceResolver;
 import org.cosinus.swing.security.LocalStorageOAuth2AuthorizedClientService;
 import org.cosinus.swing.security.OAuth2AccessTokenInterceptor;
@@ -89,11 +90,13 @@ public class OAuth2ClientConfigurations {
         }
 
         @Bean
+        @LazySwingComponent(prefetch = false)
         public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oAuth2AccessTokenResponseClient() {
             return new RestClientAuthorizationCodeTokenResponseClient();
         }
 
         @Bean
+        @LazySwingComponent(prefetch = false)
         public OAuth2AuthorizedClientManager authorizedClientManager(
             final OAuth2AuthorizedClientService oAuth2AuthorizedClientService,
             final ClientRegistrationRepository clientRegistrationRepository,
@@ -130,6 +133,7 @@ public class OAuth2ClientConfigurations {
         }
 
         @Bean
+        @LazySwingComponent(prefetch = false)
         public ReceiverOAuth2AuthorizedClientProvider receiverOAuth2AuthorizedClientProvider(
             final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> accessTokenResponseClient,
             final SwingOAuth2ClientProperties oAuth2ClientProperties) {
@@ -139,6 +143,7 @@ public class OAuth2ClientConfigurations {
         @Bean
         @ConditionalOnBean(ClientRegistrationRepository.class)
         @ConditionalOnMissingBean
+        @LazySwingComponent(prefetch = false)
         public LocalStorageOAuth2AuthorizedClientService localStorageOAuth2AuthorizedClientService(
             final ObjectMapper objectMapper,
             final FilesystemResourceResolver filesystemResourceResolver,
@@ -27,7 +27,10 @@ import org.cosinus.swing.boot.ApplicationInitializationHandler;
 import org.cosinus.swing.boot.initialize.ApplicationFrameInitializer;
 import org.cosinus.swing.boot.initialize.ApplicationInitializer;
 import org.cosinus.swing.boot.initialize.TranslatorInitializer;
+import org.cosinus.swing.boot.lazy.LazySwingComponentPrefetcher;
+import org.cosinus.swing.boot.profile.FirstPaintMeter;
 import org.cosinus.swing.context.ApplicationContextInjector;
+import org.cosinus.swing.context.LazySwingComponent;
 import org.cosinus.swing.dialog.DialogHandler;
 import org.cosinus.swing.error.ErrorHandler;
 import org.cosinus.swing.error.form.DefaultErrorFormProvider;
@@ -48,15 +51,19 @@ import org.cosinus.swing.ui.UIDescriptorProvider;
 import org.cosinus.swing.window.DefaultWindowSettingsHandler;
 import org.cosinus.swing.window.WindowSettingsHandler;
 import org.cosinus.swing.xml.XmlHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 
 import java.util.Set;
 
 import static org.cosinus.swing.boot.SpringSwingApplication.applicationClass;
+import static org.cosinus.swing.convert.JsonFileConverter.KEEP_CLASSPATH_MODELS_PROPERTY;
 import static org.cosinus.swing.ui.UIController.SWING_UI_INITIALIZER_PROPERTY;
 
 /**
@@ -76,8 +83,10 @@ public class SpringSwingAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public MenuProvider menuProvider(final ObjectMapper objectMapper,
-                                     final Set<ResourceResolver> resourceResolvers) {
-        return new JsonMenuProvider(objectMapper, resourceResolvers);
+                                     final Set<ResourceResolver> resourceResolvers,
+                                     @Value("${" + KEEP_CLASSPATH_MODELS_PROPERTY + ":false}")
+                                     boolean keepClasspathModels) {
+        return new JsonMenuProvider(objectMapper, resourceResolvers, keepClasspathModels);
     }
 
     @Bean
@@ -92,6 +101,7 @@ public class SpringSwingAutoConfiguration {
     }
 
     @Bean
+    @LazySwingComponent
     public DialogHandler dialogHandler(final Translator translator,
                                        final ApplicationUIHandler uiHandler,
                                        final PreferencesDialogProvider preferencesDialogProvider) {
@@ -107,12 +117,14 @@ public class SpringSwingAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
+    @LazySwingComponent
     public DefaultErrorFormProvider errorFormProvider() {
         return new DefaultErrorFormProvider();
     }
 
     @Bean
     @ConditionalOnMissingBean
+    @LazySwingComponent
     public PreferencesDialogProvider preferencesDialogProvider(final Translator translator) {
         return new DefaultPreferencesDialogProvider(translator);
     }
@@ -134,10 +146,23 @@ public class SpringSwingAutoConfiguration {
     @Bean
     public ApplicationInitializationHandler applicationInitializationHandler(
         final Set<ApplicationInitializer> applicationInitializers,
-        final ApplicationFrameInitializer applicationFrameInitializer) {
+        final ApplicationFrameInitializer applicationFrameInitializer,
+        final ApplicationEventPublisher applicationEventPublisher) {
 
         return new ApplicationInitializationHandler(applicationInitializers,
-            applicationFrameInitializer);
+            applicationFrameInitializer,
+            applicationEventPublisher);
+    }
+
+    @Bean(initMethod = "start")
+    public FirstPaintMeter firstPaintMeter(final ApplicationEventPublisher applicationEventPublisher) {
+        return new FirstPaintMeter(applicationEventPublisher);
+    }
+
+    @Bean
+    public LazySwingComponentPrefetcher lazySwingComponentPrefetcher(
+        final ConfigurableListableBeanFactory beanFactory) {
+        return new LazySwingComponentPrefetcher(beanFactory);
     }
 
     @Bean
@@ -180,8 +205,10 @@ public class SpringSwingAutoConfiguration {
     @Bean
     @ConditionalOnProperty(value = SWING_UI_INITIALIZER_PROPERTY, havingValue = "true")
     public UIDescriptorProvider uiDescriptorProvider(final ObjectMapper objectMapper,
-                                                     final Set<ResourceResolver> resourceResolvers) {
-        return new UIDescriptorProvider(objectMapper, resourceResolvers);
+                                                     final Set<ResourceResolver> resourceResolvers,
+                                                     @Value("${" + KEEP_CLASSPATH_MODELS_PROPERTY + ":false}")
+                                                     boolean keepClasspathModels) {
+        return new UIDescriptorProvider(objectMapper, resourceResolvers, keepClasspathModels);
     }
 
     @Bean
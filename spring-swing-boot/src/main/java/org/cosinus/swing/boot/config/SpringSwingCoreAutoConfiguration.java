@@ -23,6 +23,7 @@ import org.cosinus.swing.boot.condition.ConditionalOnLinux;
 import org.cosinus.swing.boot.condition.ConditionalOnMac;
 import org.cosinus.swing.boot.condition.ConditionalOnWindows;
 import org.cosinus.swing.context.ApplicationProperties;
+import org.cosinus.swing.context.LazySwingComponentPostProcessor;
 import org.cosinus.swing.ui.UIProperties;
 import org.cosinus.swing.exec.*;
 import org.cosinus.swing.preference.JsonPreferencesProvider;
@@ -31,6 +32,8 @@ import org.cosinus.swing.preference.PreferencesProvider;
 import org.cosinus.swing.resource.ClasspathResourceResolver;
 import org.cosinus.swing.resource.DefaultResourceResolver;
 import org.cosinus.swing.resource.FilesystemResourceResolver;
+import org.cosinus.swing.resource.IndexedClasspathResourceResolver;
+import org.cosinus.swing.resource.ResourceIndex;
 import org.cosinus.swing.resource.ResourceResolver;
 import org.cosinus.swing.translate.MessageSourceTranslator;
 import org.cosinus.swing.translate.Translator;
@@ -52,6 +55,7 @@ import java.util.Set;
 import static com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE;
 import static com.fasterxml.jackson.databind.MapperFeature.REQUIRE_HANDLERS_FOR_JAVA8_TIMES;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static org.cosinus.swing.convert.JsonFileConverter.KEEP_CLASSPATH_MODELS_PROPERTY;
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
 /**
@@ -68,6 +72,11 @@ import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRA
 @Role(ROLE_INFRASTRUCTURE)
 public class SpringSwingCoreAutoConfiguration {
 
+    @Bean
+    public static LazySwingComponentPostProcessor lazySwingComponentPostProcessor() {
+        return new LazySwingComponentPostProcessor();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public ObjectMapper objectMapper() {
@@ -87,7 +96,8 @@ public class SpringSwingCoreAutoConfiguration {
 
     @Bean
     public ClasspathResourceResolver classpathResourceResolver(final ResourcePatternResolver resourceLoader) {
-        return new ClasspathResourceResolver(resourceLoader);
+        return new IndexedClasspathResourceResolver(resourceLoader,
+            ResourceIndex.load(resourceLoader.getClassLoader()));
     }
 
     @Bean
@@ -100,9 +110,12 @@ public class SpringSwingCoreAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public PreferencesProvider preferencesProvider(final ObjectMapper objectMapper,
-                                                   final Set<ResourceResolver> resourceResolvers) {
+                                                   final Set<ResourceResolver> resourceResolvers,
+                                                   @Value("${" + KEEP_CLASSPATH_MODELS_PROPERTY + ":false}")
+                                                   boolean keepClasspathModels) {
         return new JsonPreferencesProvider(objectMapper,
-            resourceResolvers);
+            resourceResolvers,
+            keepClasspathModels);
     }
 
     @Bean
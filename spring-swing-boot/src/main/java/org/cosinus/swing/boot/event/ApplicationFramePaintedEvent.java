@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.event;
+
+import lombok.Getter;
+import org.cosinus.swing.boot.ApplicationFrame;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/**
+ * Event fired after the application frame is painted for the first time
+ */
+@Getter
+public class ApplicationFramePaintedEvent extends ApplicationFrameEvent {
+
+    @Serial
+    private static final long serialVersionUID = 3093528860375297418L;
+
+    /**
+     * The time from the process start to the first paint of the application frame.
+     */
+    private final Duration timeToFirstPaint;
+
+    public ApplicationFramePaintedEvent(ApplicationFrame applicationFrame, Duration timeToFirstPaint) {
+        super(applicationFrame);
+        this.timeToFirstPaint = timeToFirstPaint;
+    }
+}
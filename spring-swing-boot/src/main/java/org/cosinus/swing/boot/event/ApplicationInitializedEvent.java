@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.event;
+
+import lombok.Getter;
+import org.cosinus.swing.boot.initialize.ApplicationInitializationReport;
+import org.springframework.context.ApplicationEvent;
+
+import java.io.Serial;
+
+/**
+ * Event fired after all the application initializers are finished
+ */
+@Getter
+public class ApplicationInitializedEvent extends ApplicationEvent {
+
+    @Serial
+    private static final long serialVersionUID = 5226894519704587104L;
+
+    private final transient ApplicationInitializationReport report;
+
+    public ApplicationInitializedEvent(ApplicationInitializationReport report) {
+        super(report);
+        this.report = report;
+    }
+}
@@ -21,18 +21,47 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import java.util.List;
+
+import static java.util.Arrays.stream;
+import static org.cosinus.swing.boot.event.StartupProgress.STARTUP_PROGRESS_BEAN_NAME;
+import static org.springframework.core.ResolvableType.forClass;
 
 /**
  * Listen the application processing beans
  * and publish corresponding {@link ApplicationContextCreationEvent}
+ * <p>
+ * If the context has a {@link StartupProgress}, the initialized beans are only counted there,
+ * and the events are published only if a startup listener requires them,
+ * or if the context has listeners declared for these events.
  */
 public class BeanProcessorListener implements BeanPostProcessor, ApplicationContextAware {
 
+    private static final ResolvableType APPLICATION_EVENT_TYPE = forClass(ApplicationEvent.class);
+
+    private static final List<ResolvableType> BEAN_EVENT_TYPES = List.of(
+        forClass(ApplicationContextBeforeInitializeBeanEvent.class),
+        forClass(ApplicationContextAfterInitializeBeanEvent.class));
+
     private ApplicationContext applicationContext;
 
+    private StartupProgress startupProgress;
+
     private final ApplicationEventPublisher applicationEventPublisher;
 
+    private int checkedListenerCount = -1;
+
+    private boolean beanEventListenersFound;
+
     BeanProcessorListener(ApplicationEventPublisher applicationEventPublisher) {
         this.applicationEventPublisher = applicationEventPublisher;
     }
@@ -40,6 +69,9 @@ public class BeanProcessorListener implements BeanPostProcessor, ApplicationCont
     @Override
     public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        this.startupProgress = applicationContext.containsBean(STARTUP_PROGRESS_BEAN_NAME) ?
+            applicationContext.getBean(STARTUP_PROGRESS_BEAN_NAME, StartupProgress.class) :
+            null;
     }
 
     /**
@@ -51,8 +83,10 @@ public class BeanProcessorListener implements BeanPostProcessor, ApplicationCont
      */
     @Override
     public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
-        applicationEventPublisher.publishEvent(
-            new ApplicationContextBeforeInitializeBeanEvent(applicationContext, bean, beanName));
+        if (isBeanEventsRequired()) {
+            applicationEventPublisher.publishEvent(
+                new ApplicationContextBeforeInitializeBeanEvent(applicationContext, bean, beanName));
+        }
         return bean;
     }
 
@@ -65,8 +99,64 @@ public class BeanProcessorListener implements BeanPostProcessor, ApplicationCont
      */
     @Override
     public Object postProcessAfterInitialization(final Object bean, final String beanName) {
-        applicationEventPublisher.publishEvent(
-            new ApplicationContextAfterInitializeBeanEvent(applicationContext, bean, beanName));
+        if (startupProgress != null) {
+            startupProgress.beanInitialized(beanName);
+        }
+        if (isBeanEventsRequired()) {
+            applicationEventPublisher.publishEvent(
+                new ApplicationContextAfterInitializeBeanEvent(applicationContext, bean, beanName));
+        }
         return bean;
     }
+
+    private boolean isBeanEventsRequired() {
+        return startupProgress == null ||
+            startupProgress.isBeanEventsRequired() ||
+            hasBeanEventListeners();
+    }
+
+    /**
+     * Check if the context has listeners declared for the per bean events,
+     * either added to the context, like the {@link EventListener} methods once processed,
+     * or defined as beans.
+     * <p>
+     * The listeners of any application event are not counted, as they do not need the per bean events.
+     * The listeners are checked again only when listeners or beans are added.
+     *
+     * @return true if a listener of the per bean events was found
+     */
+    private synchronized boolean hasBeanEventListeners() {
+        if (!(applicationContext instanceof AbstractApplicationContext context)) {
+            return true;
+        }
+        int listenerCount = context.getApplicationListeners().size() + context.getBeanDefinitionCount();
+        if (listenerCount != checkedListenerCount) {
+            checkedListenerCount = listenerCount;
+            beanEventListenersFound = context.getApplicationListeners()
+                .stream()
+                .anyMatch(this::isBeanEventListener) ||
+                stream(context.getBeanNamesForType(ApplicationListener.class, true, false))
+                    .map(beanName -> context.getBeanFactory().getType(beanName, false))
+                    .anyMatch(this::isBeanEventListener);
+        }
+        return beanEventListenersFound;
+    }
+
+    private boolean isBeanEventListener(final ApplicationListener<?> listener) {
+        GenericApplicationListener genericListener = listener instanceof GenericApplicationListener generic ?
+            generic :
+            new GenericApplicationListenerAdapter(listener);
+        return !genericListener.supportsEventType(APPLICATION_EVENT_TYPE) &&
+            BEAN_EVENT_TYPES.stream().anyMatch(genericListener::supportsEventType);
+    }
+
+    private boolean isBeanEventListener(final Class<?> listenerType) {
+        if (listenerType == null) {
+            return false;
+        }
+        ResolvableType eventType = forClass(listenerType).as(ApplicationListener.class).getGeneric();
+        return eventType != ResolvableType.NONE &&
+            !eventType.isAssignableFrom(APPLICATION_EVENT_TYPE) &&
+            BEAN_EVENT_TYPES.stream().anyMatch(eventType::isAssignableFrom);
+    }
 }
\ No newline at end of file
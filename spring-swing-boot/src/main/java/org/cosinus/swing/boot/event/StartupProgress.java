@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Low overhead channel of the application context initialization progress.
+ * <p>
+ * The {@link BeanProcessorListener} counts here the initialized beans,
+ * while the startup listeners sample the progress at their own rate.
+ * The per bean {@link ApplicationContextCreationEvent} events are published
+ * only if a startup listener requires them.
+ */
+public class StartupProgress {
+
+    public static final String STARTUP_PROGRESS_BEAN_NAME = "springSwingStartupProgress";
+
+    private final AtomicInteger initializedBeanCount = new AtomicInteger();
+
+    private final boolean beanEventsRequired;
+
+    private volatile String lastInitializedBeanName;
+
+    public StartupProgress(boolean beanEventsRequired) {
+        this.beanEventsRequired = beanEventsRequired;
+    }
+
+    void beanInitialized(String beanName) {
+        lastInitializedBeanName = beanName;
+        initializedBeanCount.incrementAndGet();
+    }
+
+    public int getInitializedBeanCount() {
+        return initializedBeanCount.get();
+    }
+
+    public String getLastInitializedBeanName() {
+        return lastInitializedBeanName;
+    }
+
+    public boolean isBeanEventsRequired() {
+        return beanEventsRequired;
+    }
+}
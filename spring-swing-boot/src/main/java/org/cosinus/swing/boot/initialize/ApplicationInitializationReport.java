@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.boot.initialize;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Timing report of the application initialization.
+ *
+ * @param startNanoTime the {@link System#nanoTime()} of the initialization start
+ * @param durationNanos the duration of the whole initialization
+ * @param timings       the initializer timings, in start order
+ */
+public record ApplicationInitializationReport(long startNanoTime,
+                                              long durationNanos,
+                                              List<InitializerTiming> timings) {
+
+    /**
+     * Format the report as a text table, one line per initializer.
+     *
+     * @return the formatted report
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder()
+            .append(String.format("Application initialized in %d ms", NANOSECONDS.toMillis(durationNanos)));
+        timings.forEach(timing -> report.append(String.format("%n  %-40s start %6d ms  wait %6d ms  duration %6d ms  %s%s",
+            timing.name(),
+            NANOSECONDS.toMillis(timing.startNanos()),
+            NANOSECONDS.toMillis(timing.waitNanos()),
+            NANOSECONDS.toMillis(timing.durationNanos()),
+            timing.threadName(),
+            timing.failed() ? "  FAILED" : "")));
+        return report.toString();
+    }
+}
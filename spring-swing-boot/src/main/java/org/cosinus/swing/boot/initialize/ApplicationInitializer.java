@@ -17,6 +17,10 @@
 
 package org.cosinus.swing.boot.initialize;
 
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
 /**
  * Application initializer interface
  */
@@ -28,4 +32,26 @@ public interface ApplicationInitializer {
         return true;
     }
 
+    /**
+     * Get the types of the initializers which must be finished before this one starts.
+     * <p>
+     * The types without an initializer bean are ignored.
+     *
+     * @return the dependency types
+     */
+    default Set<Class<? extends ApplicationInitializer>> getDependencies() {
+        return emptySet();
+    }
+
+    /**
+     * Check if this initializer must run on the event dispatch thread.
+     * <p>
+     * The initializers not touching the Swing components can return false,
+     * to run in background concurrently with the other initializers.
+     *
+     * @return true if this initializer must run on the event dispatch thread
+     */
+    default boolean runOnEventDispatchThread() {
+        return true;
+    }
 }
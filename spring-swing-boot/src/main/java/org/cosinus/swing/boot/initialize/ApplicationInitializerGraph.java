@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.boot.initialize;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.error.SpringSwingException;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.joining;
+import static javax.swing.SwingUtilities.invokeLater;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+
+/**
+ * Graph of the application initializers, run in dependency order.
+ * <p>
+ * The application frame initialization is a node of the graph:
+ * it depends on the initializers to run before the frame,
+ * while the other initializers depend on it.
+ * Each initializer starts as soon as its dependencies are finished,
+ * either on the event dispatch thread or, if it allows it, in background,
+ * so independent initializers run concurrently.
+ * <p>
+ * A failed initializer is logged and does not prevent its dependents from running,
+ * except for the application frame initialization: when it fails,
+ * the initializers depending on it are not run and the run fails.
+ */
+@Slf4j
+public class ApplicationInitializerGraph {
+
+    public static final String APPLICATION_FRAME_NODE = "ApplicationFrame";
+
+    private final List<Node> nodes;
+
+    private final Executor backgroundExecutor;
+
+    private final Queue<InitializerTiming> timings = new ConcurrentLinkedQueue<>();
+
+    private long startTime;
+
+    public ApplicationInitializerGraph(final Collection<ApplicationInitializer> initializers,
+                                       final ApplicationFrameInitializer applicationFrameInitializer,
+                                       final Executor backgroundExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.nodes = createNodes(initializers, applicationFrameInitializer);
+        checkCycles();
+    }
+
+    private List<Node> createNodes(final Collection<ApplicationInitializer> initializers,
+                                   final ApplicationFrameInitializer applicationFrameInitializer) {
+        Map<ApplicationInitializer, Node> initializerNodes = new LinkedHashMap<>();
+        initializers.forEach(initializer -> initializerNodes.put(initializer,
+            new Node(initializer.getClass().getSimpleName(),
+                initializer::initialize,
+                initializer.runOnEventDispatchThread(),
+                false)));
+        Node frameNode = new Node(APPLICATION_FRAME_NODE, applicationFrameInitializer::initialize, true, true);
+
+        initializerNodes.forEach((initializer, node) -> {
+            initializerNodes.entrySet()
+                .stream()
+                .filter(dependency -> dependency.getKey() != initializer)
+                .filter(dependency -> initializer.getDependencies()
+                    .stream()
+                    .anyMatch(dependencyType -> dependencyType.isInstance(dependency.getKey())))
+                .map(Map.Entry::getValue)
+                .forEach(node.dependencies::add);
+            if (initializer.beforeInitializeApplicationFrame()) {
+                frameNode.dependencies.add(node);
+            } else {
+                node.dependencies.add(frameNode);
+            }
+        });
+
+        List<Node> allNodes = new ArrayList<>(initializerNodes.values());
+        allNodes.add(frameNode);
+        return allNodes;
+    }
+
+    private void checkCycles() {
+        Set<Node> visited = new HashSet<>();
+        Deque<Node> path = new ArrayDeque<>();
+        nodes.forEach(node -> checkCycles(node, visited, path));
+    }
+
+    private void checkCycles(final Node node, final Set<Node> visited, final Deque<Node> path) {
+        if (path.contains(node)) {
+            throw new IllegalStateException("Cyclic application initializer dependencies: " +
+                path.reversed().stream().map(Node::getName).collect(joining(" -> ")) + " -> " + node.name);
+        }
+        if (visited.add(node)) {
+            path.push(node);
+            node.dependencies.forEach(dependency -> checkCycles(dependency, visited, path));
+            path.pop();
+        }
+    }
+
+    /**
+     * Run all the initializers.
+     * <p>
+     * This method does not wait for the initializers, so it can be called from the event dispatch thread.
+     *
+     * @return the future timing report, completed when all the initializers are finished
+     */
+    public CompletableFuture<ApplicationInitializationReport> run() {
+        return run(command -> invokeLater(command));
+    }
+
+    /**
+     * Run all the initializers and wait for them to finish.
+     * <p>
+     * When called from the event dispatch thread, the initializers requiring it are run by the calling thread,
+     * so waiting does not block them.
+     *
+     * @return the timing report
+     * @throws SpringSwingException if the application frame initialization failed
+     */
+    public ApplicationInitializationReport runAndWait() {
+        try {
+            if (!isEventDispatchThread()) {
+                return run().join();
+            }
+            BlockingQueue<Runnable> eventDispatchTasks = new LinkedBlockingQueue<>();
+            CompletableFuture<ApplicationInitializationReport> report = run(eventDispatchTasks::add);
+            report.whenComplete((result, error) -> eventDispatchTasks.add(() -> {
+            }));
+            while (!report.isDone()) {
+                eventDispatchTasks.take().run();
+            }
+            return report.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof SpringSwingException initializationException ?
+                initializationException :
+                new SpringSwingException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SpringSwingException("Interrupted while initializing the application", ex);
+        }
+    }
+
+    private CompletableFuture<ApplicationInitializationReport> run(final Executor eventDispatchExecutor) {
+        startTime = nanoTime();
+        Map<Node, CompletableFuture<Void>> futures = new HashMap<>();
+        nodes.forEach(node -> schedule(node, futures, eventDispatchExecutor));
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+            .thenApply(done -> new ApplicationInitializationReport(startTime,
+                nanoTime() - startTime,
+                timings.stream()
+                    .sorted(comparingLong(InitializerTiming::startNanos))
+                    .toList()));
+    }
+
+    private CompletableFuture<Void> schedule(final Node node,
+                                             final Map<Node, CompletableFuture<Void>> futures,
+                                             final Executor eventDispatchExecutor) {
+        CompletableFuture<Void> future = futures.get(node);
+        if (future == null) {
+            CompletableFuture<?>[] dependencies = node.dependencies.stream()
+                .map(dependency -> schedule(dependency, futures, eventDispatchExecutor))
+                .toArray(CompletableFuture[]::new);
+            future = CompletableFuture.allOf(dependencies)
+                .thenApply(done -> nanoTime())
+                .thenAcceptAsync(readyTime -> execute(node, readyTime), node.eventDispatchThread ?
+                    eventDispatchExecutor :
+                    backgroundExecutor);
+            futures.put(node, future);
+        }
+        return future;
+    }
+
+    private void execute(final Node node, long readyTime) {
+        long start = nanoTime();
+        boolean failed = false;
+        try {
+            node.initializer.run();
+        } catch (Throwable ex) {
+            failed = true;
+            log.error("Failed to run the application initializer {}", node.name, ex);
+            if (node.required) {
+                throw new SpringSwingException("Failed to run the application initializer " + node.name, ex);
+            }
+        } finally {
+            Thread thread = Thread.currentThread();
+            timings.add(new InitializerTiming(node.name,
+                thread.getName().isEmpty() ? thread.toString() : thread.getName(),
+                start - startTime,
+                start - readyTime,
+                nanoTime() - start,
+                node.eventDispatchThread,
+                failed));
+        }
+    }
+
+    private static class Node {
+
+        private final String name;
+
+        private final Runnable initializer;
+
+        private final boolean eventDispatchThread;
+
+        private final boolean required;
+
+        private final List<Node> dependencies = new ArrayList<>();
+
+        private Node(final String name, final Runnable initializer, boolean eventDispatchThread, boolean required) {
+            this.name = name;
+            this.initializer = initializer;
+            this.eventDispatchThread = eventDispatchThread;
+            this.required = required;
+        }
+
+        private String getName() {
+            return name;
+        }
+    }
+}
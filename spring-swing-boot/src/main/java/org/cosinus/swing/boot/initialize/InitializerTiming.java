@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.boot.initialize;
+
+/**
+ * Timing of an application initializer run.
+ *
+ * @param name                the initializer name
+ * @param threadName          the name of the thread running the initializer
+ * @param startNanos          the start time, relative to the initialization start
+ * @param waitNanos           the time waited for the thread after the dependencies were finished
+ * @param durationNanos       the run duration
+ * @param eventDispatchThread true if the initializer ran on the event dispatch thread
+ * @param failed              true if the initializer failed
+ */
+public record InitializerTiming(String name,
+                                String threadName,
+                                long startNanos,
+                                long waitNanos,
+                                long durationNanos,
+                                boolean eventDispatchThread,
+                                boolean failed) {
+
+    public long endNanos() {
+        return startNanos + durationNanos;
+    }
+}
@@ -31,6 +31,7 @@ import javax.swing.UIManager.LookAndFeelInfo;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Optional.ofNullable;
 import static java.util.function.Predicate.not;
@@ -91,6 +92,14 @@ public class LookAndFeelInitializer implements ApplicationInitializer {
         preferences.setAvailableLookAndFeels(availableLookAndFeels.values());
     }
 
+    /**
+     * The default UI labels are translated, so the translator must be initialized first.
+     */
+    @Override
+    public Set<Class<? extends ApplicationInitializer>> getDependencies() {
+        return Set.of(TranslatorInitializer.class);
+    }
+
     private void setLookAndFeel(String lookAndFeelClassName) {
         if (!uiHandler.getLookAndFeel().equals(lookAndFeelClassName)) {
             log.info("Initializing application look-and-feel to {}...", lookAndFeelClassName);
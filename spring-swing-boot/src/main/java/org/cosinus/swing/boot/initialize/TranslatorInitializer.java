@@ -50,4 +50,9 @@ public class TranslatorInitializer implements ApplicationInitializer {
         preferences.setAvailableLanguages(translator.getAvailableLocales().values());
     }
 
+    @Override
+    public boolean runOnEventDispatchThread() {
+        return false;
+    }
+
 }
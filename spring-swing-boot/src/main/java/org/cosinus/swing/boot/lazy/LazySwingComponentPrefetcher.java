@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.lazy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.boot.event.ApplicationFramePaintedEvent;
+import org.cosinus.swing.context.LazySwingComponent;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationListener;
+
+import javax.swing.*;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.stream;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.cosinus.swing.context.LazySwingComponentPostProcessor.isPrefetched;
+
+/**
+ * Creator of the {@link LazySwingComponent} beans not used yet, after the application frame is painted.
+ * <p>
+ * The beans are created on the event dispatch thread, one by one,
+ * so the application stays responsive while prefetching.
+ */
+@Slf4j
+public class LazySwingComponentPrefetcher implements ApplicationListener<ApplicationFramePaintedEvent> {
+
+    public static final int PREFETCH_DELAY_MILLIS = 500;
+
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    public LazySwingComponentPrefetcher(final ConfigurableListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void onApplicationEvent(final ApplicationFramePaintedEvent event) {
+        Timer timer = new Timer(PREFETCH_DELAY_MILLIS, actionEvent -> prefetch());
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    private void prefetch() {
+        List<String> beanNames = stream(beanFactory.getBeanDefinitionNames())
+            .filter(beanName -> isPrefetched(beanFactory, beanName))
+            .filter(beanFactory::isSingleton)
+            .filter(beanName -> !beanFactory.containsSingleton(beanName))
+            .toList();
+        if (!beanNames.isEmpty()) {
+            prefetchNext(beanNames.iterator(), nanoTime(), beanNames.size());
+        }
+    }
+
+    private void prefetchNext(final Iterator<String> beanNames, long startTime, int beanCount) {
+        if (!beanNames.hasNext()) {
+            log.debug("Prefetched {} lazy swing components in {} ms",
+                beanCount, NANOSECONDS.toMillis(nanoTime() - startTime));
+            return;
+        }
+        String beanName = beanNames.next();
+        try {
+            beanFactory.getBean(beanName);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to prefetch the lazy swing component {}", beanName, ex);
+        }
+        invokeLater(() -> prefetchNext(beanNames, startTime, beanCount));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.boot.ApplicationFrame;
+import org.cosinus.swing.boot.event.ApplicationFramePaintedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.awt.AWTEvent.PAINT_EVENT_MASK;
+import static javax.swing.SwingUtilities.invokeLater;
+
+/**
+ * Meter of the time to first paint of the application frame.
+ * <p>
+ * The time is measured from the process start until the first paint event of the application frame is processed.
+ * It is logged and published as {@link ApplicationFramePaintedEvent}.
+ */
+@Slf4j
+public class FirstPaintMeter implements AWTEventListener, AutoCloseable {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Instant startTime;
+
+    private final AtomicBoolean painted = new AtomicBoolean();
+
+    private volatile Duration timeToFirstPaint;
+
+    public FirstPaintMeter(final ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.startTime = ProcessHandle.current()
+            .info()
+            .startInstant()
+            .orElseGet(Instant::now);
+    }
+
+    /**
+     * Start listening for the paint events of the application frame.
+     */
+    public void start() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            Toolkit.getDefaultToolkit().addAWTEventListener(this, PAINT_EVENT_MASK);
+        }
+    }
+
+    @Override
+    public void eventDispatched(final AWTEvent event) {
+        if (getApplicationFrame(event.getSource()) instanceof ApplicationFrame applicationFrame &&
+            painted.compareAndSet(false, true)) {
+            close();
+            invokeLater(() -> firstPaintDone(applicationFrame));
+        }
+    }
+
+    private Object getApplicationFrame(final Object source) {
+        return source instanceof Component component && !(component instanceof Window) ?
+            SwingUtilities.getWindowAncestor(component) :
+            source;
+    }
+
+    private void firstPaintDone(final ApplicationFrame applicationFrame) {
+        timeToFirstPaint = Duration.between(startTime, Instant.now());
+        log.info("Application frame painted {} ms after process start", timeToFirstPaint.toMillis());
+        applicationEventPublisher.publishEvent(new ApplicationFramePaintedEvent(applicationFrame, timeToFirstPaint));
+    }
+
+    /**
+     * Get the time from the process start to the first paint of the application frame.
+     *
+     * @return the time to first paint, or empty if the application frame was not painted yet
+     */
+    public Optional<Duration> getTimeToFirstPaint() {
+        return Optional.ofNullable(timeToFirstPaint);
+    }
+
+    @Override
+    public void close() {
+        if (!GraphicsEnvironment.isHeadless()) {
+            Toolkit.getDefaultToolkit().removeAWTEventListener(this);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+
+/**
+ * {@link ApplicationStartup} which times the spring startup steps, like the bean instantiations.
+ * <p>
+ * The bean instantiation step covers the bean construction, injection and initialization,
+ * including the instantiation of the beans it depends on.
+ */
+class ProfilingApplicationStartup implements ApplicationStartup {
+
+    static final String BEAN_CATEGORY = "bean";
+
+    static final String SPRING_CATEGORY = "spring";
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private final long startTime;
+
+    private final Consumer<StartupSpan> spanConsumer;
+
+    private final AtomicLong stepIds = new AtomicLong();
+
+    private final ThreadLocal<ProfilingStep> currentStep = new ThreadLocal<>();
+
+    ProfilingApplicationStartup(long startTime, final Consumer<StartupSpan> spanConsumer) {
+        this.startTime = startTime;
+        this.spanConsumer = spanConsumer;
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        ProfilingStep step = new ProfilingStep(name, stepIds.incrementAndGet(), currentStep.get());
+        currentStep.set(step);
+        return step;
+    }
+
+    private class ProfilingStep implements StartupStep {
+
+        private final String name;
+
+        private final long id;
+
+        private final ProfilingStep parent;
+
+        private final List<Tag> tags = new ArrayList<>();
+
+        private final long start;
+
+        private ProfilingStep(final String name, long id, final ProfilingStep parent) {
+            this.name = name;
+            this.id = id;
+            this.parent = parent;
+            this.start = nanoTime();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return parent != null ? parent.id : null;
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            tags.add(new ProfilingTag(key, value));
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            return tags::iterator;
+        }
+
+        @Override
+        public void end() {
+            long duration = nanoTime() - start;
+            currentStep.set(parent);
+            String beanName = tags.stream()
+                .filter(tag -> BEAN_NAME_TAG.equals(tag.getKey()))
+                .map(Tag::getValue)
+                .findFirst()
+                .orElse(null);
+            boolean beanInstantiation = BEAN_INSTANTIATE_STEP.equals(name) && beanName != null;
+            spanConsumer.accept(new StartupSpan(
+                beanInstantiation ? BEAN_CATEGORY : SPRING_CATEGORY,
+                beanInstantiation ? beanName : beanName != null ? name + " " + beanName : name,
+                Thread.currentThread().getName(),
+                start - startTime,
+                duration));
+        }
+    }
+
+    private record ProfilingTag(String key, String value) implements StartupStep.Tag {
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.boot.ApplicationFrame;
+import org.cosinus.swing.boot.SwingSpringApplicationStartupListener;
+import org.cosinus.swing.boot.initialize.ApplicationInitializationReport;
+import org.springframework.boot.ConfigurableBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Implementation of {@link SwingSpringApplicationStartupListener}
+ * which records the application startup timeline.
+ * <p>
+ * The profiling is enabled by the "startup-profile" system property, set to the timeline output file.
+ * It records the startup phases, the wall time of each bean instantiation,
+ * the wall time of each application initializer, like the look-and-feel one,
+ * and the time they waited for the event dispatch thread.
+ * The work an initializer leaves to a background worker, like the icons loaded for the image initializer,
+ * is not part of its time.
+ * <p>
+ * If the "startup-profile-baseline" system property is set to a previously saved timeline,
+ * the steps slower than in baseline by more than "startup-profile-tolerance" percent are logged as regressions.
+ */
+@Slf4j
+public class ProfilingApplicationStartupListener implements SwingSpringApplicationStartupListener {
+
+    public static final String STARTUP_PROFILE = "startup-profile";
+    public static final String STARTUP_PROFILE_BASELINE = "startup-profile-baseline";
+    public static final String STARTUP_PROFILE_TOLERANCE = "startup-profile-tolerance";
+
+    public static final int DEFAULT_TOLERANCE_PERCENT = 20;
+
+    public static final long DEFAULT_MIN_DELTA_NANOS = MILLISECONDS.toNanos(10);
+
+    public static final String PHASE_CATEGORY = "phase";
+    public static final String INITIALIZER_CATEGORY = "initializer";
+    public static final String EDT_WAIT_CATEGORY = "edt-wait";
+
+    private final boolean enabled;
+
+    private final Path outputFile;
+
+    private final Path baselineFile;
+
+    private final int tolerancePercent;
+
+    private final long startTime;
+
+    private final Queue<StartupSpan> spans = new ConcurrentLinkedQueue<>();
+
+    private final CompletableFuture<StartupTimeline> timeline = new CompletableFuture<>();
+
+    private long phaseStartTime;
+
+    private long frameStartTime;
+
+    public ProfilingApplicationStartupListener(SpringApplication application, String[] arguments) {
+        this(application,
+            getProperty(STARTUP_PROFILE) != null,
+            ofNullable(getProperty(STARTUP_PROFILE)).map(Path::of).orElse(null),
+            ofNullable(getProperty(STARTUP_PROFILE_BASELINE)).map(Path::of).orElse(null),
+            Integer.getInteger(STARTUP_PROFILE_TOLERANCE, DEFAULT_TOLERANCE_PERCENT));
+    }
+
+    /**
+     * Create a startup profiler.
+     *
+     * @param application      the application to profile
+     * @param outputFile       the file to save the timeline in, or null to profile without saving
+     * @param baselineFile     the baseline timeline file, or null to skip the regressions check
+     * @param tolerancePercent the accepted slowdown percent against the baseline
+     */
+    public ProfilingApplicationStartupListener(SpringApplication application,
+                                               Path outputFile,
+                                               Path baselineFile,
+                                               int tolerancePercent) {
+        this(application, true, outputFile, baselineFile, tolerancePercent);
+    }
+
+    private ProfilingApplicationStartupListener(SpringApplication application,
+                                                boolean enabled,
+                                                Path outputFile,
+                                                Path baselineFile,
+                                                int tolerancePercent) {
+        this.enabled = enabled;
+        this.outputFile = outputFile;
+        this.baselineFile = baselineFile;
+        this.tolerancePercent = tolerancePercent;
+        this.startTime = nanoTime();
+        this.phaseStartTime = startTime;
+        if (enabled) {
+            application.setApplicationStartup(new ProfilingApplicationStartup(startTime, spans::add));
+        }
+    }
+
+    /**
+     * Get the startup timeline, completed when all the application initializers are finished.
+     *
+     * @return the future startup timeline
+     */
+    public CompletableFuture<StartupTimeline> getTimeline() {
+        return timeline;
+    }
+
+    @Override
+    public void starting(ConfigurableBootstrapContext bootstrapContext) {
+        phase("starting");
+    }
+
+    @Override
+    public void environmentPrepared(ConfigurableBootstrapContext bootstrapContext,
+                                    ConfigurableEnvironment environment) {
+        phase("environment-prepare");
+    }
+
+    @Override
+    public void contextPrepared(ConfigurableApplicationContext context) {
+        phase("context-prepare");
+    }
+
+    @Override
+    public void contextLoaded(ConfigurableApplicationContext context) {
+        phase("context-load");
+    }
+
+    @Override
+    public void contextBeforeInitializeBeans(ApplicationContext context) {
+        phase("bean-factory-post-process");
+    }
+
+    @Override
+    public boolean requiresBeanEvents() {
+        return false;
+    }
+
+    @Override
+    public void contextBeforeInitializeBean(ApplicationContext context, Object bean, String beanName) {
+    }
+
+    @Override
+    public void contextAfterInitializeBean(ApplicationContext context, Object bean, String beanName) {
+    }
+
+    @Override
+    public void started(ConfigurableApplicationContext context, Duration timeTaken) {
+        phase("context-refresh");
+    }
+
+    @Override
+    public void ready(ConfigurableApplicationContext context, Duration timeTaken) {
+        phase("application-runners");
+    }
+
+    @Override
+    public void applicationFrameInitializing(ApplicationFrame applicationFrame) {
+        frameStartTime = nanoTime();
+    }
+
+    @Override
+    public void applicationFrameInitialized(ApplicationFrame applicationFrame) {
+        if (enabled && frameStartTime > 0) {
+            addSpan(PHASE_CATEGORY, "application-frame", frameStartTime, nanoTime());
+        }
+    }
+
+    @Override
+    public void applicationInitialized(ApplicationInitializationReport report) {
+        if (!enabled || timeline.isDone()) {
+            return;
+        }
+        long reportStart = report.startNanoTime() - startTime;
+        report.timings().forEach(timing -> {
+            long start = reportStart + timing.startNanos();
+            spans.add(new StartupSpan(INITIALIZER_CATEGORY,
+                timing.name(),
+                timing.threadName(),
+                start,
+                timing.durationNanos()));
+            if (timing.eventDispatchThread()) {
+                spans.add(new StartupSpan(EDT_WAIT_CATEGORY,
+                    timing.name(),
+                    timing.threadName(),
+                    start - timing.waitNanos(),
+                    timing.waitNanos()));
+            }
+        });
+        finish();
+    }
+
+    @Override
+    public void failed(ConfigurableApplicationContext context, Throwable exception) {
+        if (enabled && !timeline.isDone()) {
+            finish();
+        }
+    }
+
+    private void phase(String name) {
+        if (enabled) {
+            long now = nanoTime();
+            addSpan(PHASE_CATEGORY, name, phaseStartTime, now);
+            phaseStartTime = now;
+        }
+    }
+
+    private void addSpan(String category, String name, long from, long to) {
+        spans.add(new StartupSpan(category,
+            name,
+            Thread.currentThread().getName(),
+            from - startTime,
+            to - from));
+    }
+
+    private void finish() {
+        StartupTimeline startupTimeline = new StartupTimeline(nanoTime() - startTime,
+            spans.stream()
+                .sorted(comparingLong(StartupSpan::startNanos))
+                .toList());
+        if (outputFile != null) {
+            try {
+                startupTimeline.write(outputFile);
+                log.info("Startup timeline saved in {}", outputFile);
+            } catch (IOException ex) {
+                log.warn("Failed to save the startup timeline in {}", outputFile, ex);
+            }
+        }
+        if (baselineFile != null) {
+            checkRegressions(startupTimeline);
+        }
+        timeline.complete(startupTimeline);
+    }
+
+    private void checkRegressions(final StartupTimeline startupTimeline) {
+        if (!Files.exists(baselineFile)) {
+            log.warn("Startup baseline not found: {}", baselineFile);
+            return;
+        }
+        try {
+            List<StartupRegression> regressions = startupTimeline.findRegressions(
+                StartupTimeline.read(baselineFile), tolerancePercent, DEFAULT_MIN_DELTA_NANOS);
+            if (regressions.isEmpty()) {
+                log.info("No startup regression against baseline {}", baselineFile);
+            } else {
+                regressions.forEach(regression -> log.warn("Startup regression {}", regression));
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to read the startup baseline {}", baselineFile, ex);
+        }
+    }
+}
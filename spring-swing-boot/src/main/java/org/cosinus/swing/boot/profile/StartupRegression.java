@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Startup step which takes longer than in the baseline.
+ *
+ * @param key           the step key, as category and name
+ * @param baselineNanos the step duration in baseline
+ * @param durationNanos the current step duration
+ */
+public record StartupRegression(String key,
+                                long baselineNanos,
+                                long durationNanos) {
+
+    public long deltaNanos() {
+        return durationNanos - baselineNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d ms -> %d ms (+%d%%)",
+            key,
+            NANOSECONDS.toMillis(baselineNanos),
+            NANOSECONDS.toMillis(durationNanos),
+            baselineNanos > 0 ? deltaNanos() * 100 / baselineNanos : 100);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+/**
+ * Timed step of the application startup.
+ *
+ * @param category      the step category, like bean or initializer
+ * @param name          the step name
+ * @param threadName    the name of the thread running the step
+ * @param startNanos    the start time, relative to the application start
+ * @param durationNanos the step duration
+ */
+public record StartupSpan(String category,
+                          String name,
+                          String threadName,
+                          long startNanos,
+                          long durationNanos) {
+
+    public String key() {
+        return category + ":" + name;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.boot.profile;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static java.lang.Math.round;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summingLong;
+
+/**
+ * Timeline of the application startup.
+ * <p>
+ * The timeline is saved as JSON in the trace event format,
+ * so it can be opened as a flame chart in any trace viewer (like Perfetto or chrome://tracing).
+ * A saved timeline can be used as baseline to find the startup regressions.
+ *
+ * @param durationNanos the duration of the whole startup
+ * @param spans         the startup steps, in start order
+ */
+public record StartupTimeline(long durationNanos, List<StartupSpan> spans) {
+
+    public static final String STARTUP_KEY = "startup";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String TRACE_EVENTS = "traceEvents";
+    private static final String DURATION_NANOS = "durationNanos";
+    private static final String PHASE_COMPLETE = "X";
+    private static final String PHASE_METADATA = "M";
+    private static final String THREAD_NAME = "thread_name";
+    private static final int PROCESS_ID = 1;
+
+    /**
+     * Get the total duration of the steps by key,
+     * including the whole startup duration as {@link #STARTUP_KEY}.
+     *
+     * @return the durations by step key
+     */
+    public Map<String, Long> getDurations() {
+        Map<String, Long> durations = new HashMap<>(spans.stream()
+            .collect(groupingBy(StartupSpan::key, summingLong(StartupSpan::durationNanos))));
+        durations.put(STARTUP_KEY, durationNanos);
+        return durations;
+    }
+
+    /**
+     * Find the steps which take longer than in a baseline.
+     * <p>
+     * A step is a regression if it is slower than the baseline by more than the tolerance percent
+     * and by more than a minimum duration, so the short steps do not fail on noise.
+     * The steps missing from the baseline are ignored.
+     *
+     * @param baseline         the baseline timeline
+     * @param tolerancePercent the accepted slowdown percent
+     * @param minDeltaNanos    the minimum slowdown to report
+     * @return the regressions, the largest first
+     */
+    public List<StartupRegression> findRegressions(final StartupTimeline baseline,
+                                                   int tolerancePercent,
+                                                   long minDeltaNanos) {
+        Map<String, Long> baselineDurations = baseline.getDurations();
+        return getDurations().entrySet()
+            .stream()
+            .filter(duration -> baselineDurations.containsKey(duration.getKey()))
+            .map(duration -> new StartupRegression(duration.getKey(),
+                baselineDurations.get(duration.getKey()),
+                duration.getValue()))
+            .filter(regression -> regression.deltaNanos() >= minDeltaNanos)
+            .filter(regression -> regression.durationNanos() * 100 >
+                regression.baselineNanos() * (100 + tolerancePercent))
+            .sorted(comparingLong(StartupRegression::deltaNanos).reversed())
+            .toList();
+    }
+
+    public void write(final Path file) throws IOException {
+        ObjectNode trace = OBJECT_MAPPER.createObjectNode()
+            .put("displayTimeUnit", "ms")
+            .put(DURATION_NANOS, durationNanos);
+        ArrayNode events = trace.putArray(TRACE_EVENTS);
+        Map<String, Integer> threadIds = new LinkedHashMap<>();
+        spans.forEach(span -> events.addObject()
+            .put("name", span.name())
+            .put("cat", span.category())
+            .put("ph", PHASE_COMPLETE)
+            .put("ts", span.startNanos() / 1000.0)
+            .put("dur", span.durationNanos() / 1000.0)
+            .put("pid", PROCESS_ID)
+            .put("tid", threadIds.computeIfAbsent(span.threadName(), name -> threadIds.size() + 1)));
+        threadIds.forEach((threadName, threadId) -> events.addObject()
+            .put("name", THREAD_NAME)
+            .put("ph", PHASE_METADATA)
+            .put("pid", PROCESS_ID)
+            .put("tid", threadId)
+            .putObject("args")
+            .put("name", threadName));
+
+        Path folder = file.toAbsolutePath().getParent();
+        if (folder != null) {
+            Files.createDirectories(folder);
+        }
+        OBJECT_MAPPER.writeValue(file.toFile(), trace);
+    }
+
+    public static StartupTimeline read(final Path file) throws IOException {
+        JsonNode trace = OBJECT_MAPPER.readTree(file.toFile());
+        Map<Integer, String> threadNames = new HashMap<>();
+        List<JsonNode> completeEvents = new ArrayList<>();
+        trace.path(TRACE_EVENTS).forEach(event -> {
+            String phase = event.path("ph").asText();
+            if (PHASE_METADATA.equals(phase) && THREAD_NAME.equals(event.path("name").asText())) {
+                threadNames.put(event.path("tid").asInt(), event.path("args").path("name").asText());
+            } else if (PHASE_COMPLETE.equals(phase)) {
+                completeEvents.add(event);
+            }
+        });
+
+        List<StartupSpan> spans = completeEvents.stream()
+            .map(event -> new StartupSpan(event.path("cat").asText(),
+                event.path("name").asText(),
+                threadNames.getOrDefault(event.path("tid").asInt(), ""),
+                round(event.path("ts").asDouble() * 1000),
+                round(event.path("dur").asDouble() * 1000)))
+            .sorted(comparingLong(StartupSpan::startNanos))
+            .toList();
+        long durationNanos = trace.has(DURATION_NANOS) ?
+            trace.get(DURATION_NANOS).asLong() :
+            spans.stream().mapToLong(span -> span.startNanos() + span.durationNanos()).max().orElse(0);
+        return new StartupTimeline(durationNanos, spans);
+    }
+}
@@ -78,7 +78,7 @@ public class ApplicationSplash implements AutoCloseable {
                              String splashProgressY,
                              String splashProgressWidth,
                              String splashProgressHeight) {
-        this.splash = SplashScreen.getSplashScreen();
+        this.splash = GraphicsEnvironment.isHeadless() ? null : SplashScreen.getSplashScreen();
         this.progress = progress;
 
         if (this.splash != null) {
@@ -20,6 +20,7 @@ package org.cosinus.swing.boot.splash;
 import org.cosinus.swing.boot.ApplicationFrame;
 import org.cosinus.swing.boot.SpringSwingApplication;
 import org.cosinus.swing.boot.SwingSpringApplicationStartupListener;
+import org.cosinus.swing.boot.event.StartupProgress;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.ConfigurableBootstrapContext;
@@ -28,16 +29,22 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
+import static java.lang.Math.min;
 import static java.lang.System.getProperty;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toMap;
+import static org.cosinus.swing.boot.event.StartupProgress.STARTUP_PROGRESS_BEAN_NAME;
 
 /**
  * Implementation of {@link SwingSpringApplicationStartupListener}
@@ -46,6 +53,9 @@ import static java.util.stream.Collectors.toMap;
  * The splash progress bar is controlled by dedicated application arguments.
  * The bean context initialization is covered between the bounds established by
  * CONTEXT_INITIALIZATION_MIN_PERCENT and CONTEXT_INITIALIZATION_MAX_PERCENT constants;
+ * <p>
+ * The bean initialization progress is sampled from the context {@link StartupProgress}
+ * at a fixed frame rate, instead of listening an event for each bean.
  */
 public class SplashApplicationStartupListener implements SwingSpringApplicationStartupListener {
 
@@ -67,6 +77,8 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
     private static final int CONTEXT_INITIALIZATION_MIN_PERCENT = 5;
     private static final int CONTEXT_INITIALIZATION_MAX_PERCENT = 99;
 
+    private static final int PROGRESS_FRAME_RATE = 30;
+
     private final ApplicationSplash splash;
 
     private final SpringSwingApplication application;
@@ -75,6 +87,12 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
 
     private Set<String> beanNames = new HashSet<>();
 
+    private ScheduledExecutorService progressSampler;
+
+    private StartupProgress startupProgress;
+
+    private int sampledBeanCount;
+
     public SplashApplicationStartupListener(SpringApplication application, String[] arguments) {
 
         Map<String, String> argumentsMap = ofNullable(getProperty(SPLASH_PROGRESS))
@@ -141,6 +159,20 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
             .forEach(beanNames::remove);
 
         totalBeansCount = beanNames.size();
+
+        if (context.containsBean(STARTUP_PROGRESS_BEAN_NAME)) {
+            startupProgress = context.getBean(STARTUP_PROGRESS_BEAN_NAME, StartupProgress.class);
+            progressSampler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("splash-progress")
+                .factory());
+            progressSampler.scheduleAtFixedRate(this::sampleProgress,
+                0, 1000 / PROGRESS_FRAME_RATE, MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean requiresBeanEvents() {
+        return false;
     }
 
     @Override
@@ -151,6 +183,9 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
     @Override
     public void contextAfterInitializeBean(ApplicationContext context,
                                            Object bean, String beanName) {
+        if (startupProgress != null) {
+            return;
+        }
         beanNames.remove(beanName);
         int percent = (int) ((CONTEXT_INITIALIZATION_MAX_PERCENT - CONTEXT_INITIALIZATION_MIN_PERCENT) *
             (1 - (double) beanNames.size() / totalBeansCount));
@@ -158,7 +193,14 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
             CONTEXT_INITIALIZATION_MIN_PERCENT + percent);
     }
 
+    @Override
+    public void started(ConfigurableApplicationContext context, Duration timeTaken) {
+        stopProgressSampler();
+    }
+
+    @Override
     public void applicationFrameInitializing(ApplicationFrame applicationFrame) {
+        stopProgressSampler();
         updateSplash(APPLICATION_STATUS_INITIALIZING_FRAME, CONTEXT_INITIALIZATION_MAX_PERCENT);
     }
 
@@ -169,16 +211,39 @@ public class SplashApplicationStartupListener implements SwingSpringApplicationS
 
     @Override
     public void failed(ConfigurableApplicationContext context, Throwable exception) {
+        stopProgressSampler();
         splash.close();
     }
 
+    /**
+     * Update the splash with the number of beans initialized since the last sample.
+     */
+    private synchronized void sampleProgress() {
+        int initializedBeanCount = startupProgress.getInitializedBeanCount();
+        if (initializedBeanCount != sampledBeanCount && totalBeansCount > 0) {
+            sampledBeanCount = initializedBeanCount;
+            int percent = (int) ((CONTEXT_INITIALIZATION_MAX_PERCENT - CONTEXT_INITIALIZATION_MIN_PERCENT) *
+                min(1, (double) initializedBeanCount / totalBeansCount));
+            updateSplash(APPLICATION_STATUS_BEAN_INITIALIZED + startupProgress.getLastInitializedBeanName(),
+                CONTEXT_INITIALIZATION_MIN_PERCENT + percent);
+        }
+    }
+
+    private void stopProgressSampler() {
+        if (progressSampler != null) {
+            progressSampler.shutdownNow();
+            progressSampler = null;
+            sampleProgress();
+        }
+    }
+
     /**
      * Log the startup Progress and update the splash.
      *
      * @param status  the new status
      * @param percent the new progress percent
      */
-    protected void updateSplash(String status, int percent) {
+    protected synchronized void updateSplash(String status, int percent) {
         application.logStartupProgress(percent, status);
         splash.update(status, percent);
     }
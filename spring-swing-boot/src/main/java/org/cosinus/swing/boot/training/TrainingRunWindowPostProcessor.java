@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.boot.training;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.awt.*;
+
+import static java.util.Arrays.stream;
+
+/**
+ * {@link BeanFactoryPostProcessor} which stubs the window beans during a training run.
+ * <p>
+ * A training run refreshes the application context headless, to record the loaded classes
+ * in a class data sharing archive, and exits.
+ * Since windows cannot be created headless, each window bean (like the application frame)
+ * is replaced by a {@link StubWindowFactoryBean}, which creates the window without calling its constructor.
+ * A window created this way is not injected nor initialized,
+ * since none of its fields, including the Swing ones, are set.
+ * It can only be injected in the other beans, and is never shown.
+ */
+@Slf4j
+public class TrainingRunWindowPostProcessor implements BeanFactoryPostProcessor {
+
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        if (!(beanFactory instanceof BeanDefinitionRegistry registry)) {
+            log.warn("Cannot stub the window beans for training run in bean factory: {}", beanFactory);
+            return;
+        }
+        stream(beanFactory.getBeanDefinitionNames())
+            .forEach(beanName -> {
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null && Window.class.isAssignableFrom(beanType)) {
+                    log.info("Stub window bean for training run: {}", beanName);
+                    BeanDefinition windowBeanDefinition = registry.getBeanDefinition(beanName);
+                    RootBeanDefinition stubBeanDefinition = new RootBeanDefinition(StubWindowFactoryBean.class);
+                    stubBeanDefinition.getConstructorArgumentValues().addGenericArgumentValue(beanType);
+                    stubBeanDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, beanType);
+                    stubBeanDefinition.setPrimary(windowBeanDefinition.isPrimary());
+                    stubBeanDefinition.setScope(windowBeanDefinition.getScope());
+                    registry.removeBeanDefinition(beanName);
+                    registry.registerBeanDefinition(beanName, stubBeanDefinition);
+                }
+            });
+        beanFactory.clearMetadataCache();
+    }
+
+    /**
+     * Factory of a window created without calling its constructor.
+     * <p>
+     * The objects created by a factory bean skip the bean injection and initialization.
+     *
+     * @param <T> the window type
+     */
+    public static class StubWindowFactoryBean<T extends Window> implements FactoryBean<T> {
+
+        private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+        private final Class<T> windowType;
+
+        public StubWindowFactoryBean(final Class<T> windowType) {
+            this.windowType = windowType;
+        }
+
+        @Override
+        public T getObject() {
+            return OBJENESIS.newInstance(windowType);
+        }
+
+        @Override
+        public Class<T> getObjectType() {
+            return windowType;
+        }
+    }
+}
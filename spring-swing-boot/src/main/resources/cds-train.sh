@@ -0,0 +1,29 @@
+#! /bin/bash
+# Prepare the application launch folder:
+# extract the application jar, copy the launcher and dump the class data sharing archive with a training run.
+#
+# Usage: cds-train.sh <application jar> <launch folder>
+basedir=$(cd "$(dirname "$0")" && pwd)
+source "$basedir/echo-it.sh"
+
+application_jar=$1
+launch_dir=$2
+java_command="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+start-time-watcher
+
+show-info "Extracting ${application_jar} into ${launch_dir}..."
+if ! "$java_command" -Djarmode=tools -jar "$application_jar" extract --destination "$launch_dir" --force; then
+  show-error "Failed to extract ${application_jar}"
+  exit 1
+fi
+cp "$basedir/launch.sh" "$basedir/startup-benchmark.sh" "$basedir/echo-it.sh" "$launch_dir/"
+
+show-info "Running the training run..."
+if ! bash "$launch_dir/launch.sh" --train; then
+  show-error "The training run failed"
+  exit 1
+fi
+
+show-info "Class data sharing archive created in ${launch_dir}"
+show-elapsed-time
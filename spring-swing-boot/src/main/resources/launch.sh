@@ -0,0 +1,41 @@
+#! /bin/bash
+# Launch the application extracted by the cds profile,
+# using the AOT processed application context and the class data sharing archive.
+#
+# Usage: launch.sh [--train] [--no-aot] [--no-cds] [application arguments]
+#   --train   refresh the application context headless, dump the class data sharing archive and exit
+#   --no-aot  do not use the AOT processed application context
+#   --no-cds  do not use the class data sharing archive
+basedir=$(cd "$(dirname "$0")" && pwd)
+
+application_jar=$(find "$basedir" -maxdepth 1 -name "*.jar" | head -n 1)
+application_archive="${application_jar%.jar}.jsa"
+java_command="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+train=false
+aot=true
+cds=true
+while [ $# -gt 0 ]; do
+  case "$1" in
+    --train) train=true ;;
+    --no-aot) aot=false ;;
+    --no-cds) cds=false ;;
+    *) break ;;
+  esac
+  shift
+done
+
+java_options=()
+if [ "$aot" = true ]; then
+  java_options+=("-Dspring.aot.enabled=true")
+fi
+if [ "$train" = true ]; then
+  java_options+=("-XX:ArchiveClassesAtExit=${application_archive}" \
+                 "-Dspring.context.exit=onRefresh" \
+                 "-Djava.awt.headless=true")
+elif [ "$cds" = true ] && [ -f "$application_archive" ]; then
+  java_options+=("-XX:SharedArchiveFile=${application_archive}" "-Xshare:auto")
+fi
+
+# shellcheck disable=SC2086
+exec "$java_command" "${java_options[@]}" $JAVA_OPTS -jar "$application_jar" "$@"
@@ -0,0 +1,44 @@
+#! /bin/bash
+# Compare the application startup time in plain, AOT and AOT+CDS modes.
+# Each run refreshes the application context headless and exits,
+# so the measured time covers the JVM startup and the context refresh, without showing the application frame.
+#
+# Usage: startup-benchmark.sh [runs]
+basedir=$(cd "$(dirname "$0")" && pwd)
+source "$basedir/echo-it.sh"
+
+runs=${1:-5}
+
+now_millis() {
+  if [ -n "$EPOCHREALTIME" ]; then
+    echo $(( ${EPOCHREALTIME/[.,]/} / 1000 ))
+  else
+    echo $(( $(date +%s) * 1000 ))
+  fi
+}
+
+benchmark() {
+  mode=$1
+  shift
+  total=0
+  best=0
+  for ((run = 0; run < runs; run++)); do
+    start=$(now_millis)
+    if ! JAVA_OPTS="-Dspring.context.exit=onRefresh -Djava.awt.headless=true $JAVA_OPTS" \
+      bash "$basedir/launch.sh" "$@" > /dev/null 2>&1; then
+      show-error "The ${mode} startup failed"
+      return 1
+    fi
+    elapsed=$(( $(now_millis) - start ))
+    total=$(( total + elapsed ))
+    if [ "$best" -eq 0 ] || [ "$elapsed" -lt "$best" ]; then
+      best=$elapsed
+    fi
+  done
+  show-info "$(printf "%-8s average %6d ms, best %6d ms" "$mode" $(( total / runs )) "$best")"
+}
+
+show-info "Measuring the startup time over ${runs} runs..."
+benchmark "plain" --no-aot --no-cds
+benchmark "AOT" --no-cds
+benchmark "AOT+CDS"
@@ -17,17 +17,44 @@
 
 package org.cosinus.swing.context;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.MergedAnnotations;
 
+import javax.swing.*;
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
-import static org.cosinus.swing.util.ReflectionUtils.setFieldsSafe;
+import static org.cosinus.swing.context.ContextInjector.CONTEXT_INJECTOR_SUFFIX;
+import static org.cosinus.swing.util.ReflectionUtils.findBean;
+import static org.cosinus.swing.util.ReflectionUtils.findBeanForField;
+import static org.cosinus.swing.util.ReflectionUtils.getAnnotatedFields;
 import static org.springframework.beans.BeanUtils.instantiateClass;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
+import static org.springframework.util.ReflectionUtils.setField;
 
 /**
  * Application context injector.
@@ -35,32 +62,103 @@ import static org.springframework.beans.BeanUtils.instantiateClass;
  * A static instance of {@link ApplicationContext} is used
  * to explicitly inject the context in objects after they are instantiated.
  * <p>
- * This is a helper class and cannot be instantiated.
+ * The injection plan of each class is resolved once and cached.
+ * It is the {@link ContextInjector} generated at compile time for the class, if any.
+ * Otherwise, it is resolved by reflection: the {@link SwingAutowired} fields, the bean for each of them
+ * and whether the class needs to be autowired by the context at all.
+ * The cache is dropped when the context is refreshed or the look-and-feel is changed,
+ * since the {@link SwingCondition}s may depend on it.
  */
-public class ApplicationContextInjector {
+@Slf4j
+public class ApplicationContextInjector implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String LOOK_AND_FEEL_PROPERTY = "lookAndFeel";
+
+    private static final List<String> AUTOWIRED_ANNOTATION_NAMES = List.of(
+        Autowired.class.getName(),
+        Value.class.getName(),
+        "jakarta.inject.Inject",
+        "jakarta.annotation.Resource",
+        "javax.annotation.Resource");
 
     public static ApplicationContext applicationContext;
 
+    private static final PropertyChangeListener LOOK_AND_FEEL_LISTENER = event -> {
+        if (LOOK_AND_FEEL_PROPERTY.equals(event.getPropertyName())) {
+            clearInjectionCache();
+        }
+    };
+
+    private static volatile InjectionCache injectionCache = new InjectionCache();
+
     public ApplicationContextInjector(ApplicationContext applicationContext) {
         ApplicationContextInjector.applicationContext = applicationContext;
+        clearInjectionCache();
+        // the listener is static, so it is registered only once for all the contexts
+        UIManager.removePropertyChangeListener(LOOK_AND_FEEL_LISTENER);
+        UIManager.addPropertyChangeListener(LOOK_AND_FEEL_LISTENER);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        clearInjectionCache();
     }
 
     /**
-     * Inject the application into an object.La
+     * Inject the application into an object.
      *
      * @param object the object to inject the context into
      */
     public static void injectContext(Object object) {
         if (applicationContext != null) {
-            applicationContext.getAutowireCapableBeanFactory().autowireBean(object);
-
-            setFieldsSafe(object,
-                Object.class,
-                SwingAutowired.class,
-                ApplicationContextInjector::getAvailableSwingComponents);
+            InjectionCache cache = injectionCache;
+            Consumer<Object> injectionPlan = cache.injectionPlans.get(object.getClass());
+            if (injectionPlan == null) {
+                injectionPlan = createInjectionPlan(object.getClass(), cache);
+                cache.injectionPlans.putIfAbsent(object.getClass(), injectionPlan);
+            }
+            injectionPlan.accept(object);
         }
     }
 
+    /**
+     * Drop the cached injection plans.
+     */
+    public static void clearInjectionCache() {
+        injectionCache = new InjectionCache();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> createInjectionPlan(final Class<?> objectClass, final InjectionCache cache) {
+        return cache.getContextInjector(objectClass)
+            .map(contextInjector -> (Consumer<Object>) contextInjector.resolve(cache))
+            .orElseGet(() -> createReflectionInjectionPlan(objectClass, cache));
+    }
+
+    private static Consumer<Object> createReflectionInjectionPlan(final Class<?> objectClass,
+                                                                  final InjectionCache cache) {
+        List<FieldInjection> fieldInjections = getAnnotatedFields(objectClass, Object.class, SwingAutowired.class)
+            .stream()
+            .map(field -> {
+                makeAccessible(field);
+                return new FieldInjection(field, findBeanForField(field, cache.getAvailableSwingComponents())
+                    .orElseThrow());
+            })
+            .toList();
+        return new ReflectionInjectionPlan(hasAutowiredMembers(objectClass), fieldInjections);
+    }
+
+    private static boolean hasAutowiredMembers(final Class<?> objectClass) {
+        return Stream.<Class<?>>iterate(objectClass, type -> type != null && type != Object.class, Class::getSuperclass)
+            .filter(type -> AUTOWIRED_ANNOTATION_NAMES.stream()
+                .anyMatch(annotationName -> AnnotationUtils.isCandidateClass(type, annotationName)))
+            .flatMap(type -> Stream.<AnnotatedElement>concat(
+                Arrays.stream(type.getDeclaredFields()),
+                Arrays.stream(type.getDeclaredMethods())))
+            .map(MergedAnnotations::from)
+            .anyMatch(annotations -> AUTOWIRED_ANNOTATION_NAMES.stream().anyMatch(annotations::isPresent));
+    }
+
     private static Map<String, Object> getAvailableSwingComponents() {
         return applicationContext.getBeansWithAnnotation(SwingComponent.class)
             .entrySet()
@@ -83,4 +181,119 @@ public class ApplicationContextInjector {
     public static SwingCondition instantiateCondition(Class<? extends SwingCondition> conditionClass) {
         return instantiateClass(conditionClass);
     }
+
+    /**
+     * Injection plans resolved against the current application context.
+     */
+    private static class InjectionCache implements InjectionResolver {
+
+        private final Map<Class<?>, Consumer<Object>> injectionPlans = new ConcurrentHashMap<>();
+
+        private volatile Map<String, Object> availableSwingComponents;
+
+        private volatile Map<String, ServiceLoader.Provider<ContextInjector<?>>> contextInjectors;
+
+        @Override
+        public <T> Supplier<T> getBean(final String name, final Class<T> type, final boolean required) {
+            String beanName;
+            try {
+                NamedBeanHolder<T> namedBean = applicationContext.getAutowireCapableBeanFactory()
+                    .resolveNamedBean(type);
+                beanName = namedBean.getBeanName();
+            } catch (NoUniqueBeanDefinitionException ex) {
+                if (!applicationContext.containsBean(name) || !applicationContext.isTypeMatch(name, type)) {
+                    throw ex;
+                }
+                beanName = name;
+            } catch (NoSuchBeanDefinitionException ex) {
+                if (required) {
+                    throw ex;
+                }
+                return () -> null;
+            }
+
+            if (applicationContext.isSingleton(beanName)) {
+                T bean = applicationContext.getBean(beanName, type);
+                return () -> bean;
+            }
+            String prototypeName = beanName;
+            return () -> applicationContext.getBean(prototypeName, type);
+        }
+
+        @Override
+        public <T> T getSwingComponent(final String name, final Class<T> type) {
+            return type.cast(findBean(name, type, getAvailableSwingComponents()));
+        }
+
+        private Optional<ContextInjector<?>> getContextInjector(final Class<?> objectClass) {
+            return ofNullable(getContextInjectors().get(objectClass.getName() + CONTEXT_INJECTOR_SUFFIX))
+                .flatMap(this::createContextInjector)
+                .filter(contextInjector -> contextInjector.getTargetClass() == objectClass);
+        }
+
+        private Optional<ContextInjector<?>> createContextInjector(
+            final ServiceLoader.Provider<ContextInjector<?>> provider) {
+            try {
+                return Optional.of(provider.get());
+            } catch (ServiceConfigurationError | LinkageError error) {
+                log.warn("Failed to create the context injector {}, falling back to reflection",
+                    provider.type().getName(), error);
+                return Optional.empty();
+            }
+        }
+
+        private Map<String, ServiceLoader.Provider<ContextInjector<?>>> getContextInjectors() {
+            Map<String, ServiceLoader.Provider<ContextInjector<?>>> injectors = contextInjectors;
+            if (injectors == null) {
+                injectors = new ConcurrentHashMap<>();
+                for (var providers = loadContextInjectors().stream().iterator(); providers.hasNext(); ) {
+                    try {
+                        ServiceLoader.Provider<ContextInjector<?>> provider = providers.next();
+                        injectors.put(provider.type().getName(), provider);
+                    } catch (ServiceConfigurationError error) {
+                        log.warn("Failed to load a context injector", error);
+                    }
+                }
+                contextInjectors = injectors;
+            }
+            return injectors;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private ServiceLoader<ContextInjector<?>> loadContextInjectors() {
+            return (ServiceLoader) ServiceLoader.load(ContextInjector.class, applicationContext.getClassLoader());
+        }
+
+        private Map<String, Object> getAvailableSwingComponents() {
+            Map<String, Object> swingComponents = availableSwingComponents;
+            if (swingComponents == null) {
+                swingComponents = ApplicationContextInjector.getAvailableSwingComponents();
+                availableSwingComponents = swingComponents;
+            }
+            return swingComponents;
+        }
+    }
+
+    /**
+     * Injection plan of a class, resolved by reflection.
+     *
+     * @param autowired       true if the class has members to be autowired by the context
+     * @param fieldInjections the {@link SwingAutowired} fields with their beans
+     */
+    private record ReflectionInjectionPlan(boolean autowired, List<FieldInjection> fieldInjections)
+        implements Consumer<Object> {
+
+        @Override
+        public void accept(final Object object) {
+            if (autowired) {
+                applicationContext.getAutowireCapableBeanFactory().autowireBean(object);
+            }
+            for (FieldInjection fieldInjection : fieldInjections) {
+                setField(fieldInjection.field(), object, fieldInjection.bean());
+            }
+        }
+    }
+
+    private record FieldInjection(Field field, Object bean) {
+    }
 }
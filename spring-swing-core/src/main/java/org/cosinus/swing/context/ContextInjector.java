@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.context;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+
+/**
+ * Injector of the application context into objects of a given class,
+ * used by {@link ApplicationContextInjector} instead of reflection.
+ * <p>
+ * The implementations are generated at compile time by the spring-swing-processor annotation processor,
+ * named after the target class with the "_ContextInjector" suffix
+ * and registered as services in META-INF/services.
+ *
+ * @param <T> the type of the objects to inject the context into
+ */
+public interface ContextInjector<T> {
+
+    String CONTEXT_INJECTOR_SUFFIX = "_ContextInjector";
+
+    /**
+     * Get the class of the objects to inject the context into.
+     *
+     * @return the target class
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Resolve the beans to inject.
+     *
+     * @param resolver the resolver of the beans
+     * @return the injection of the resolved beans into an object
+     */
+    Consumer<T> resolve(InjectionResolver resolver);
+
+    /**
+     * Get a handle for writing a field not accessible from the injector.
+     *
+     * @param lookup         the lookup of the injector
+     * @param declaringClass the class declaring the field
+     * @param name           the field name
+     * @param type           the field type
+     * @return the field handle
+     */
+    static VarHandle fieldHandle(final MethodHandles.Lookup lookup,
+                                 final Class<?> declaringClass,
+                                 final String name,
+                                 final Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, lookup)
+                .findVarHandle(declaringClass, name, type);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot access field " + declaringClass.getName() + "." + name, ex);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.context;
+
+import java.util.function.Supplier;
+
+/**
+ * Resolver of the beans injected by a {@link ContextInjector}.
+ */
+public interface InjectionResolver {
+
+    /**
+     * Resolve an autowired bean, by type, and by name if more beans match the type.
+     * <p>
+     * The supplier returns the same instance for singletons and a new instance for prototypes.
+     *
+     * @param name     the name of the injected field
+     * @param type     the type of the injected field
+     * @param required true if the bean is required
+     * @param <T>      the bean type
+     * @return the supplier of the bean, returning null if the bean is missing and not required
+     */
+    <T> Supplier<T> getBean(String name, Class<T> type, boolean required);
+
+    /**
+     * Resolve a {@link SwingComponent} injected into a {@link SwingAutowired} field.
+     *
+     * @param name the name of the injected field
+     * @param type the type of the injected field
+     * @param <T>  the component type
+     * @return the swing component
+     */
+    <T> T getSwingComponent(String name, Class<T> type);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.context;
+
+import org.springframework.context.annotation.Lazy;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a bean which is not needed to show the application frame.
+ * <p>
+ * The bean is created on first use: the beans depending on it get a lazy resolution proxy.
+ * If prefetch is enabled, the bean is created anyway when the event dispatch thread is idle,
+ * after the application frame is painted.
+ * <p>
+ * The lazy initialization can be disabled with the "swing.lazy-components=false" property.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Lazy
+public @interface LazySwingComponent {
+
+    /**
+     * Whether the bean should be created in background after the application frame is painted.
+     */
+    boolean prefetch() default true;
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.context;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.stream;
+import static java.util.Optional.ofNullable;
+
+/**
+ * {@link BeanFactoryPostProcessor} for the {@link LazySwingComponent} beans.
+ * <p>
+ * It marks the lazy swing component bean definitions
+ * and injects lazy resolution proxies instead of them,
+ * so they are not created before first use even if eager beans depend on them.
+ * If the lazy initialization is disabled by property, the beans are switched back to eager.
+ */
+@Slf4j
+public class LazySwingComponentPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    public static final String LAZY_SWING_COMPONENTS_PROPERTY = "swing.lazy-components";
+
+    public static final String LAZY_SWING_COMPONENT_ATTRIBUTE = LazySwingComponent.class.getName();
+
+    private static final String PREFETCH = "prefetch";
+
+    private boolean enabled = true;
+
+    @Override
+    public void setEnvironment(final Environment environment) {
+        enabled = environment.getProperty(LAZY_SWING_COMPONENTS_PROPERTY, Boolean.class, true);
+    }
+
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        long lazyBeanCount = stream(beanFactory.getBeanDefinitionNames())
+            .filter(beanName -> markLazySwingComponent(beanFactory.getBeanDefinition(beanName)))
+            .count();
+
+        if (enabled && beanFactory instanceof DefaultListableBeanFactory defaultBeanFactory) {
+            defaultBeanFactory.setAutowireCandidateResolver(new LazySwingComponentAutowireCandidateResolver());
+            log.debug("Lazy initialization of {} swing components", lazyBeanCount);
+        }
+        beanFactory.clearMetadataCache();
+    }
+
+    private boolean markLazySwingComponent(final BeanDefinition beanDefinition) {
+        return getLazySwingComponent(beanDefinition)
+            .map(lazySwingComponent -> {
+                beanDefinition.setLazyInit(enabled);
+                beanDefinition.setAttribute(LAZY_SWING_COMPONENT_ATTRIBUTE,
+                    lazySwingComponent.getOrDefault(PREFETCH, true));
+                return true;
+            })
+            .orElse(false);
+    }
+
+    private Optional<Map<String, Object>> getLazySwingComponent(final BeanDefinition beanDefinition) {
+        if (!(beanDefinition instanceof AnnotatedBeanDefinition annotatedBeanDefinition)) {
+            return Optional.empty();
+        }
+        AnnotatedTypeMetadata metadata = ofNullable((AnnotatedTypeMetadata) annotatedBeanDefinition.getFactoryMethodMetadata())
+            .orElseGet(annotatedBeanDefinition::getMetadata);
+        return ofNullable(metadata.getAnnotationAttributes(LazySwingComponent.class.getName()));
+    }
+
+    /**
+     * Check if a bean is a lazy swing component to prefetch.
+     *
+     * @param beanFactory the bean factory
+     * @param beanName    the bean name
+     * @return true if the bean should be prefetched
+     */
+    public static boolean isPrefetched(final ConfigurableListableBeanFactory beanFactory, final String beanName) {
+        return beanFactory.containsBeanDefinition(beanName) &&
+            Boolean.TRUE.equals(beanFactory.getBeanDefinition(beanName).getAttribute(LAZY_SWING_COMPONENT_ATTRIBUTE)) &&
+            beanFactory.getBeanDefinition(beanName).isLazyInit();
+    }
+
+    /**
+     * Autowire candidate resolver which considers lazy the dependencies
+     * resolved only to lazy swing components.
+     */
+    private static class LazySwingComponentAutowireCandidateResolver extends ContextAnnotationAutowireCandidateResolver {
+
+        private final Map<Class<?>, Boolean> lazyTypes = new ConcurrentHashMap<>();
+
+        @Override
+        protected boolean isLazy(final DependencyDescriptor descriptor) {
+            return super.isLazy(descriptor) || isLazySwingComponentType(descriptor.getDependencyType());
+        }
+
+        private boolean isLazySwingComponentType(final Class<?> dependencyType) {
+            return (dependencyType.isInterface() || !Modifier.isFinal(dependencyType.getModifiers())) &&
+                lazyTypes.computeIfAbsent(dependencyType, this::resolvesToLazySwingComponents);
+        }
+
+        private boolean resolvesToLazySwingComponents(final Class<?> dependencyType) {
+            if (!(getBeanFactory() instanceof ConfigurableListableBeanFactory beanFactory) ||
+                dependencyType == Object.class) {
+                return false;
+            }
+            List<String> candidates = List.of(beanFactory.getBeanNamesForType(dependencyType, true, false));
+            return !candidates.isEmpty() && candidates.stream()
+                .allMatch(beanName -> beanFactory.containsBeanDefinition(beanName) &&
+                    beanFactory.getBeanDefinition(beanName).hasAttribute(LAZY_SWING_COMPONENT_ATTRIBUTE));
+        }
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.cosinus.swing.convert;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.cosinus.swing.error.JsonConvertException;
 import org.cosinus.swing.resource.ResourceLocator;
 import org.cosinus.swing.resource.ResourceResolver;
@@ -27,13 +29,17 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static org.cosinus.swing.resource.ResourceSource.CLASSPATH;
 import static org.cosinus.swing.resource.ResourceSource.FILESYSTEM;
 import static org.cosinus.swing.resource.ResourceSource.FILESYSTEM_BEFORE_CLASSPATH;
 
@@ -49,26 +55,62 @@ import static org.cosinus.swing.resource.ResourceSource.FILESYSTEM_BEFORE_CLASSP
  * <li>CLASSPATH: search in the application classpath</li>
  * <li>FILESYSTEM_BEFORE_CLASSPATH: search first in filesystem and next, if not found, in the classpath</li>
  * </ul>
+ * <p>
+ * The converted models are cached by resource source and name.
+ * A model read from the filesystem is reused as long as the file modification time is unchanged,
+ * and it is dropped when the file is saved or deleted through this converter.
+ * A model read from the classpath is softly cached, or kept permanently if requested.
+ * The cached models are shared between callers, so they should be changed only to be saved.
  */
 public abstract class JsonFileConverter<T> {
 
     public static final String JSON_EXTENSION = ".json";
 
+    public static final String KEEP_CLASSPATH_MODELS_PROPERTY = "swing.json.keep-classpath-models";
+
+    private static final long NO_FILE = -1;
+
     private final ObjectMapper objectMapper;
 
     private final Class<T> modelClass;
 
     private final Map<ResourceSource, ResourceResolver> resourceResolversMap;
 
+    private final ObjectReader modelReader;
+
+    private final ObjectReader modelsListReader;
+
+    private final ObjectReader modelsMapReader;
+
+    private final boolean keepClasspathModels;
+
+    private final Map<ModelKey, CachedModel> modelCache;
+
     protected JsonFileConverter(ObjectMapper objectMapper,
                                 Class<T> modelClass,
                                 Set<ResourceResolver> resourceResolvers) {
+        this(objectMapper, modelClass, resourceResolvers, false);
+    }
+
+    protected JsonFileConverter(ObjectMapper objectMapper,
+                                Class<T> modelClass,
+                                Set<ResourceResolver> resourceResolvers,
+                                boolean keepClasspathModels) {
         this.objectMapper = objectMapper;
         this.modelClass = modelClass;
         this.resourceResolversMap = resourceResolvers
             .stream()
             .collect(Collectors.toMap(ResourceResolver::getResourceSource,
                 Function.identity()));
+        this.modelReader = objectMapper.readerFor(modelClass);
+        this.modelsListReader = objectMapper.readerFor(objectMapper
+            .getTypeFactory()
+            .constructParametricType(List.class, modelClass));
+        this.modelsMapReader = objectMapper.readerFor(objectMapper
+            .getTypeFactory()
+            .constructParametricType(LinkedHashMap.class, String.class, modelClass));
+        this.keepClasspathModels = keepClasspathModels;
+        this.modelCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -80,7 +122,7 @@ public abstract class JsonFileConverter<T> {
      * @return the converted model, or {@link Optional#empty()}
      */
     public Optional<T> convert(String name) {
-        return convert(FILESYSTEM_BEFORE_CLASSPATH, name, this::toModel);
+        return convert(FILESYSTEM_BEFORE_CLASSPATH, name);
     }
 
     /**
@@ -92,7 +134,7 @@ public abstract class JsonFileConverter<T> {
      * @return the list of models, or {@link Optional#empty()}
      */
     public Optional<List<T>> convertToListOfModels(String name) {
-        return convert(FILESYSTEM_BEFORE_CLASSPATH, name, this::toModelsList);
+        return convertToListOfModels(FILESYSTEM_BEFORE_CLASSPATH, name);
     }
 
     /**
@@ -104,7 +146,7 @@ public abstract class JsonFileConverter<T> {
      * @return the map of models, or {@link Optional#empty()}
      */
     public Optional<Map<String, T>> convertToMapOfModels(String name) {
-        return convert(FILESYSTEM_BEFORE_CLASSPATH, name, this::toModelsMap);
+        return convertToMapOfModels(FILESYSTEM_BEFORE_CLASSPATH, name);
     }
 
     /**
@@ -117,7 +159,7 @@ public abstract class JsonFileConverter<T> {
      * @return the converted model, or {@link Optional#empty()}
      */
     public Optional<T> convert(ResourceSource resourceSource, String name) {
-        return convert(resourceSource, name, this::toModel);
+        return convertCached(resourceSource, name, modelReader.getValueType(), this::toModel);
     }
 
     /**
@@ -130,7 +172,7 @@ public abstract class JsonFileConverter<T> {
      * @return the converted list of models, or {@link Optional#empty()}
      */
     public Optional<List<T>> convertToListOfModels(ResourceSource resourceSource, String name) {
-        return convert(resourceSource, name, this::toModelsList);
+        return convertCached(resourceSource, name, modelsListReader.getValueType(), this::toModelsList);
     }
 
     /**
@@ -143,13 +185,14 @@ public abstract class JsonFileConverter<T> {
      * @return the converted map of models, or {@link Optional#empty()}
      */
     public Optional<Map<String, T>> convertToMapOfModels(ResourceSource resourceSource, String name) {
-        return convert(resourceSource, name, this::toModelsMap);
+        return convertCached(resourceSource, name, modelsMapReader.getValueType(), this::toModelsMap);
     }
 
     /**
      * Convert a JSON file into a model.
      * <p>
      * It uses the given resource source to search for the file.
+     * The model converted by a custom mapper is not cached.
      *
      * @param resourceSource the resource source to search for the file
      * @param name           the name to identify the JSON file
@@ -158,10 +201,82 @@ public abstract class JsonFileConverter<T> {
      * @return the converted model, or {@link Optional#empty()}
      */
     public <P> Optional<P> convert(ResourceSource resourceSource, String name, Function<byte[], P> mapper) {
+        return resolveAsBytes(resourceSource, adjustName(name))
+            .map(mapper);
+    }
+
+    /**
+     * Convert a JSON file into a model, reusing the cached model if still valid.
+     *
+     * @param resourceSource the resource source to search for the file
+     * @param name           the name to identify the JSON file
+     * @param modelType      the type of the converted model
+     * @param mapper         the mapper used to convert the bytes array read from to file to the model
+     * @param <P>            the type of the model
+     * @return the converted model, or {@link Optional#empty()}
+     */
+    @SuppressWarnings("unchecked")
+    private <P> Optional<P> convertCached(ResourceSource resourceSource,
+                                          String name,
+                                          JavaType modelType,
+                                          Function<byte[], P> mapper) {
+        String fileName = adjustName(name);
+        if (resourceSource != CLASSPATH && !resourceResolversMap.containsKey(FILESYSTEM)) {
+            return resolveAsBytes(resourceSource, fileName).map(mapper);
+        }
+
+        ModelKey modelKey = new ModelKey(resourceSource, fileName, modelType);
+        long lastModified = resourceSource != CLASSPATH ? getLastModified(fileName) : NO_FILE;
+        CachedModel cachedModel = modelCache.get(modelKey);
+        Object model = cachedModel != null && cachedModel.lastModified() == lastModified ?
+            cachedModel.getModel() : null;
+        if (model != null) {
+            return Optional.of((P) model);
+        }
+
+        Optional<P> convertedModel = resolveAsBytes(resourceSource, fileName).map(mapper);
+        convertedModel.ifPresentOrElse(
+            converted -> modelCache.put(modelKey, lastModified != NO_FILE || keepClasspathModels ?
+                new CachedModel(converted, null, lastModified) :
+                new CachedModel(null, new SoftReference<>(converted), lastModified)),
+            () -> modelCache.remove(modelKey));
+        return convertedModel;
+    }
+
+    private Optional<byte[]> resolveAsBytes(ResourceSource resourceSource, String fileName) {
         return ofNullable(resourceResolversMap.get(resourceSource))
             .flatMap(resourceResolver -> resourceResolver
-                .resolveAsBytes(resourceLocator(), adjustName(name)))
-            .map(mapper);
+                .resolveAsBytes(resourceLocator(), fileName));
+    }
+
+    private long getLastModified(String fileName) {
+        return resolveFilesystemPath(fileName)
+            .filter(Files::isRegularFile)
+            .map(path -> {
+                try {
+                    return Files.getLastModifiedTime(path).toMillis();
+                } catch (IOException ex) {
+                    return NO_FILE;
+                }
+            })
+            .orElse(NO_FILE);
+    }
+
+    /**
+     * Remove from cache the models converted from a JSON file.
+     *
+     * @param name the name to identify the JSON file
+     */
+    protected void evictModel(String name) {
+        String fileName = adjustName(name);
+        modelCache.keySet().removeIf(modelKey -> modelKey.fileName().equals(fileName));
+    }
+
+    /**
+     * Remove all the converted models from cache.
+     */
+    public void clearModelCache() {
+        modelCache.clear();
     }
 
     /**
@@ -182,7 +297,7 @@ public abstract class JsonFileConverter<T> {
      */
     protected T toModel(byte[] bytes) {
         try {
-            return objectMapper.readValue(bytes, modelClass);
+            return modelReader.readValue(bytes);
         } catch (IOException e) {
             throw new JsonConvertException(format("The json file doesn't contain the expected model of type %s: %s",
                 modelClass,
@@ -198,9 +313,7 @@ public abstract class JsonFileConverter<T> {
      */
     protected List<T> toModelsList(byte[] bytes) {
         try {
-            return objectMapper.readValue(bytes, objectMapper
-                .getTypeFactory()
-                .constructParametricType(List.class, modelClass));
+            return modelsListReader.readValue(bytes);
         } catch (IOException e) {
             throw new JsonConvertException(format("The json file doesn't contain the expected list of models of type %s: %s",
                 modelClass,
@@ -216,9 +329,7 @@ public abstract class JsonFileConverter<T> {
      */
     protected Map<String, T> toModelsMap(byte[] bytes) {
         try {
-            return objectMapper.readValue(bytes, objectMapper
-                .getTypeFactory()
-                .constructParametricType(LinkedHashMap.class, String.class, modelClass));
+            return modelsMapReader.readValue(bytes);
         } catch (IOException e) {
             throw new JsonConvertException(format("The json file doesn't contain the expected json map of models of type %s: %s",
                 modelClass,
@@ -236,6 +347,8 @@ public abstract class JsonFileConverter<T> {
     public void saveModel(String name, T model) throws IOException {
         try (OutputStream output = createOutputStream(name)) {
             writeValue(output, model);
+        } finally {
+            evictModel(name);
         }
     }
 
@@ -249,6 +362,8 @@ public abstract class JsonFileConverter<T> {
     public void saveModelsList(String name, List<T> models) throws IOException {
         try (OutputStream output = createOutputStream(name)) {
             writeValue(output, models);
+        } finally {
+            evictModel(name);
         }
     }
 
@@ -262,6 +377,8 @@ public abstract class JsonFileConverter<T> {
     public void saveModelsMap(String name, Map<String, T> modelsMap) throws IOException {
         try (OutputStream output = createOutputStream(name)) {
             writeValue(output, modelsMap);
+        } finally {
+            evictModel(name);
         }
     }
 
@@ -277,7 +394,11 @@ public abstract class JsonFileConverter<T> {
         File file = resolveFilesystemPath(fileName)
             .map(Path::toFile)
             .orElseThrow(() -> new IOException("Failed to identify file for deletion: " + fileName));
-        return file.exists() && file.delete();
+        try {
+            return file.exists() && file.delete();
+        } finally {
+            evictModel(name);
+        }
     }
 
     /**
@@ -325,4 +446,28 @@ public abstract class JsonFileConverter<T> {
      */
     protected abstract ResourceLocator resourceLocator();
 
+
+    /**
+     * Key of a cached model.
+     *
+     * @param resourceSource the resource source the model was searched in
+     * @param fileName       the name of the JSON file
+     * @param modelType      the type of the converted model
+     */
+    private record ModelKey(ResourceSource resourceSource, String fileName, JavaType modelType) {
+    }
+
+    /**
+     * Cached model, either strongly or softly referenced.
+     *
+     * @param model        the strongly referenced model
+     * @param softModel    the softly referenced model
+     * @param lastModified the modification time of the JSON file, or -1 if the model is not read from a file
+     */
+    private record CachedModel(Object model, SoftReference<Object> softModel, long lastModified) {
+
+        Object getModel() {
+            return model != null ? model : softModel.get();
+        }
+    }
 }
@@ -24,10 +24,14 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class CommandProcess implements AutoCloseable {
@@ -61,7 +65,7 @@ public class CommandProcess implements AutoCloseable {
     }
 
     public void monitorOutput(ProcessOutputListener outputListener) {
-        worker = new Thread(() -> {
+        worker = Thread.ofVirtual().name("process-output").unstarted(() -> {
             try {
                 try (Reader reader = new InputStreamReader(process.getInputStream());
                      BufferedReader bufferedReader = new BufferedReader(reader)) {
@@ -89,6 +93,65 @@ public class CommandProcess implements AutoCloseable {
         }
     }
 
+    /**
+     * Read the output of the process in background, without blocking the caller.
+     * <p>
+     * The output lines are passed to the listener as they are read,
+     * while only the first characters of the output are captured in the result.
+     * The process is destroyed if it does not finish in time or if the returned future is cancelled.
+     * If the reading thread is interrupted, the future completes with a {@link CancellationException}.
+     *
+     * @param timeout        the maximum execution time, or null for no limit
+     * @param maxOutputSize  the maximum number of captured output characters
+     * @param outputListener the listener of the output lines, or null
+     * @return the future result of the execution
+     */
+    public CompletableFuture<ProcessResult> getOutputAsync(final Duration timeout,
+                                                           int maxOutputSize,
+                                                           final ProcessOutputListener outputListener) {
+        CompletableFuture<ProcessResult> result = new CompletableFuture<>();
+        worker = Thread.ofVirtual().name("process-output").start(() -> {
+            StringBuilder output = new StringBuilder();
+            boolean truncated = false;
+            try (BufferedReader reader = process.inputReader()) {
+                String line;
+                while (!result.isDone() && (line = reader.readLine()) != null) {
+                    if (outputListener != null) {
+                        outputListener.process(line);
+                    }
+                    if (output.length() + line.length() < maxOutputSize) {
+                        output.append(line).append('\n');
+                    } else if (!truncated) {
+                        output.append(line, 0, Math.max(0, maxOutputSize - output.length()));
+                        truncated = true;
+                    }
+                }
+                result.complete(new ProcessResult(command, process.waitFor(), output.toString(), truncated));
+            } catch (IOException ex) {
+                result.completeExceptionally(
+                    new ProcessExecutionException("Failed to execute command: " + command, ex));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                CancellationException cancellation =
+                    new CancellationException("Interrupted while executing command: " + command);
+                cancellation.initCause(ex);
+                result.completeExceptionally(cancellation);
+            } catch (RuntimeException ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+
+        if (timeout != null) {
+            result.orTimeout(timeout.toMillis(), MILLISECONDS);
+        }
+        result.whenComplete((processResult, ex) -> {
+            if (ex != null) {
+                destroy();
+            }
+        });
+        return result;
+    }
+
     public void destroy() {
         running = false;
         ofNullable(process)
@@ -107,7 +170,8 @@ public class CommandProcess implements AutoCloseable {
                     if (!process.waitFor(1, SECONDS)) {
                         process.destroyForcibly();
                     }
-                } catch (InterruptedException ignored) {
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
                 }
             });
     }
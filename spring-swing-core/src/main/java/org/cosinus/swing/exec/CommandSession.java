@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.exec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.error.ProcessExecutionException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.stream;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.cosinus.swing.exec.ProcessExecutor.DEFAULT_MAX_OUTPUT_SIZE;
+import static org.cosinus.swing.exec.ProcessExecutor.DEFAULT_PROCESS_TIMEOUT;
+
+/**
+ * Long-lived shell running commands one after the other.
+ * <p>
+ * The commands are written to the shell input, each one followed by a unique end marker
+ * carrying its exit code, so that the output of each command is read separately.
+ * This avoids starting a new process from the application for every command.
+ * <p>
+ * A command that does not finish in time kills the whole session,
+ * so a new session has to be started for the next commands.
+ */
+@Slf4j
+public class CommandSession implements AutoCloseable {
+
+    public static final String SHELL = "/bin/sh";
+
+    private final Process process;
+
+    private final BufferedWriter input;
+
+    private final BufferedReader output;
+
+    private final String endMarker;
+
+    private final int maxOutputSize;
+
+    private final Duration commandTimeout;
+
+    public CommandSession() throws IOException {
+        this(SHELL);
+    }
+
+    public CommandSession(String... shellCommand) throws IOException {
+        this(DEFAULT_PROCESS_TIMEOUT, DEFAULT_MAX_OUTPUT_SIZE, shellCommand);
+    }
+
+    public CommandSession(Duration commandTimeout, int maxOutputSize, String... shellCommand) throws IOException {
+        this.process = new ProcessBuilder(shellCommand)
+            .redirectErrorStream(true)
+            .start();
+        this.input = process.outputWriter();
+        this.output = process.inputReader();
+        this.endMarker = "--" + UUID.randomUUID() + "--";
+        this.maxOutputSize = maxOutputSize;
+        this.commandTimeout = commandTimeout;
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    /**
+     * Execute a command in this session.
+     *
+     * @param command the command to execute
+     * @return the result of the execution
+     * @throws ProcessExecutionException if the session ended or was killed before the command finished
+     */
+    public synchronized ProcessResult execute(String... command) {
+        String commandLine = Arrays.toString(command);
+        CompletableFuture<Void> deadline = startDeadline();
+        try {
+            input.write(stream(command)
+                .map(this::quote)
+                .collect(joining(" ")));
+            input.write(" </dev/null 2>&1; printf '\\n%s %d\\n' '" + endMarker + "' $?");
+            input.newLine();
+            input.flush();
+
+            StringBuilder commandOutput = new StringBuilder();
+            boolean truncated = false;
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(endMarker)) {
+                    if (deadline.isCompletedExceptionally()) {
+                        throw new ProcessExecutionException("Command timed out: " + commandLine);
+                    }
+                    int exitCode = Integer.parseInt(line.substring(endMarker.length()).trim());
+                    return new ProcessResult(commandLine, exitCode, removeLastNewLine(commandOutput), truncated);
+                }
+                if (commandOutput.length() + line.length() < maxOutputSize) {
+                    commandOutput.append(line).append('\n');
+                } else {
+                    truncated = true;
+                }
+            }
+            if (deadline.isCompletedExceptionally()) {
+                throw new ProcessExecutionException("Command timed out: " + commandLine);
+            }
+            throw new ProcessExecutionException(process.waitFor(), commandOutput.toString());
+        } catch (IOException ex) {
+            if (deadline.isCompletedExceptionally()) {
+                throw new ProcessExecutionException("Command timed out: " + commandLine, ex);
+            }
+            throw new ProcessExecutionException("Failed to execute command: " + commandLine, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProcessExecutionException("Interrupted command: " + commandLine, ex);
+        } finally {
+            deadline.complete(null);
+        }
+    }
+
+    /**
+     * Start the deadline of a command, which kills the session when it expires before the command finishes.
+     */
+    private CompletableFuture<Void> startDeadline() {
+        CompletableFuture<Void> deadline = new CompletableFuture<>();
+        if (commandTimeout != null) {
+            deadline
+                .orTimeout(commandTimeout.toMillis(), MILLISECONDS)
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        log.warn("Command session killed after {} ms of command execution", commandTimeout.toMillis());
+                        kill();
+                    }
+                });
+        }
+        return deadline;
+    }
+
+    /**
+     * Execute a batch of commands in this session.
+     *
+     * @param commands the commands to execute
+     * @return the results of the executions, in the order of the commands
+     */
+    public synchronized List<ProcessResult> executeAll(List<String[]> commands) {
+        List<ProcessResult> results = new ArrayList<>(commands.size());
+        commands.forEach(command -> results.add(execute(command)));
+        return results;
+    }
+
+    private String quote(String argument) {
+        return "'" + argument.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * Remove the new line printed before the end marker.
+     */
+    private String removeLastNewLine(StringBuilder commandOutput) {
+        return commandOutput.isEmpty() ?
+            "" :
+            commandOutput.substring(0, commandOutput.length() - 1);
+    }
+
+    /**
+     * Kill the shell together with the running command,
+     * which would otherwise keep the output open until it finishes.
+     * <p>
+     * The shell is killed first, so it cannot print the end marker of the killed command.
+     */
+    private void kill() {
+        List<ProcessHandle> descendants = process.descendants().toList();
+        process.destroyForcibly();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+    }
+
+    @Override
+    public void close() {
+        try {
+            input.close();
+            if (!process.waitFor(1, SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (IOException ex) {
+            log.debug("Failed to close the command session", ex);
+            process.destroyForcibly();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+}
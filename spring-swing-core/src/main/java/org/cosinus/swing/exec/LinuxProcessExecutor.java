@@ -17,7 +17,11 @@
 
 package org.cosinus.swing.exec;
 
+import org.cosinus.swing.error.ProcessExecutionException;
+
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.stream.IntStream.range;
@@ -25,7 +29,7 @@ import static java.util.stream.IntStream.range;
 /**
  * Implementation of {@link ProcessExecutor} for Linux
  */
-public class LinuxProcessExecutor implements ProcessExecutor {
+public class LinuxProcessExecutor implements ProcessExecutor, AutoCloseable {
 
     private static final String SUDO = "sudo";
     private static final String PASSWORD_IS_REQUIRED = "sudo: a password is required";
@@ -33,6 +37,8 @@ public class LinuxProcessExecutor implements ProcessExecutor {
     @SuppressWarnings("SpellCheckingInspection")
     private static final String PK_EXEC = "pkexec";
 
+    private CommandSession commandSession;
+
     @Override
     public void executeFile(File file) {
         execute(false, false, "xdg-open", file.getAbsolutePath());
@@ -58,6 +64,57 @@ public class LinuxProcessExecutor implements ProcessExecutor {
         executeWithPrivilegesAndGetOutput(command);
     }
 
+    /**
+     * Execute a batch of commands in the shared command session.
+     * <p>
+     * The session is recreated if it ended, including when it was killed by a command timeout.
+     *
+     * @param commands the commands to execute
+     * @return the results of the executions, in the order of the commands
+     */
+    @Override
+    public synchronized List<ProcessResult> executeAll(List<String[]> commands) {
+        if (commandSession == null || !commandSession.isAlive()) {
+            close();
+            commandSession = openSession();
+        }
+        return commandSession.executeAll(commands);
+    }
+
+    /**
+     * Execute a batch of commands with privileges.
+     * <p>
+     * The commands are executed in a privileged command session opened for this batch only,
+     * so the user is asked once for the whole batch.
+     *
+     * @param commands the commands to execute
+     * @return the results of the executions, in the order of the commands
+     */
+    @Override
+    public List<ProcessResult> executeAllWithPrivileges(List<String[]> commands) {
+        try (CommandSession privilegedSession = new CommandSession(commandWithPassword(CommandSession.SHELL))) {
+            return privilegedSession.executeAll(commands);
+        } catch (IOException ex) {
+            throw new ProcessExecutionException("Failed to start the privileged command session", ex);
+        }
+    }
+
+    private CommandSession openSession() {
+        try {
+            return new CommandSession();
+        } catch (IOException ex) {
+            throw new ProcessExecutionException("Failed to start the command session", ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (commandSession != null) {
+            commandSession.close();
+            commandSession = null;
+        }
+    }
+
     private String[] sudoCommand(String... command) {
         return Command.prefixed(SUDO, command);
     }
@@ -23,16 +23,21 @@ import org.cosinus.swing.error.ProcessExecutionException;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static java.lang.ProcessBuilder.startPipeline;
 import static java.util.Arrays.stream;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.IntStream.range;
 import static java.util.stream.Stream.concat;
 import static org.cosinus.swing.exec.Command.outputProcess;
 import static org.cosinus.swing.exec.Command.pipeProcess;
+import static org.cosinus.swing.format.FormatHandler.MEGA_INT;
 
 /**
  * Interface for a process executor
@@ -41,6 +46,10 @@ public interface ProcessExecutor {
 
     Logger LOG = LogManager.getLogger(ProcessExecutor.class);
 
+    Duration DEFAULT_PROCESS_TIMEOUT = Duration.ofMinutes(1);
+
+    int DEFAULT_MAX_OUTPUT_SIZE = 4 * MEGA_INT;
+
     /**
      * Execute a file.
      *
@@ -162,6 +171,110 @@ public interface ProcessExecutor {
         }
     }
 
+    /**
+     * Execute a command in background and capture the output.
+     *
+     * @param command the command to execute
+     * @return the future result of the execution
+     */
+    default CompletableFuture<ProcessResult> executeAsync(String... command) {
+        return executeAsync(DEFAULT_PROCESS_TIMEOUT, null, command);
+    }
+
+    /**
+     * Execute a command in background, streaming the output lines to a listener.
+     * <p>
+     * The process is destroyed if it does not finish in time or if the returned future is cancelled.
+     *
+     * @param timeout        the maximum execution time, or null for no limit
+     * @param outputListener the listener of the output lines, or null
+     * @param command        the command to execute
+     * @return the future result of the execution
+     */
+    default CompletableFuture<ProcessResult> executeAsync(Duration timeout,
+                                                          ProcessOutputListener outputListener,
+                                                          String... command) {
+        try {
+            return CommandProcess.startProcess(command)
+                .getOutputAsync(timeout, DEFAULT_MAX_OUTPUT_SIZE, outputListener);
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(
+                new ProcessExecutionException("Failed to execute command: " + Arrays.toString(command), ex));
+        }
+    }
+
+    /**
+     * Execute a pipeline of commands in background and capture the output of the last one.
+     *
+     * @param commands the commands to execute
+     * @return the future result of the execution
+     */
+    default CompletableFuture<ProcessResult> executePipelineAsync(String[]... commands) {
+        try {
+            List<Process> processes = startPipeline(range(0, commands.length)
+                .mapToObj(index -> index < commands.length - 1 ?
+                    pipeProcess(commands[index]) :
+                    outputProcess(commands[index]))
+                .toList());
+            CompletableFuture<ProcessResult> result =
+                new CommandProcess(processes.getLast(), Arrays.deepToString(commands))
+                    .getOutputAsync(DEFAULT_PROCESS_TIMEOUT, DEFAULT_MAX_OUTPUT_SIZE, null);
+            result.whenComplete((processResult, ex) -> {
+                if (ex != null) {
+                    processes.forEach(Process::destroy);
+                }
+            });
+            return result;
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(
+                new ProcessExecutionException("Failed to execute pipeline command", ex));
+        }
+    }
+
+    /**
+     * Execute a batch of commands and get their results.
+     *
+     * @param commands the commands to execute
+     * @return the results of the executions, in the order of the commands
+     */
+    default List<ProcessResult> executeAll(List<String[]> commands) {
+        return commands.stream()
+            .map(this::executeAsync)
+            .toList()
+            .stream()
+            .map(CompletableFuture::join)
+            .toList();
+    }
+
+    /**
+     * Execute a batch of commands with privileges and get their results.
+     * <p>
+     * A command failing with an exit code gets a result with that exit code.
+     *
+     * @param commands the commands to execute
+     * @return the results of the executions, in the order of the commands
+     * @throws ProcessExecutionException if a command cannot be executed with privileges
+     */
+    default List<ProcessResult> executeAllWithPrivileges(List<String[]> commands) {
+        return commands.stream()
+            .map(command -> {
+                String commandLine = Arrays.toString(command);
+                try {
+                    return executeWithPrivilegesAndGetOutput(command)
+                        .map(output -> new ProcessResult(commandLine, 0, output, false))
+                        .orElseThrow(() -> new ProcessExecutionException(
+                            "Failed to execute command with privileges: " + commandLine));
+                } catch (ProcessExecutionException ex) {
+                    if (ex.getProcessExitCode() == 0) {
+                        throw ex;
+                    }
+                    return new ProcessResult(commandLine, ex.getProcessExitCode(),
+                        ofNullable(ex.getOutput()).orElse(""), false);
+                }
+            })
+            .toList();
+    }
+
     default CommandProcess startProcess(String... command) {
         try {
             return CommandProcess.startProcess(command);
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.exec;
+
+import org.cosinus.swing.error.ProcessExecutionException;
+
+import java.util.Optional;
+
+/**
+ * The result of an asynchronous process execution.
+ *
+ * @param command   the executed command
+ * @param exitCode  the process exit code
+ * @param output    the captured output
+ * @param truncated true if the output was longer than the captured size
+ */
+public record ProcessResult(String command, int exitCode, String output, boolean truncated) {
+
+    public boolean isSuccessful() {
+        return exitCode == 0;
+    }
+
+    /**
+     * Get the output of a successful execution.
+     *
+     * @return the output
+     * @throws ProcessExecutionException if the process exited with an error code
+     */
+    public Optional<String> successfulOutput() {
+        if (!isSuccessful()) {
+            throw new ProcessExecutionException(exitCode, output);
+        }
+        return Optional.of(output);
+    }
+}
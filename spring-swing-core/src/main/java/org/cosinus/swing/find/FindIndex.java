@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.find;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static java.lang.Math.max;
+
+/**
+ * Compact, ordered index of the found texts positions.
+ * <p>
+ * The start and end positions are kept in primitive arrays,
+ * so even a very large number of found texts takes little memory
+ * and the found texts in a range are located by binary search.
+ */
+public class FindIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] startPositions;
+
+    private int[] endPositions;
+
+    private int count;
+
+    public FindIndex() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public FindIndex(int capacity) {
+        this.startPositions = new int[max(1, capacity)];
+        this.endPositions = new int[max(1, capacity)];
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getStartPosition(int index) {
+        checkIndex(index);
+        return startPositions[index];
+    }
+
+    public int getEndPosition(int index) {
+        checkIndex(index);
+        return endPositions[index];
+    }
+
+    /**
+     * Get the first found text ending after a position.
+     *
+     * @param position the position
+     * @return the index of the found text, or {@link #count()} if there is none
+     */
+    public int findFirstEndingAfter(int position) {
+        int index = Arrays.binarySearch(endPositions, 0, count, position + 1);
+        return index >= 0 ? firstIndexOf(endPositions, index) : -index - 1;
+    }
+
+    /**
+     * Get the first found text starting at or after a position.
+     *
+     * @param position the position
+     * @return the index of the found text, or {@link #count()} if there is none
+     */
+    public int findFirstStartingFrom(int position) {
+        int index = Arrays.binarySearch(startPositions, 0, count, position);
+        return index >= 0 ? firstIndexOf(startPositions, index) : -index - 1;
+    }
+
+    public Optional<FindResult> getFindResult(final CharSequence inputText, int index) {
+        return index >= 0 && index < count ?
+            Optional.of(new FindResult(
+                inputText.subSequence(startPositions[index], endPositions[index]).toString(),
+                index + 1,
+                startPositions[index],
+                endPositions[index])) :
+            Optional.empty();
+    }
+
+    public int[] getStartPositions() {
+        return Arrays.copyOf(startPositions, count);
+    }
+
+    public int[] getEndPositions() {
+        return Arrays.copyOf(endPositions, count);
+    }
+
+    public int getLastEndPosition() {
+        return count > 0 ? endPositions[count - 1] : 0;
+    }
+
+    public void add(int startPosition, int endPosition) {
+        if (count == startPositions.length) {
+            startPositions = Arrays.copyOf(startPositions, count * 2);
+            endPositions = Arrays.copyOf(endPositions, count * 2);
+        }
+        startPositions[count] = startPosition;
+        endPositions[count] = endPosition;
+        count++;
+    }
+
+    private int firstIndexOf(int[] positions, int index) {
+        while (index > 0 && positions[index - 1] == positions[index]) {
+            index--;
+        }
+        return index;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + count);
+        }
+    }
+}
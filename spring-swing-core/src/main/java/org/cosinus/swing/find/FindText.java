@@ -21,6 +21,12 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.UNICODE_CASE;
+import static java.util.regex.Pattern.quote;
 
 @Getter
 public class FindText {
@@ -57,6 +63,25 @@ public class FindText {
         return new FindText(text);
     }
 
+    /**
+     * Compile this text to find into a pattern.
+     * <p>
+     * The case-insensitive search relies on the pattern flags,
+     * so the searched text never needs to be copied to lower case.
+     *
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the text is not a valid regular expression
+     */
+    public Pattern toPattern() {
+        String pattern = regularExpression ? text : quote(text);
+        try {
+            return Pattern.compile(wholeWord ? "\\b(" + pattern + ")\\b" : pattern,
+                caseSensitive ? 0 : CASE_INSENSITIVE | UNICODE_CASE);
+        } catch (PatternSyntaxException ex) {
+            throw new IllegalArgumentException("Invalid regular expression: " + text, ex);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.find;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Optional.empty;
+import static java.util.stream.StreamSupport.stream;
+import static org.cosinus.swing.format.FormatHandler.KILO_INT;
+
+/**
+ * Implementation of {@link TextFinder} searching incrementally, in bounded chunks of the input text.
+ * <p>
+ * The input is only read up to the next occurrence, so the first occurrence after the caret
+ * is found in a time independent of the input size, even for a large document
+ * viewed through a {@link org.cosinus.swing.text.DocumentCharSequence}.
+ * The search can be cancelled between chunks from another thread.
+ * <p>
+ * Only literal texts are searched in chunks, with a {@link LiteralSearcher}, as their matches have a known length.
+ * A regular expression match has no bounded length and may be cut by a chunk end,
+ * so regular expressions are searched in the whole remaining input
+ * and the search can only be cancelled between matches.
+ */
+public class IncrementalTextFinder extends TextFinder {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * KILO_INT;
+
+    private final Pattern pattern;
+
+    private final Matcher matcher;
+
+    private final LiteralSearcher searcher;
+
+    private final int chunkSize;
+
+    private final int chunkOverlap;
+
+    private final boolean chunked;
+
+    private final List<FindResult> findResults;
+
+    private int index;
+
+    private int searchPosition;
+
+    private volatile boolean cancelled;
+
+    public IncrementalTextFinder(CharSequence inputText, FindText textToFind) {
+        this(inputText, textToFind, DEFAULT_CHUNK_SIZE);
+    }
+
+    public IncrementalTextFinder(CharSequence inputText, FindText textToFind, int chunkSize) {
+        super(inputText, textToFind);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.pattern = textToFind.toPattern();
+        this.matcher = pattern.matcher(inputText)
+            .useTransparentBounds(true)
+            .useAnchoringBounds(false);
+        this.chunked = !textToFind.isRegularExpression();
+        this.searcher = chunked ? new LiteralSearcher(textToFind) : null;
+        this.chunkOverlap = chunked ? max(0, searcher.length() - 1) : 0;
+        this.chunkSize = max(chunkSize, 2 * chunkOverlap);
+        this.findResults = new ArrayList<>();
+    }
+
+    /**
+     * Cancel the current and further searches.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Restart the search from a given position, usually the caret position.
+     *
+     * @param startPosition the start position
+     * @return the first result after the start position, or {@link Optional#empty()}
+     */
+    @Override
+    public synchronized Optional<FindResult> findNext(int startPosition) {
+        findResults.clear();
+        index = 0;
+        searchPosition = max(0, min(startPosition, inputText.length()));
+        return findNext();
+    }
+
+    @Override
+    public synchronized Optional<FindResult> findNext() {
+        if (index < findResults.size()) {
+            return Optional.of(findResults.get(index++));
+        }
+        return search(searchPosition)
+            .map(this::addFindResult);
+    }
+
+    @Override
+    public synchronized Optional<FindResult> findPrevious() {
+        if (index <= 1) {
+            return empty();
+        }
+        index--;
+        return Optional.of(findResults.get(index - 1));
+    }
+
+    @Override
+    public Stream<FindResult> findAll() {
+        synchronized (this) {
+            findResults.clear();
+            index = 0;
+            searchPosition = 0;
+        }
+        return stream(new FindSpliterator(), false);
+    }
+
+    /**
+     * Find all occurrences of the text to find.
+     * <p>
+     * For a literal text, the input is split in overlapping chunks searched on the common fork-join pool.
+     * A regular expression is searched sequentially, as its matches may be longer than any chunk overlap.
+     * Only the positions of the found texts are kept, in a compact {@link FindIndex}.
+     * The result is the same as for a sequential search.
+     * For a document, the document must not change during the search,
+     * for instance by running it with {@link javax.swing.text.Document#render(Runnable)}.
+     *
+     * @return the index of the found texts, which is empty if the search was cancelled
+     */
+    public FindIndex findAllIndexed() {
+        if (!chunked) {
+            return findAllSequentially();
+        }
+        int length = inputText.length();
+        int chunkCount = (int) max(1, ((long) length + chunkSize - 1) / chunkSize);
+        FindIndex[] chunkIndexes = new FindIndex[chunkCount];
+        IntStream.range(0, chunkCount)
+            .parallel()
+            .forEach(chunk -> chunkIndexes[chunk] = findAllInChunk(chunk, length));
+        return isCancelled() ? new FindIndex() : mergeChunkIndexes(chunkIndexes, length);
+    }
+
+    private FindIndex findAllSequentially() {
+        FindIndex findIndex = new FindIndex();
+        Matcher sequentialMatcher = pattern.matcher(inputText);
+        while (!isCancelled() && sequentialMatcher.find()) {
+            findIndex.add(sequentialMatcher.start(), sequentialMatcher.end());
+        }
+        return isCancelled() ? new FindIndex() : findIndex;
+    }
+
+    private FindIndex findAllInChunk(int chunk, int length) {
+        FindIndex chunkIndex = new FindIndex();
+        if (isCancelled()) {
+            return chunkIndex;
+        }
+        int chunkStart = chunk * chunkSize;
+        int chunkLimit = getChunkLimit(chunkStart, length);
+        // each chunk uses its own view of the input, as a document view is not thread-safe
+        CharSequence chunkText = inputText.subSequence(0, length);
+        int regionEnd = getRegionEnd(chunkLimit, length);
+        for (int position = searcher.indexOf(chunkText, chunkStart, regionEnd);
+             position >= 0;
+             position = searcher.indexOf(chunkText, position + searcher.length(), regionEnd)) {
+            chunkIndex.add(position, position + searcher.length());
+        }
+        return chunkIndex;
+    }
+
+    /**
+     * Merge the chunk indexes in order.
+     * <p>
+     * When the first texts found in a chunk overlap the last text found in the previous chunks,
+     * the chunk is searched again sequentially from the end of that text,
+     * until the sequential search finds the same text as the chunk search.
+     */
+    private FindIndex mergeChunkIndexes(FindIndex[] chunkIndexes, int length) {
+        FindIndex findIndex = new FindIndex(IntStream.range(0, chunkIndexes.length)
+            .map(chunk -> chunkIndexes[chunk].count())
+            .sum());
+        for (int chunk = 0; chunk < chunkIndexes.length; chunk++) {
+            FindIndex chunkIndex = chunkIndexes[chunk];
+            int next = 0;
+            if (!findIndex.isEmpty() && !chunkIndex.isEmpty() &&
+                chunkIndex.getStartPosition(0) < findIndex.getLastEndPosition()) {
+                int regionEnd = getRegionEnd(getChunkLimit(chunk * chunkSize, length), length);
+                boolean synchronizedSearch = false;
+                for (int start = searcher.indexOf(inputText, findIndex.getLastEndPosition(), regionEnd);
+                     !synchronizedSearch && start >= 0;
+                     start = searcher.indexOf(inputText, start + searcher.length(), regionEnd)) {
+                    int end = start + searcher.length();
+                    while (next < chunkIndex.count() && chunkIndex.getStartPosition(next) < start) {
+                        next++;
+                    }
+                    synchronizedSearch = next < chunkIndex.count() &&
+                        chunkIndex.getStartPosition(next) == start &&
+                        chunkIndex.getEndPosition(next) == end;
+                    if (!synchronizedSearch) {
+                        findIndex.add(start, end);
+                    }
+                }
+                if (!synchronizedSearch) {
+                    continue;
+                }
+            }
+            for (; next < chunkIndex.count(); next++) {
+                findIndex.add(chunkIndex.getStartPosition(next), chunkIndex.getEndPosition(next));
+            }
+        }
+        return findIndex;
+    }
+
+    private int getChunkLimit(int chunkStart, int length) {
+        return (int) min(length, (long) chunkStart + chunkSize);
+    }
+
+    /**
+     * Get the end of the region searched for the occurrences starting before a chunk limit.
+     */
+    private int getRegionEnd(int chunkLimit, int length) {
+        return (int) min(length, (long) chunkLimit + chunkOverlap);
+    }
+
+    @Override
+    public synchronized int count() {
+        return findResults.size();
+    }
+
+    @Override
+    public synchronized int currentIndex() {
+        return index;
+    }
+
+    @Override
+    public String replaceNext(String replacementText) {
+        return pattern.matcher(inputText).replaceFirst(replacementText);
+    }
+
+    @Override
+    public String replaceAll(String replacementText) {
+        return pattern.matcher(inputText).replaceAll(replacementText);
+    }
+
+    @Override
+    public synchronized FindResult getCurrentFind() {
+        return index > 0 ? findResults.get(index - 1) : null;
+    }
+
+    @Override
+    public boolean containsText() {
+        return chunked ?
+            searcher.indexOf(inputText, 0) >= 0 :
+            pattern.matcher(inputText).find();
+    }
+
+    private FindResult addFindResult(FindResult findResult) {
+        findResults.add(findResult);
+        index = findResults.size();
+        searchPosition = findResult.endPosition() > findResult.startPosition() ?
+            findResult.endPosition() :
+            findResult.endPosition() + 1;
+        return findResult;
+    }
+
+    /**
+     * Search the next match chunk by chunk.
+     * <p>
+     * Each chunk is searched for the occurrences starting in it,
+     * including the ones ending in the next chunk.
+     * A regular expression is searched in the whole remaining input.
+     */
+    private Optional<FindResult> search(int fromPosition) {
+        int length = inputText.length();
+        if (!chunked) {
+            if (fromPosition > length || isCancelled()) {
+                return empty();
+            }
+            matcher.region(fromPosition, length);
+            return matcher.find() ?
+                Optional.of(new FindResult(matcher.group(), findResults.size() + 1, matcher.start(), matcher.end())) :
+                empty();
+        }
+        int position = fromPosition;
+        while (position <= length && !isCancelled()) {
+            int chunkLimit = getChunkLimit(position, length);
+            int regionEnd = getRegionEnd(chunkLimit, length);
+            int start = searcher.indexOf(inputText, position, regionEnd);
+            if (start >= 0) {
+                int end = start + searcher.length();
+                return Optional.of(new FindResult(
+                    inputText.subSequence(start, end).toString(), findResults.size() + 1, start, end));
+            }
+            if (regionEnd == length) {
+                return empty();
+            }
+            position = chunkLimit;
+        }
+        return empty();
+    }
+
+    /**
+     * Spliterator used to create the stream of found results
+     */
+    private class FindSpliterator extends AbstractSpliterator<FindResult> {
+        protected FindSpliterator() {
+            super(MAX_VALUE, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FindResult> action) {
+            Optional<FindResult> findResult = findNext();
+            findResult.ifPresent(action);
+            return findResult.isPresent();
+        }
+    }
+}
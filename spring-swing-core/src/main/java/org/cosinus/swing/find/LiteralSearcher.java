@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.find;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Searcher of a literal text, without regular expression.
+ * <p>
+ * The case-sensitive search in a {@link String} relies on {@link String#indexOf(String, int)},
+ * which is a vectorized intrinsic of the JVM.
+ * Otherwise, the text is searched with the Boyer-Moore-Horspool algorithm,
+ * over case-folded characters for the case-insensitive search.
+ */
+public class LiteralSearcher {
+
+    private static final int SHIFT_TABLE_SIZE = 256;
+
+    private static final int SHIFT_TABLE_MASK = SHIFT_TABLE_SIZE - 1;
+
+    private final String literal;
+
+    private final char[] pattern;
+
+    private final boolean caseSensitive;
+
+    private final boolean wholeWord;
+
+    private final int[] shifts;
+
+    public LiteralSearcher(final FindText textToFind) {
+        this(textToFind.getText(), textToFind.isCaseSensitive(), textToFind.isWholeWord());
+    }
+
+    public LiteralSearcher(final String literal, boolean caseSensitive, boolean wholeWord) {
+        this.literal = literal;
+        this.caseSensitive = caseSensitive;
+        this.wholeWord = wholeWord;
+        this.pattern = literal.toCharArray();
+        for (int index = 0; index < pattern.length; index++) {
+            pattern[index] = fold(pattern[index]);
+        }
+        this.shifts = createShiftTable();
+    }
+
+    /**
+     * Create the bad character shift table.
+     * <p>
+     * The characters are hashed on their lower byte, keeping the smallest shift on collision,
+     * so the table stays small for any alphabet.
+     */
+    private int[] createShiftTable() {
+        int[] shiftTable = new int[SHIFT_TABLE_SIZE];
+        Arrays.fill(shiftTable, max(1, pattern.length));
+        for (int index = 0; index < pattern.length - 1; index++) {
+            shiftTable[pattern[index] & SHIFT_TABLE_MASK] = pattern.length - 1 - index;
+        }
+        return shiftTable;
+    }
+
+    public int length() {
+        return pattern.length;
+    }
+
+    /**
+     * Find the next occurrence of the literal.
+     *
+     * @param text         the text to search in
+     * @param fromPosition the position to search from
+     * @return the start position of the next occurrence, or -1 if there is none
+     */
+    public int indexOf(final CharSequence text, int fromPosition) {
+        return indexOf(text, fromPosition, text.length());
+    }
+
+    /**
+     * Find the next occurrence of the literal which ends before a position.
+     * <p>
+     * The word boundaries are checked against the whole text, not only the searched range.
+     *
+     * @param text         the text to search in
+     * @param fromPosition the position to search from
+     * @param toPosition   the position the occurrence must end before, exclusive
+     * @return the start position of the next occurrence, or -1 if there is none
+     */
+    public int indexOf(final CharSequence text, int fromPosition, int toPosition) {
+        if (pattern.length == 0) {
+            return -1;
+        }
+        int position = max(0, fromPosition);
+        int limit = min(text.length(), toPosition);
+        while ((position = find(text, position, limit)) >= 0) {
+            if (!wholeWord ||
+                isWordBoundary(text, position) && isWordBoundary(text, position + pattern.length)) {
+                return position;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    private int find(final CharSequence text, int fromPosition, int toPosition) {
+        if (fromPosition > toPosition) {
+            return -1;
+        }
+        if (caseSensitive && text instanceof String string) {
+            return string.indexOf(literal, fromPosition, toPosition);
+        }
+
+        int last = pattern.length - 1;
+        int limit = toPosition - pattern.length;
+        int position = fromPosition;
+        while (position <= limit) {
+            char lastChar = fold(text.charAt(position + last));
+            if (lastChar == pattern[last]) {
+                int index = last - 1;
+                while (index >= 0 && fold(text.charAt(position + index)) == pattern[index]) {
+                    index--;
+                }
+                if (index < 0) {
+                    return position;
+                }
+            }
+            position += shifts[lastChar & SHIFT_TABLE_MASK];
+        }
+        return -1;
+    }
+
+    /**
+     * Fold a character the same way as a case-insensitive unicode regular expression.
+     */
+    private char fold(char character) {
+        if (caseSensitive) {
+            return character;
+        }
+        if (character < 0x80) {
+            return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+        }
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Check a word boundary at a position, the same way as the regular expression {@code \b}.
+     */
+    private boolean isWordBoundary(final CharSequence text, int position) {
+        return isWordCharacter(text, position - 1) != isWordCharacter(text, position);
+    }
+
+    private boolean isWordCharacter(final CharSequence text, int position) {
+        if (position < 0 || position >= text.length()) {
+            return false;
+        }
+        char character = text.charAt(position);
+        return character == '_' ||
+            character >= 'a' && character <= 'z' ||
+            character >= 'A' && character <= 'Z' ||
+            character >= '0' && character <= '9';
+    }
+}
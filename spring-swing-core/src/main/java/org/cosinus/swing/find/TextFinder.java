@@ -27,7 +27,7 @@ import java.util.stream.Stream;
 @Getter
 public abstract class TextFinder {
 
-    protected final String inputText;
+    protected final CharSequence inputText;
 
     protected final FindText textToFind;
 
@@ -36,7 +36,7 @@ public abstract class TextFinder {
      * @param inputText the input text
      * @param textToFind the text to find
      */
-    protected TextFinder(String inputText, FindText textToFind) {
+    protected TextFinder(CharSequence inputText, FindText textToFind) {
         this.inputText = inputText;
         this.textToFind = textToFind;
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.find;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.lang.Long.MAX_VALUE;
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.StreamSupport.stream;
+
+/**
+ * Implementation of {@link TextFinder} for a literal text, based on {@link LiteralSearcher}
+ */
+public class TextFinderByLiteral extends TextFinder {
+
+    private final LiteralSearcher searcher;
+
+    private final Map<Integer, FindResult> findResultsMap;
+
+    private final AtomicInteger index;
+
+    private final AtomicInteger count;
+
+    private int searchPosition;
+
+    public TextFinderByLiteral(CharSequence inputText, FindText textToFind) {
+        super(inputText, textToFind);
+        if (textToFind.isRegularExpression()) {
+            throw new IllegalArgumentException("Not a literal text: " + textToFind.getText());
+        }
+        searcher = new LiteralSearcher(textToFind);
+        findResultsMap = new LinkedHashMap<>();
+        index = new AtomicInteger(0);
+        count = new AtomicInteger(0);
+    }
+
+    @Override
+    public Optional<FindResult> findNext(int startPosition) {
+        if (index.get() >= count.get()) {
+            return empty();
+        }
+        return ofNullable(findResultsMap.get(index.incrementAndGet()))
+            .or(() -> find(startPosition));
+    }
+
+    @Override
+    public Optional<FindResult> findNext() {
+        if (index.get() >= count.get()) {
+            return empty();
+        }
+        return ofNullable(findResultsMap.get(index.incrementAndGet()))
+            .or(() -> find(searchPosition));
+    }
+
+    @Override
+    public Optional<FindResult> findPrevious() {
+        if (index.get() <= 1) {
+            return empty();
+        }
+        return ofNullable(findResultsMap.get(index.decrementAndGet()));
+    }
+
+    @Override
+    public Stream<FindResult> findAll() {
+        return stream(new FindSpliterator(), false)
+            .onClose(() -> index.set(0));
+    }
+
+    @Override
+    public int count() {
+        return count.get();
+    }
+
+    @Override
+    public int currentIndex() {
+        return index.get();
+    }
+
+    @Override
+    public String replaceNext(String replacementText) {
+        int position = searcher.indexOf(inputText, 0);
+        if (position < 0) {
+            return inputText.toString();
+        }
+        return new StringBuilder(inputText.length() - searcher.length() + replacementText.length())
+            .append(inputText, 0, position)
+            .append(replacementText)
+            .append(inputText, position + searcher.length(), inputText.length())
+            .toString();
+    }
+
+    @Override
+    public String replaceAll(String replacementText) {
+        StringBuilder result = new StringBuilder(inputText.length());
+        int lastPosition = 0;
+        int position;
+        while ((position = searcher.indexOf(inputText, lastPosition)) >= 0) {
+            result.append(inputText, lastPosition, position)
+                .append(replacementText);
+            lastPosition = position + searcher.length();
+        }
+        return result.append(inputText, lastPosition, inputText.length())
+            .toString();
+    }
+
+    @Override
+    public FindResult getCurrentFind() {
+        return findResultsMap.get(index.get());
+    }
+
+    @Override
+    public boolean containsText() {
+        return searcher.indexOf(inputText, 0) >= 0;
+    }
+
+    private Optional<FindResult> find(int fromPosition) {
+        int position = searcher.indexOf(inputText, fromPosition);
+        return position >= 0 ? Optional.of(createFindResult(position)) : empty();
+    }
+
+    private FindResult createFindResult(int position) {
+        searchPosition = position + searcher.length();
+        FindResult findResult = new FindResult(
+            inputText.subSequence(position, searchPosition).toString(), index.get(), position, searchPosition);
+        findResultsMap.put(index.get(), findResult);
+        return findResult;
+    }
+
+    /**
+     * Spliterator used to create the stream of found results
+     */
+    private class FindSpliterator extends AbstractSpliterator<FindResult> {
+        protected FindSpliterator() {
+            super(MAX_VALUE, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super FindResult> action) {
+            int position = searcher.indexOf(inputText, searchPosition);
+            if (position < 0) {
+                return false;
+            }
+            count.incrementAndGet();
+            index.incrementAndGet();
+            action.accept(createFindResult(position));
+            return true;
+        }
+    }
+}
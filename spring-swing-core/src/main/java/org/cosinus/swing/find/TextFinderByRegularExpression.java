@@ -23,13 +23,11 @@ import java.util.Spliterators.AbstractSpliterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static java.lang.Long.MAX_VALUE;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
-import static java.util.regex.Pattern.quote;
 import static java.util.stream.StreamSupport.stream;
 
 /**
@@ -45,24 +43,14 @@ public class TextFinderByRegularExpression extends TextFinder {
 
     private final AtomicInteger count;
 
-    public TextFinderByRegularExpression(String inputText, FindText textToFind) {
+    public TextFinderByRegularExpression(CharSequence inputText, FindText textToFind) {
         super(inputText, textToFind);
-        matcher = initPattern();
+        matcher = textToFind.toPattern().matcher(inputText);
         findResultsMap = new LinkedHashMap<>();
         index = new AtomicInteger(0);
         count = new AtomicInteger(0);
     }
 
-    private Matcher initPattern() {
-        return Optional.of(textToFind.getText())
-            .map(text -> textToFind.isCaseSensitive() ? text : text.toLowerCase())
-            .map(text -> textToFind.isRegularExpression() ? text : quote(text))
-            .map(text -> textToFind.isWholeWord() ? "\\b(" + text + ")\\b" : text)
-            .map(Pattern::compile)
-            .map(pattern -> pattern.matcher(textToFind.isCaseSensitive() ? inputText : inputText.toLowerCase()))
-            .orElseThrow(() -> new IllegalArgumentException("Invalid regular expression: " + textToFind.getText()));
-    }
-
     @Override
     public Optional<FindResult> findNext(int startPosition) {
         if (index.get() >= count.get()) {
@@ -151,8 +139,8 @@ public class TextFinderByRegularExpression extends TextFinder {
         if (textToFind.isWholeWord() || textToFind.isRegularExpression()) {
             return super.containsText();
         }
-        return textToFind.isCaseSensitive() ?
-            inputText.contains(textToFind.getText()) :
-            inputText.toLowerCase().contains(textToFind.getText().toLowerCase());
+        return textToFind.isCaseSensitive() && inputText instanceof String text ?
+            text.contains(textToFind.getText()) :
+            matcher.pattern().matcher(inputText).find();
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.form;
+
+import org.cosinus.swing.find.FindIndex;
+
+import javax.swing.text.Highlighter.HighlightPainter;
+import javax.swing.text.JTextComponent;
+import java.awt.*;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Highlight painter for all the found texts of a {@link FindIndex}.
+ * <p>
+ * Used for a single highlight over the whole document,
+ * it paints only the found texts inside the visible area, located by binary search in the index.
+ */
+public class FoundTextsHighlightPainter implements HighlightPainter {
+
+    private final FindIndex findIndex;
+
+    private final HighlightPainter foundTextPainter;
+
+    public FoundTextsHighlightPainter(final FindIndex findIndex, final HighlightPainter foundTextPainter) {
+        this.findIndex = findIndex;
+        this.foundTextPainter = foundTextPainter;
+    }
+
+    @Override
+    public void paint(Graphics graphics, int start, int end, Shape bounds, JTextComponent component) {
+        Rectangle visibleArea = graphics.getClipBounds() != null ?
+            graphics.getClipBounds() :
+            component.getVisibleRect();
+        int firstVisiblePosition = max(start,
+            component.viewToModel2D(new Point(0, visibleArea.y)));
+        int lastVisiblePosition = min(end,
+            component.viewToModel2D(new Point(component.getWidth(), visibleArea.y + visibleArea.height)));
+
+        for (int index = findIndex.findFirstEndingAfter(firstVisiblePosition);
+             index < findIndex.count() && findIndex.getStartPosition(index) <= lastVisiblePosition;
+             index++) {
+            foundTextPainter.paint(graphics,
+                findIndex.getStartPosition(index),
+                findIndex.getEndPosition(index),
+                bounds,
+                component);
+        }
+    }
+}
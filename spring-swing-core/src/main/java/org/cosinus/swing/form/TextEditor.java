@@ -19,10 +19,14 @@ package org.cosinus.swing.form;
 import lombok.Getter;
 import lombok.Setter;
 import org.cosinus.swing.error.SpringSwingException;
+import org.cosinus.swing.find.FindIndex;
 import org.cosinus.swing.find.FindResult;
+import org.cosinus.swing.find.FindText;
+import org.cosinus.swing.text.TextHandler;
 import org.cosinus.swing.ui.ApplicationUIHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
@@ -34,10 +38,14 @@ import javax.swing.text.Highlighter.HighlightPainter;
 import java.awt.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.awt.Color.BLUE;
 import static java.awt.Color.YELLOW;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static javax.swing.text.PlainDocument.tabSizeAttribute;
 import static org.cosinus.swing.color.SystemColor.*;
 
@@ -52,6 +60,9 @@ public class TextEditor extends EditorPane implements DocumentListener, FormComp
     @Autowired
     protected ApplicationUIHandler uiHandler;
 
+    @Autowired
+    protected transient TextHandler textHandler;
+
     private HighlightPainter foundTextHighlightPainter;
 
     private HighlightPainter currentFoundTextHighlightPainter;
@@ -60,6 +71,10 @@ public class TextEditor extends EditorPane implements DocumentListener, FormComp
 
     private final Map<Integer, Highlight> foundTextHighlightsMap;
 
+    private transient Object foundTextsHighlight;
+
+    private int foundTextsGeneration;
+
     @Setter
     @Getter
     private boolean dirty;
@@ -124,11 +139,15 @@ public class TextEditor extends EditorPane implements DocumentListener, FormComp
 
     @Override
     public void insertUpdate(DocumentEvent e) {
+        foundTextsGeneration++;
+        removeFoundTextsHighlight();
         markAsDirtyIfNotLoading();
     }
 
     @Override
     public void removeUpdate(DocumentEvent e) {
+        foundTextsGeneration++;
+        removeFoundTextsHighlight();
         markAsDirtyIfNotLoading();
     }
 
@@ -209,6 +228,63 @@ public class TextEditor extends EditorPane implements DocumentListener, FormComp
         setCaretPosition(findResult.endPosition());
     }
 
+    /**
+     * Find all occurrences of a text in background and highlight them.
+     * <p>
+     * This is meant to be called from the find action, on the event dispatch thread.
+     * The search runs outside the event dispatch thread, with the document locked for reading,
+     * and the found texts are highlighted back on the event dispatch thread.
+     * The result is dropped without highlighting if the document or the searched text changed meanwhile.
+     *
+     * @param textToFind the text to find
+     * @return the future index of the found texts
+     */
+    public CompletableFuture<FindIndex> highlightAllFoundTexts(FindText textToFind) {
+        Document document = getDocument();
+        if (document == null) {
+            return completedFuture(new FindIndex());
+        }
+        int generation = ++foundTextsGeneration;
+        return supplyAsync(() -> findAllFoundTexts(document, textToFind))
+            .thenApplyAsync(findIndex -> {
+                if (generation == foundTextsGeneration && document == getDocument()) {
+                    highlightFoundTexts(findIndex);
+                }
+                return findIndex;
+            }, SwingUtilities::invokeLater);
+    }
+
+    private FindIndex findAllFoundTexts(Document document, FindText textToFind) {
+        AtomicReference<FindIndex> findIndex = new AtomicReference<>(new FindIndex());
+        document.render(() -> findIndex.set(textHandler.createTextFinder(document, textToFind).findAllIndexed()));
+        return findIndex.get();
+    }
+
+    /**
+     * Highlight all the found texts of an index with a single highlight,
+     * which paints only the found texts in the visible area.
+     *
+     * @param findIndex the index of the found texts
+     */
+    public void highlightFoundTexts(FindIndex findIndex) {
+        removeFoundTextsHighlight();
+        if (!findIndex.isEmpty()) {
+            try {
+                foundTextsHighlight = getHighlighter().addHighlight(0, getDocument().getLength(),
+                    new FoundTextsHighlightPainter(findIndex, getFoundTextHighlightPainter()));
+            } catch (BadLocationException ex) {
+                throw new SpringSwingException(ex);
+            }
+        }
+    }
+
+    public void removeFoundTextsHighlight() {
+        if (foundTextsHighlight != null) {
+            getHighlighter().removeHighlight(foundTextsHighlight);
+            foundTextsHighlight = null;
+        }
+    }
+
     public Highlight highlightText(int start, int end, HighlightPainter highlighter) {
         try {
             return (Highlight) getHighlighter().addHighlight(start, end, highlighter);
@@ -220,6 +296,7 @@ public class TextEditor extends EditorPane implements DocumentListener, FormComp
     public void removeAllHighlights() {
         getHighlighter().removeAllHighlights();
         foundTextHighlightsMap.clear();
+        foundTextsHighlight = null;
     }
 
     public void preventCancelAction() {
@@ -37,6 +37,12 @@ public class JsonMenuProvider extends JsonFileConverter<MenuModel> implements Me
         super(objectMapper, MenuModel.class, resourceResolvers);
     }
 
+    public JsonMenuProvider(ObjectMapper objectMapper,
+                            Set<ResourceResolver> resourceResolvers,
+                            boolean keepClasspathModels) {
+        super(objectMapper, MenuModel.class, resourceResolvers, keepClasspathModels);
+    }
+
     @Override
     public Optional<MenuModel> getMenu(String name) {
         try {
@@ -42,6 +42,12 @@ public class JsonPreferencesProvider extends JsonFileConverter<PreferencesSet> i
         super(objectMapper, PreferencesSet.class, resourceResolvers);
     }
 
+    public JsonPreferencesProvider(ObjectMapper objectMapper,
+                                   Set<ResourceResolver> resourceResolvers,
+                                   boolean keepClasspathModels) {
+        super(objectMapper, PreferencesSet.class, resourceResolvers, keepClasspathModels);
+    }
+
     @Override
     public Optional<Preferences> getPreferences() {
         try {
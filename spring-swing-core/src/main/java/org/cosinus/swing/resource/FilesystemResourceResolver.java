@@ -43,6 +43,8 @@ public class FilesystemResourceResolver implements ResourceResolver {
 
     private final ApplicationProperties applicationProperties;
 
+    private Optional<Path> applicationHomePath;
+
     public FilesystemResourceResolver(ApplicationProperties applicationProperties) {
         this.applicationProperties = applicationProperties;
     }
@@ -139,13 +141,25 @@ public class FilesystemResourceResolver implements ResourceResolver {
     }
 
     public Optional<Path> getFilePath(Path resourcePath) {
-        return ofNullable(applicationProperties.getHome())
-            .map(Paths::get)
-            .or(() -> getApplicationFolderName()
-                .map(applicationFolderName -> Paths.get(System.getProperty("user.home"), applicationFolderName)))
+        return getApplicationHomePath()
             .map(applicationHomePath -> applicationHomePath.resolve(resourcePath));
     }
 
+    /**
+     * Get the application home path, resolved once from the application properties.
+     *
+     * @return the application home path, or {@link Optional#empty()} if no home or name is set
+     */
+    private Optional<Path> getApplicationHomePath() {
+        if (applicationHomePath == null) {
+            applicationHomePath = ofNullable(applicationProperties.getHome())
+                .map(Paths::get)
+                .or(() -> getApplicationFolderName()
+                    .map(applicationFolderName -> Paths.get(System.getProperty("user.home"), applicationFolderName)));
+        }
+        return applicationHomePath;
+    }
+
     private Optional<String> getApplicationFolderName() {
         return ofNullable(applicationProperties.getName())
             .map(String::toLowerCase)
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.resource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
+import static java.util.Optional.ofNullable;
+import static java.util.function.Predicate.not;
+
+/**
+ * {@link ClasspathResourceResolver} serving the resources from the {@link ResourceIndex}.
+ * <p>
+ * The packed resources are copied from the index,
+ * the other ones are read from classpath.
+ * The last resources not found in classpath are remembered, so they are not looked up again.
+ */
+@Slf4j
+public class IndexedClasspathResourceResolver extends ClasspathResourceResolver {
+
+    private static final int MAX_MISSING_RESOURCES = 1024;
+
+    private final ResourceIndex resourceIndex;
+
+    private final Set<String> missingResources = synchronizedSet(newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_MISSING_RESOURCES;
+        }
+    }));
+
+    public IndexedClasspathResourceResolver(final ResourcePatternResolver resourceLoader,
+                                            final ResourceIndex resourceIndex) {
+        super(resourceLoader);
+        this.resourceIndex = resourceIndex;
+        log.debug("Indexed classpath resources: {}", resourceIndex.size());
+    }
+
+    @Override
+    public Optional<byte[]> resolveAsBytes(String resourcePath) {
+        return ofNullable(resourcePath)
+            .map(path -> path.startsWith("/") ? path.substring(1) : path)
+            .filter(not(missingResources::contains))
+            .flatMap(path -> resourceIndex.getBytes(path)
+                .or(() -> {
+                    Optional<byte[]> bytes = super.resolveAsBytes(path);
+                    if (bytes.isEmpty()) {
+                        missingResources.add(path);
+                    }
+                    return bytes;
+                }));
+    }
+
+    /**
+     * Resolve the resources with a specific extension from the index, if it is complete,
+     * otherwise by scanning the classpath and adding the indexed resources.
+     *
+     * @param resourceLocator the resource locator within resource source
+     * @param fileExtension   the file extension to filter the resources
+     * @return the list of found resources
+     */
+    @Override
+    public Stream<String> resolveResources(ResourceLocator resourceLocator, String fileExtension) {
+        String folder = ofNullable(resourceLocator)
+            .map(ResourceLocator::getLocation)
+            .orElse("");
+        Stream<String> indexedResources = resourceIndex.getResources(folder, fileExtension)
+            .map(path -> path.substring(path.lastIndexOf('/') + 1));
+        return resourceIndex.isComplete() ?
+            indexedResources.distinct() :
+            Stream.concat(super.resolveResources(resourceLocator, fileExtension), indexedResources).distinct();
+    }
+}
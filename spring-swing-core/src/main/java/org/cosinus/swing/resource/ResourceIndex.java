@@ -0,0 +1,389 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.resource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Optional.ofNullable;
+import static java.util.function.Predicate.not;
+
+/**
+ * Index of the classpath resources, written at build time by the spring-swing-processor.
+ * <p>
+ * Each classpath root can contain a {@value #RESOURCE_INDEX_PATH} file, listing its resources,
+ * followed by the content of the small resources packed together.
+ * The packed resources are memory-mapped when the index is a file,
+ * or read at once when it is inside a jar.
+ * When the same resource is indexed in more classpath roots, the first one wins, like for the class loader.
+ * <p>
+ * A packed resource is only served if it is still the one the class loader would find:
+ * <ul>
+ *     <li>for the indexes in folders, like during development,
+ *     its file must not be changed since the index was written;</li>
+ *     <li>for the indexes in jars, its size and CRC-32 must match the jar entry;</li>
+ *     <li>no classpath root without an index may come before the index root,
+ *     since it could shadow the resource.</li>
+ * </ul>
+ * Otherwise, the resource is read from the class loader.
+ * <p>
+ * The index is complete when every classpath root has an index,
+ * so it lists all the classpath resources.
+ */
+@Slf4j
+public class ResourceIndex {
+
+    public static final String RESOURCE_INDEX_PATH = "META-INF/spring-swing/resources.idx";
+
+    private static final int RESOURCE_INDEX_MAGIC = 0x53574958;
+
+    private static final int RESOURCE_INDEX_VERSION = 2;
+
+    private static final String FILE_PROTOCOL = "file";
+
+    private static final String JAR_PROTOCOL = "jar";
+
+    private static final String JAR_SEPARATOR = "!/";
+
+    /**
+     * Indexed resource.
+     *
+     * @param path         the resource path in classpath
+     * @param size         the resource size
+     * @param lastModified the last modified time of the resource when indexed
+     * @param checksum     the CRC-32 of the resource content
+     * @param content      the packed resource content, or null if not packed or not served from the index
+     * @param file         the resource file, for the indexes in folders
+     */
+    public record IndexedResource(String path,
+                                  int size,
+                                  long lastModified,
+                                  int checksum,
+                                  ByteBuffer content,
+                                  Path file) {
+
+        public boolean isPacked() {
+            return content != null;
+        }
+
+        /**
+         * Check if the file of a resource indexed in a folder was not changed.
+         * The resources indexed in jars are checked when the index is loaded.
+         */
+        private boolean isUnchanged() {
+            try {
+                return file == null ||
+                    Files.size(file) == size && Files.getLastModifiedTime(file).toMillis() == lastModified;
+            } catch (IOException ex) {
+                return false;
+            }
+        }
+
+        private boolean isUnchanged(final JarFile jarFile) {
+            JarEntry entry = jarFile.getJarEntry(path);
+            return entry != null && entry.getSize() == size && entry.getCrc() == Integer.toUnsignedLong(checksum);
+        }
+
+        private IndexedResource unpacked() {
+            return new IndexedResource(path, size, lastModified, checksum, null, file);
+        }
+    }
+
+    private final Map<String, IndexedResource> resources;
+
+    private final boolean complete;
+
+    public ResourceIndex(final Map<String, IndexedResource> resources) {
+        this(resources, false);
+    }
+
+    public ResourceIndex(final Map<String, IndexedResource> resources, final boolean complete) {
+        this.resources = resources;
+        this.complete = complete;
+    }
+
+    /**
+     * Load all the resource indexes visible from a class loader.
+     *
+     * @param classLoader the class loader
+     * @return the merged resource index
+     */
+    public static ResourceIndex load(final ClassLoader classLoader) {
+        Map<String, IndexedResource> resources = new LinkedHashMap<>();
+        boolean complete = false;
+        try {
+            List<URL> indexUrls = Collections.list(classLoader.getResources(RESOURCE_INDEX_PATH));
+            Set<String> indexRoots = getIndexRoots(indexUrls);
+            Optional<List<String>> classpathRoots = getClasspathRoots(classLoader);
+            Set<String> unshadowedRoots = getUnshadowedRoots(classpathRoots.orElse(List.of()), indexRoots);
+            complete = classpathRoots
+                .map(indexRoots::containsAll)
+                .orElse(false);
+            for (URL indexUrl : indexUrls) {
+                try {
+                    boolean unshadowed = unshadowedRoots.contains(getIndexRoot(indexUrl));
+                    if (!unshadowed) {
+                        log.debug("Resource index {} follows a classpath root without index, " +
+                            "its resources are read from the class loader", indexUrl);
+                    }
+                    readIndex(indexUrl, unshadowed).forEach(resources::putIfAbsent);
+                } catch (IOException | URISyntaxException | RuntimeException ex) {
+                    log.warn("Failed to load the resource index: {}", indexUrl, ex);
+                    complete = false;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to find the resource indexes", ex);
+        }
+        return new ResourceIndex(Collections.unmodifiableMap(resources), complete);
+    }
+
+    private static Set<String> getIndexRoots(final List<URL> indexUrls) {
+        Set<String> indexRoots = new HashSet<>();
+        for (URL indexUrl : indexUrls) {
+            try {
+                indexRoots.add(getIndexRoot(indexUrl));
+            } catch (URISyntaxException | RuntimeException ex) {
+                log.debug("Cannot find the classpath root of the resource index: {}", indexUrl, ex);
+            }
+        }
+        return indexRoots;
+    }
+
+    /**
+     * Get the roots of the indexes which are not preceded in classpath by a root without index.
+     * <p>
+     * The classpath roots are known for the system class loader and for the {@link URLClassLoader}s.
+     * For other class loaders, no root is considered unshadowed.
+     */
+    private static Set<String> getUnshadowedRoots(final List<String> classpathRoots, final Set<String> indexRoots) {
+        Set<String> unshadowedRoots = new HashSet<>();
+        for (String classpathRoot : classpathRoots) {
+            if (!indexRoots.contains(classpathRoot)) {
+                break;
+            }
+            unshadowedRoots.add(classpathRoot);
+        }
+        return unshadowedRoots;
+    }
+
+    private static Optional<List<String>> getClasspathRoots(final ClassLoader classLoader) {
+        if (classLoader == null || classLoader == ClassLoader.getPlatformClassLoader()) {
+            return Optional.of(List.of());
+        }
+
+        Stream<String> classpathRoots;
+        if (classLoader instanceof URLClassLoader urlClassLoader) {
+            classpathRoots = Arrays.stream(urlClassLoader.getURLs())
+                .map(url -> {
+                    try {
+                        return getRoot(url.toURI());
+                    } catch (URISyntaxException | RuntimeException ex) {
+                        return url.toString();
+                    }
+                });
+        } else if (classLoader == ClassLoader.getSystemClassLoader()) {
+            classpathRoots = Arrays.stream(System.getProperty("java.class.path", "").split(File.pathSeparator))
+                .filter(not(String::isEmpty))
+                .map(Paths::get)
+                .filter(Files::exists)
+                .map(ResourceIndex::getRoot);
+        } else {
+            return Optional.empty();
+        }
+
+        List<String> roots = classpathRoots.toList();
+        return getClasspathRoots(classLoader.getParent())
+            .map(parentRoots -> Stream.concat(parentRoots.stream(), roots.stream()).toList());
+    }
+
+    private static String getIndexRoot(final URL indexUrl) throws URISyntaxException {
+        String index = indexUrl.toString();
+        String root = index.substring(0, index.length() - RESOURCE_INDEX_PATH.length());
+        if (root.startsWith(JAR_PROTOCOL + ":") && root.endsWith(JAR_SEPARATOR)) {
+            root = root.substring(JAR_PROTOCOL.length() + 1, root.length() - JAR_SEPARATOR.length());
+        }
+        return getRoot(new URI(root));
+    }
+
+    private static String getRoot(final URI root) {
+        if (FILE_PROTOCOL.equals(root.getScheme())) {
+            return getRoot(Paths.get(root));
+        }
+        String uri = root.toString();
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    private static String getRoot(final Path root) {
+        return root.toAbsolutePath().normalize().toString();
+    }
+
+    private static Map<String, IndexedResource> readIndex(final URL indexUrl, final boolean unshadowed)
+        throws IOException, URISyntaxException {
+        if (FILE_PROTOCOL.equals(indexUrl.getProtocol())) {
+            Path indexPath = Paths.get(indexUrl.toURI());
+            Path root = indexPath.getParent().getParent().getParent();
+            try (FileChannel fileChannel = FileChannel.open(indexPath, READ)) {
+                return readIndex(fileChannel.map(READ_ONLY, 0, fileChannel.size()), root, resource -> unshadowed);
+            }
+        }
+
+        URLConnection connection = indexUrl.openConnection();
+        connection.setUseCaches(false);
+        if (connection instanceof JarURLConnection jarConnection) {
+            try (JarFile jarFile = jarConnection.getJarFile();
+                 InputStream input = jarFile.getInputStream(jarConnection.getJarEntry())) {
+                return readIndex(ByteBuffer.wrap(input.readAllBytes()), null,
+                    resource -> unshadowed && resource.isUnchanged(jarFile));
+            }
+        }
+        try (InputStream input = connection.getInputStream()) {
+            return readIndex(ByteBuffer.wrap(input.readAllBytes()), null, resource -> false);
+        }
+    }
+
+    /**
+     * Read an index.
+     *
+     * @param index    the index content
+     * @param root     the classpath root folder of the index, or null for the indexes in jars
+     * @param servable the check if a packed resource can be served from the index
+     * @return the indexed resources
+     * @throws IOException if the index format is not supported
+     */
+    private static Map<String, IndexedResource> readIndex(final ByteBuffer index,
+                                                          final Path root,
+                                                          final Predicate<IndexedResource> servable)
+        throws IOException {
+        if (index.getInt() != RESOURCE_INDEX_MAGIC || index.getInt() != RESOURCE_INDEX_VERSION) {
+            throw new IOException("Unsupported resource index format");
+        }
+        int count = index.getInt();
+        String[] paths = new String[count];
+        int[] sizes = new int[count];
+        long[] lastModifiedTimes = new long[count];
+        int[] checksums = new int[count];
+        long[] offsets = new long[count];
+        for (int entry = 0; entry < count; entry++) {
+            byte[] path = new byte[index.getShort() & 0xFFFF];
+            index.get(path);
+            paths[entry] = new String(path, UTF_8);
+            sizes[entry] = index.getInt();
+            lastModifiedTimes[entry] = index.getLong();
+            checksums[entry] = index.getInt();
+            offsets[entry] = index.getLong();
+        }
+
+        int dataStart = index.position();
+        Map<String, IndexedResource> resources = new LinkedHashMap<>();
+        for (int entry = 0; entry < count; entry++) {
+            ByteBuffer content = offsets[entry] >= 0 ?
+                index.slice(dataStart + (int) offsets[entry], sizes[entry]).asReadOnlyBuffer() :
+                null;
+            Path file = root != null ? root.resolve(paths[entry]) : null;
+            IndexedResource resource = new IndexedResource(paths[entry], sizes[entry], lastModifiedTimes[entry],
+                checksums[entry], content, file);
+            resources.put(paths[entry], resource.isPacked() && !servable.test(resource) ?
+                resource.unpacked() :
+                resource);
+        }
+        return resources;
+    }
+
+    public boolean isEmpty() {
+        return resources.isEmpty();
+    }
+
+    /**
+     * Check if every classpath root has an index, so the index lists all the classpath resources.
+     *
+     * @return true if the index is complete
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    public Optional<IndexedResource> getResource(final String path) {
+        return ofNullable(resources.get(path));
+    }
+
+    /**
+     * Get the content of a packed resource.
+     *
+     * @param path the resource path
+     * @return the resource content, or {@link Optional#empty()} if the resource is not packed in the index
+     */
+    public Optional<byte[]> getBytes(final String path) {
+        return getResource(path)
+            .filter(IndexedResource::isPacked)
+            .filter(IndexedResource::isUnchanged)
+            .map(resource -> {
+                byte[] bytes = new byte[resource.size()];
+                resource.content().get(0, bytes);
+                return bytes;
+            });
+    }
+
+    /**
+     * Get the indexed resources in a folder, including its sub-folders.
+     *
+     * @param folder        the folder
+     * @param fileExtension the file extension of the resources
+     * @return the stream of resource paths
+     */
+    public Stream<String> getResources(final String folder, final String fileExtension) {
+        String prefix = folder.isEmpty() || folder.endsWith("/") ? folder : folder + "/";
+        return resources.keySet()
+            .stream()
+            .filter(path -> path.startsWith(prefix))
+            .filter(path -> fileExtension == null || path.endsWith(fileExtension));
+    }
+}
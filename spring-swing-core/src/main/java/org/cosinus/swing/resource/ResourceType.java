@@ -26,13 +26,15 @@ package org.cosinus.swing.resource;
  * <li>CONF: configuration resources</li>
  * <li>I18N: translation resources</li>
  * <li>IMAGE: image resources</li>
+ * <li>CACHE: data computed and cached by the application</li>
  * </ul>
  */
 public enum ResourceType implements ResourceLocator {
     CONF,
     I18N,
     IMAGE,
-    UI;
+    UI,
+    CACHE;
 
     @Override
     public String getLocation() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.text;
+
+import org.cosinus.swing.error.SpringSwingException;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+/**
+ * Read only {@link CharSequence} view over the content of a {@link Document}.
+ * <p>
+ * The characters are accessed through a partial return {@link Segment},
+ * which points directly into the document content, so the text is never copied as a whole.
+ * The document must not be changed while the view is in use.
+ */
+public class DocumentCharSequence implements CharSequence {
+
+    private final Document document;
+
+    private final int start;
+
+    private final int end;
+
+    private final Segment segment;
+
+    private int segmentStart;
+
+    private int segmentEnd;
+
+    public DocumentCharSequence(final Document document) {
+        this(document, 0, document.getLength());
+    }
+
+    public DocumentCharSequence(final Document document, int start, int end) {
+        if (start < 0 || end < start || end > document.getLength()) {
+            throw new IndexOutOfBoundsException("Invalid document range: " + start + "-" + end);
+        }
+        this.document = document;
+        this.start = start;
+        this.end = end;
+        this.segment = new Segment();
+        this.segment.setPartialReturn(true);
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + length());
+        }
+        int offset = start + index;
+        if (offset < segmentStart || offset >= segmentEnd) {
+            loadSegment(offset);
+        }
+        return segment.array[segment.offset + offset - segmentStart];
+    }
+
+    private void loadSegment(int offset) {
+        try {
+            document.getText(offset, end - offset, segment);
+            segmentStart = offset;
+            segmentEnd = offset + segment.count;
+        } catch (BadLocationException ex) {
+            throw new SpringSwingException(ex);
+        }
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to < from || to > length()) {
+            throw new IndexOutOfBoundsException("Invalid range: " + from + "-" + to);
+        }
+        return new DocumentCharSequence(document, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return document.getText(start, length());
+        } catch (BadLocationException ex) {
+            throw new SpringSwingException(ex);
+        }
+    }
+}
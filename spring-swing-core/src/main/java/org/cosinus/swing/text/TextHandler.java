@@ -17,22 +17,41 @@
 package org.cosinus.swing.text;
 
 import org.cosinus.swing.find.FindText;
+import org.cosinus.swing.find.IncrementalTextFinder;
 import org.cosinus.swing.find.TextFinder;
+import org.cosinus.swing.find.TextFinderByLiteral;
 import org.cosinus.swing.find.TextFinderByRegularExpression;
 
+import javax.swing.text.Document;
+
 /**
  * Generic bean for handling texts
  */
 public class TextHandler {
 
     /**
-     * Create the default {@link TextFinder} implementation. For now, it is {@link TextFinderByRegularExpression}
+     * Create the default {@link TextFinder} implementation.
+     * It is {@link TextFinderByRegularExpression} for a regular expression,
+     * or {@link TextFinderByLiteral} for a literal text.
      *
      * @param inputText  the input text
      * @param textToFind the text to find
      * @return the created text finder
      */
-    public TextFinder createTextFinder(String inputText, FindText textToFind) {
-        return new TextFinderByRegularExpression(inputText, textToFind);
+    public TextFinder createTextFinder(CharSequence inputText, FindText textToFind) {
+        return textToFind.isRegularExpression() ?
+            new TextFinderByRegularExpression(inputText, textToFind) :
+            new TextFinderByLiteral(inputText, textToFind);
+    }
+
+    /**
+     * Create a {@link TextFinder} searching incrementally in a document, without copying its text.
+     *
+     * @param document   the document to search in
+     * @param textToFind the text to find
+     * @return the created text finder
+     */
+    public IncrementalTextFinder createTextFinder(Document document, FindText textToFind) {
+        return new IncrementalTextFinder(new DocumentCharSequence(document), textToFind);
     }
 }
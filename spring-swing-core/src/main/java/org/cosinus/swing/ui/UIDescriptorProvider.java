@@ -34,6 +34,12 @@ public class UIDescriptorProvider extends JsonFileConverter<UIDescriptor> {
         super(objectMapper, UIDescriptor.class, resourceResolvers);
     }
 
+    public UIDescriptorProvider(final ObjectMapper objectMapper,
+                                final Set<ResourceResolver> resourceResolvers,
+                                boolean keepClasspathModels) {
+        super(objectMapper, UIDescriptor.class, resourceResolvers, keepClasspathModels);
+    }
+
     public UIDescriptor getUIDescriptor(String name) {
         try {
             return convert(name)
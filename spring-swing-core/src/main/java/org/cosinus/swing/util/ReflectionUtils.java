@@ -54,10 +54,7 @@ public final class ReflectionUtils {
             return;
         }
 
-        List<Field> annotatedFields = getFields(target.getClass(), baseTargetClass)
-            .filter(field -> Object.class != field.getType())
-            .filter(field -> field.getAnnotation(annotation) != null)
-            .toList();
+        List<Field> annotatedFields = getAnnotatedFields(target.getClass(), baseTargetClass, annotation);
 
         if (!annotatedFields.isEmpty()) {
             Map<String, Object> beansMap = beansMapSupplier.get();
@@ -69,25 +66,70 @@ public final class ReflectionUtils {
         }
     }
 
-    private static Optional<Object> findBeanForField(
+    /**
+     * Get the fields of a class annotated with a given annotation,
+     * including the fields declared in superclasses up to a base class.
+     *
+     * @param targetClass     the class to get the fields for
+     * @param baseTargetClass the base class where to stop looking for fields
+     * @param annotation      the annotation of the fields
+     * @return the annotated fields
+     */
+    public static List<Field> getAnnotatedFields(
+        final Class<?> targetClass,
+        final Class<?> baseTargetClass,
+        final Class<? extends Annotation> annotation) {
+
+        return getFields(targetClass, baseTargetClass)
+            .filter(field -> Object.class != field.getType())
+            .filter(field -> field.getAnnotation(annotation) != null)
+            .toList();
+    }
+
+    /**
+     * Find the bean to set in a field, by field name first and then by field type.
+     *
+     * @param field    the field
+     * @param beansMap the available beans, by name
+     * @return the bean for the field
+     * @throws BeanDefinitionValidationException if no bean is matching by name and not exactly one by type
+     */
+    public static Optional<Object> findBeanForField(
         final Field field,
         final Map<String, Object> beansMap) {
 
-        return ofNullable(beansMap.get(field.getName()))
-            .or(() -> Optional.of(findBeanForField(field, beansMap.values())));
+        return Optional.of(findBean(field.getName(), field.getType(), beansMap));
     }
 
-    private static Object findBeanForField(
-        final Field field,
+    /**
+     * Find a bean by name first and then by type.
+     *
+     * @param name     the bean name
+     * @param type     the bean type
+     * @param beansMap the available beans, by name
+     * @return the bean
+     * @throws BeanDefinitionValidationException if no bean is matching by name and not exactly one by type
+     */
+    public static Object findBean(
+        final String name,
+        final Class<?> type,
+        final Map<String, Object> beansMap) {
+
+        return ofNullable(beansMap.get(name))
+            .orElseGet(() -> findBeanOfType(type, beansMap.values()));
+    }
+
+    private static Object findBeanOfType(
+        final Class<?> type,
         final Collection<Object> availableBeans) {
         List<Object> beans = availableBeans
             .stream()
-            .filter(bean -> field.getType().isAssignableFrom(bean.getClass()))
+            .filter(bean -> type.isAssignableFrom(bean.getClass()))
             .toList();
 
         if (beans.size() != 1) {
             throw new BeanDefinitionValidationException(format("Expected one bean of type %s but found %d: %s",
-                field.getType(),
+                type,
                 beans.size(),
                 beans
                     .stream()
@@ -31,4 +31,9 @@ public class DiskEventListenerInitializer implements ApplicationInitializer {
     public void initialize() {
         diskMonitorController.start();
     }
+
+    @Override
+    public boolean runOnEventDispatchThread() {
+        return false;
+    }
 }
@@ -24,6 +24,7 @@ import org.cosinus.swing.file.api.FilePermissions;
 import org.cosinus.swing.file.api.FileSystem;
 import org.cosinus.swing.file.api.FileSystemRoot;
 import org.cosinus.swing.file.mimetype.MimeTypeResolver;
+import org.cosinus.swing.file.walk.FileWalk;
 
 import java.awt.*;
 import java.io.File;
@@ -91,6 +92,31 @@ public class FileHandler {
         }
     }
 
+    /**
+     * Create a parallel walk of a folder tree.
+     * <p>
+     * Unlike {@link #walk(Path)}, the entries come with their attributes
+     * and the subfolders are walked in parallel.
+     *
+     * @param path the folder to walk
+     * @return the walk, to be configured and run
+     */
+    public FileWalk walkInParallel(Path path) {
+        return new FileWalk(path);
+    }
+
+    /**
+     * Compute the size of a file or of a folder tree.
+     * <p>
+     * The symbolic links are not followed.
+     *
+     * @param path the file or folder
+     * @return the size in bytes
+     */
+    public long getSize(Path path) {
+        return walkInParallel(path).size();
+    }
+
     public boolean isSameFile(Path path1, Path path2) {
         try {
             if (path1 == null && path2 == null) {
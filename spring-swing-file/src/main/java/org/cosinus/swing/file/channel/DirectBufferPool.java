@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.channel;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.cosinus.swing.format.FormatHandler.KILO_INT;
+
+/**
+ * Bounded pool of direct byte buffers of the same capacity.
+ * <p>
+ * Allocating direct buffers is expensive, so the streams and channels
+ * reading files acquire their buffer from a pool and give it back on close.
+ */
+public class DirectBufferPool {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * KILO_INT;
+
+    public static final int DEFAULT_MAX_POOLED_BUFFERS = 16;
+
+    private static final DirectBufferPool DEFAULT_POOL =
+        new DirectBufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED_BUFFERS);
+
+    @Getter
+    private final int bufferSize;
+
+    private final int maxPooledBuffers;
+
+    private final Queue<ByteBuffer> buffers;
+
+    private final AtomicInteger pooledBuffers;
+
+    public DirectBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+        this.buffers = new ConcurrentLinkedQueue<>();
+        this.pooledBuffers = new AtomicInteger();
+    }
+
+    public static DirectBufferPool defaultPool() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Acquire a cleared buffer from the pool, allocating a new one if the pool is empty.
+     *
+     * @return the buffer
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer.clear();
+    }
+
+    /**
+     * Give a buffer back to the pool.
+     * <p>
+     * Buffers with different capacity or exceeding the pool limit are left to the garbage collector.
+     *
+     * @param buffer the buffer to release
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer.capacity() != bufferSize) {
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() <= maxPooledBuffers) {
+            buffers.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
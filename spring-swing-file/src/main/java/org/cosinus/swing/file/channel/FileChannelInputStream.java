@@ -20,56 +20,188 @@ package org.cosinus.swing.file.channel;
 import lombok.Getter;
 import org.cosinus.swing.boot.cleanup.ShutDownResource;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.Objects;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Input stream reading a file channel through a pooled direct buffer.
+ * <p>
+ * The stream starts at the current position of the channel, then keeps its own position
+ * and reads with positional reads, so the position of the underlying channel is never changed.
+ * <p>
+ * The stream does not own the channel: closing the stream only releases its buffer,
+ * and the channel has to be closed by its owner.
+ */
 public class FileChannelInputStream extends InputStream implements ShutDownResource {
 
     @Getter
     private final FileChannel fileChannel;
 
-    private boolean read;
+    private final DirectBufferPool bufferPool;
+
+    private ByteBuffer buffer;
+
+    private long position = -1;
+
+    private boolean closed;
 
     public FileChannelInputStream(final FileChannel fileChannel) {
+        this(fileChannel, DirectBufferPool.defaultPool());
+    }
+
+    public FileChannelInputStream(final FileChannel fileChannel,
+                                  final DirectBufferPool bufferPool) {
         this.fileChannel = fileChannel;
+        this.bufferPool = bufferPool;
     }
 
-    @Override
-    public int read(byte[] bytes) throws IOException {
-        return super.read(bytes);
+    /**
+     * Get the position of the stream in the channel.
+     *
+     * @return the position
+     * @throws IOException if the initial position of the channel cannot be read
+     */
+    public long getPosition() throws IOException {
+        if (position < 0) {
+            position = fileChannel.position();
+        }
+        return position;
     }
 
     @Override
     public int read() throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(1);
-        int count = readFromChannel(buffer, -1);
-        return count > 0 ? buffer.getInt() : count;
+        if (!fillBuffer()) {
+            return -1;
+        }
+        position++;
+        return buffer.get() & 0xFF;
     }
 
     @Override
     public int read(byte[] bytes, int offset, int length) throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocateDirect(length);
-        int count = readFromChannel(buffer, offset);
-        if (count >= 0) {
-            buffer.flip();
-            buffer.get(bytes);
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
         }
+        if (!fillBuffer()) {
+            return -1;
+        }
+
+        int count = min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        position += count;
         return count;
     }
 
-    protected int readFromChannel(ByteBuffer buffer, long position) throws IOException {
-        if (read) {
-            return -1;
+    @Override
+    public long skip(long count) throws IOException {
+        ensureOpen();
+        if (count <= 0) {
+            return 0;
         }
 
-        int count = position >= 0 ?
-            fileChannel.read(buffer, position) :
-            fileChannel.read(buffer);
+        long skipped = min(count, max(0, fileChannel.size() - getPosition()));
+        if (buffer != null && skipped <= buffer.remaining()) {
+            buffer.position(buffer.position() + (int) skipped);
+        } else {
+            clearBuffer();
+        }
+        position += skipped;
+        return skipped;
+    }
 
-        read = true;
-        return count;
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return (int) min(Integer.MAX_VALUE, max(0, fileChannel.size() - getPosition()));
+    }
+
+    /**
+     * Transfer the remaining content of the channel to an output stream.
+     * <p>
+     * When the output stream is backed by a file channel,
+     * the transfer is delegated to {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}
+     * which allows the operating system to copy the bytes without passing them through the java heap.
+     *
+     * @param output the output stream
+     * @return the number of transferred bytes
+     * @throws IOException if the transfer fails
+     */
+    @Override
+    public long transferTo(OutputStream output) throws IOException {
+        Objects.requireNonNull(output, "output");
+        if (!(output instanceof FileOutputStream fileOutput)) {
+            return super.transferTo(output);
+        }
+
+        ensureOpen();
+        getPosition();
+        long transferred = 0;
+        if (buffer != null && buffer.hasRemaining()) {
+            int buffered = buffer.remaining();
+            FileChannel outputChannel = fileOutput.getChannel();
+            while (buffer.hasRemaining()) {
+                outputChannel.write(buffer);
+            }
+            position += buffered;
+            transferred += buffered;
+        }
+
+        long size = fileChannel.size();
+        while (position < size) {
+            long count = fileChannel.transferTo(position, size - position, fileOutput.getChannel());
+            if (count <= 0) {
+                break;
+            }
+            position += count;
+            transferred += count;
+        }
+        return transferred;
+    }
+
+    private boolean fillBuffer() throws IOException {
+        ensureOpen();
+        if (buffer == null) {
+            buffer = bufferPool.acquire().flip();
+        }
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+
+        buffer.clear();
+        int count = fileChannel.read(buffer, getPosition());
+        buffer.flip();
+        return count > 0;
+    }
+
+    private void clearBuffer() {
+        if (buffer != null) {
+            buffer.clear().flip();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        bufferPool.release(buffer);
+        buffer = null;
     }
 
     @Override
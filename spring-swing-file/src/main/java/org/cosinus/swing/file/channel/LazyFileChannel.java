@@ -17,38 +17,125 @@
 
 package org.cosinus.swing.file.channel;
 
-import lombok.Setter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
 import static org.cosinus.swing.format.FormatHandler.KILO_INT;
 
+/**
+ * File channel keeping the recently read pages of the file in memory.
+ * <p>
+ * The pages are evicted independently in least recently used order.
+ * When the pages are read sequentially, the next pages are read ahead in background.
+ */
+@Slf4j
 public class LazyFileChannel extends FileChannelDelegate {
 
     public static final int DEFAULT_PAGE_SIZE = KILO_INT;
 
     public static final int DEFAULT_PAGE_CONT = 3;
 
-    protected final ByteBuffer buffer;
+    public static final int DEFAULT_READ_AHEAD_PAGES = 0;
+
+    /**
+     * Memory backing the cached pages.
+     */
+    public enum PageBacking {
+        HEAP,
+        DIRECT,
+        MAPPED
+    }
+
+    private final PageBacking pageBacking;
+
+    private final int pageCount;
+
+    private final int readAheadPages;
+
+    private final Map<Long, ByteBuffer> pages;
+
+    private final AtomicBoolean readingAhead = new AtomicBoolean();
 
-    private long bufferStart = -1;
+    private final LongAdder hitCount = new LongAdder();
 
-    private int bufferLimit;
+    private final LongAdder missCount = new LongAdder();
 
-    @Setter
-    protected int pageSize;
+    private final LongAdder readAheadCount = new LongAdder();
+
+    private volatile DirectBufferPool directBufferPool;
+
+    private long lastPageIndex = -1;
+
+    /**
+     * Incremented each time the cached pages are dropped,
+     * so a page read ahead meanwhile is not cached.
+     */
+    private long generation;
+
+    @Getter
+    protected volatile int pageSize;
 
     public LazyFileChannel(final FileChannel fileChannel) {
         this(fileChannel, DEFAULT_PAGE_CONT, DEFAULT_PAGE_SIZE);
     }
 
     public LazyFileChannel(final FileChannel fileChannel, int pageCount, int pageSize) {
+        this(fileChannel, pageCount, pageSize, PageBacking.HEAP, DEFAULT_READ_AHEAD_PAGES);
+    }
+
+    public LazyFileChannel(final FileChannel fileChannel,
+                           int pageCount,
+                           int pageSize,
+                           final PageBacking pageBacking,
+                           int readAheadPages) {
         super(fileChannel);
+        if (pageCount <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Page count and page size must be positive");
+        }
+        this.pageCount = pageCount;
         this.pageSize = pageSize;
-        this.buffer = ByteBuffer.allocate(pageCount * pageSize);
+        this.pageBacking = pageBacking;
+        this.readAheadPages = min(readAheadPages, pageCount - 1);
+        this.directBufferPool = createDirectBufferPool();
+        this.pages = new LinkedHashMap<>(pageCount, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ByteBuffer> eldest) {
+                if (size() > LazyFileChannel.this.pageCount) {
+                    releasePage(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized void setPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        invalidate();
+        this.pageSize = pageSize;
+        this.directBufferPool = createDirectBufferPool();
+    }
+
+    @Override
+    public int read(ByteBuffer destination) throws IOException {
+        long position = position();
+        int count = read(destination, position);
+        if (count > 0) {
+            position(position + count);
+        }
+        return count;
     }
 
     @Override
@@ -56,43 +143,177 @@ public class LazyFileChannel extends FileChannelDelegate {
         if (!isOpen()) {
             throw new IOException("Channel is closed");
         }
+        if (position < 0) {
+            throw new IllegalArgumentException("Negative position");
+        }
+
+        int count = 0;
+        synchronized (this) {
+            while (destination.hasRemaining()) {
+                long pageIndex = (position + count) / pageSize;
+                ByteBuffer page = getPage(pageIndex);
+                int offset = (int) (position + count - pageIndex * pageSize);
+                if (page == null || offset >= page.limit()) {
+                    break;
+                }
 
-        if (!isPageInBufferAtPosition(position)) {
-            refillBuffer(position);
-            if (bufferLimit <= 0) {
-                return -1;
+                ByteBuffer source = page.duplicate();
+                source.position(offset);
+                source.limit(min(page.limit(), offset + destination.remaining()));
+                count += source.remaining();
+                destination.put(source);
+
+                if (page.limit() < pageSize) {
+                    break;
+                }
             }
         }
+        return count > 0 ? count : destination.hasRemaining() ? -1 : 0;
+    }
 
-        int offset = (int) (position - bufferStart);
-        int available = bufferLimit - offset;
-        int length = min(destination.remaining(), available);
-        if (length <= 0) {
-            return -1;
+    /**
+     * Drop all the cached pages, for instance when the file was changed.
+     */
+    public synchronized void invalidate() {
+        pages.values().forEach(this::releasePage);
+        pages.clear();
+        lastPageIndex = -1;
+        generation++;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getReadAheadCount() {
+        return readAheadCount.sum();
+    }
+
+    public synchronized int getCachedPageCount() {
+        return pages.size();
+    }
+
+    private ByteBuffer getPage(long pageIndex) throws IOException {
+        ByteBuffer page = pages.get(pageIndex);
+        boolean sequential = pageIndex == lastPageIndex + 1;
+        lastPageIndex = pageIndex;
+        if (page != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+            page = loadPage(pageIndex, pageSize, directBufferPool);
+            if (page != null) {
+                pages.put(pageIndex, page);
+            }
         }
 
-        ByteBuffer temp = buffer.duplicate();
-        temp.position(offset);
-        temp.limit(offset + length);
+        if (sequential && page != null && page.limit() == pageSize) {
+            readAhead(pageIndex);
+        }
+        return page;
+    }
+
+    private void readAhead(long pageIndex) {
+        if (readAheadPages <= 0 || !readingAhead.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual()
+            .name("lazy-file-channel-read-ahead")
+            .start(() -> {
+                try {
+                    for (long index = pageIndex + 1; index <= pageIndex + readAheadPages && isOpen(); index++) {
+                        if (!readAheadPage(index)) {
+                            break;
+                        }
+                    }
+                } catch (IOException ex) {
+                    log.debug("Failed to read ahead the page after {}", pageIndex, ex);
+                } finally {
+                    readingAhead.set(false);
+                }
+            });
+    }
+
+    private boolean readAheadPage(long pageIndex) throws IOException {
+        long pageGeneration;
+        int currentPageSize;
+        DirectBufferPool bufferPool;
+        synchronized (this) {
+            if (pages.containsKey(pageIndex)) {
+                return true;
+            }
+            pageGeneration = generation;
+            currentPageSize = pageSize;
+            bufferPool = directBufferPool;
+        }
 
-        destination.put(temp);
-        return length;
+        ByteBuffer page = loadPage(pageIndex, currentPageSize, bufferPool);
+        if (page == null) {
+            return false;
+        }
+        synchronized (this) {
+            if (pageGeneration != generation) {
+                releasePage(page, bufferPool);
+                return false;
+            }
+            if (pages.containsKey(pageIndex) || !isOpen()) {
+                releasePage(page, bufferPool);
+            } else {
+                pages.put(pageIndex, page);
+                readAheadCount.increment();
+            }
+        }
+        return page.limit() == currentPageSize;
     }
 
-    private boolean isPageInBufferAtPosition(long position) {
-        return bufferStart >= 0 &&
-            position >= bufferStart &&
-            position + pageSize < bufferStart + bufferLimit;
+    private ByteBuffer loadPage(long pageIndex, int pageSize, DirectBufferPool bufferPool) throws IOException {
+        long pageStart = pageIndex * pageSize;
+        if (pageBacking == PageBacking.MAPPED) {
+            long size = fileChannel.size();
+            return pageStart < size ?
+                fileChannel.map(READ_ONLY, pageStart, min(pageSize, size - pageStart)) :
+                null;
+        }
+
+        ByteBuffer page = pageBacking == PageBacking.DIRECT ?
+            bufferPool.acquire() :
+            ByteBuffer.allocate(pageSize);
+        while (page.hasRemaining()) {
+            if (fileChannel.read(page, pageStart + page.position()) < 0) {
+                break;
+            }
+        }
+        page.flip();
+        if (!page.hasRemaining()) {
+            releasePage(page, bufferPool);
+            return null;
+        }
+        return page;
     }
 
-    private void refillBuffer(long position) throws IOException {
-        buffer.clear();
+    private void releasePage(ByteBuffer page) {
+        releasePage(page, directBufferPool);
+    }
 
-        bufferStart = (position / pageSize) * pageSize;
-        int bytesRead = super.read(buffer, bufferStart);
-        if (bytesRead > 0) {
-            bufferLimit = bytesRead;
+    private void releasePage(ByteBuffer page, DirectBufferPool bufferPool) {
+        if (pageBacking == PageBacking.DIRECT) {
+            bufferPool.release(page);
         }
     }
 
+    private DirectBufferPool createDirectBufferPool() {
+        return pageBacking == PageBacking.DIRECT ?
+            new DirectBufferPool(pageSize, pageCount) :
+            null;
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        invalidate();
+        super.implCloseChannel();
+    }
 }
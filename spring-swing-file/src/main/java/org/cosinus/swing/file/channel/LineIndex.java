@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.channel;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+
+/**
+ * Compact index of the line start offsets in a file.
+ */
+public class LineIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] lineStarts;
+
+    @Getter
+    private int lineCount;
+
+    /**
+     * The number of bytes of the file covered by this index.
+     */
+    @Getter
+    private long indexedSize;
+
+    public LineIndex() {
+        this(new long[INITIAL_CAPACITY], 0, 0);
+    }
+
+    public LineIndex(final long[] lineStarts, int lineCount, long indexedSize) {
+        this.lineStarts = lineStarts;
+        this.lineCount = lineCount;
+        this.indexedSize = indexedSize;
+    }
+
+    public long getLineStart(int line) {
+        checkLine(line);
+        return lineStarts[line];
+    }
+
+    /**
+     * Get the end offset of a line, excluding the line separator.
+     *
+     * @param line the line
+     * @return the end offset (exclusive)
+     */
+    public long getLineEnd(int line) {
+        checkLine(line);
+        return line + 1 < lineCount ? lineStarts[line + 1] - 1 : indexedSize;
+    }
+
+    /**
+     * Find the line containing an offset.
+     *
+     * @param offset the offset in file
+     * @return the line containing the offset
+     */
+    public int findLine(long offset) {
+        int index = Arrays.binarySearch(lineStarts, 0, lineCount, offset);
+        return index >= 0 ? index : max(0, -index - 2);
+    }
+
+    /**
+     * Get a copy of the line start offsets.
+     *
+     * @return the line start offsets
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(lineStarts, lineCount);
+    }
+
+    public void addLineStart(long offset) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, max(INITIAL_CAPACITY, lineCount * 2));
+        }
+        lineStarts[lineCount++] = offset;
+    }
+
+    public void addLineStarts(final long[] offsets) {
+        if (lineCount + offsets.length > lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, max(lineCount + offsets.length, lineCount * 2));
+        }
+        System.arraycopy(offsets, 0, lineStarts, lineCount, offsets.length);
+        lineCount += offsets.length;
+    }
+
+    public void setIndexedSize(long indexedSize) {
+        this.indexedSize = indexedSize;
+    }
+
+    private void checkLine(int line) {
+        if (line < 0 || line >= lineCount) {
+            throw new IndexOutOfBoundsException("Line " + line + " out of " + lineCount);
+        }
+    }
+}
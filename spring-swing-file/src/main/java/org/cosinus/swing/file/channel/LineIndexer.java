@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.channel;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+import static org.cosinus.swing.format.FormatHandler.MEGA_INT;
+
+/**
+ * Builder of {@link LineIndex} for large text files.
+ * <p>
+ * The file is scanned once, in parallel over chunks, eight bytes at a time.
+ * The resulting index is saved in the application cache folder
+ * and it is reused while the size and the modification time of the file are unchanged.
+ * An index kept in memory can follow a growing file by indexing only the appended bytes.
+ */
+@Slf4j
+public class LineIndexer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * MEGA_INT;
+
+    private static final int INDEX_FILE_MAGIC = 0x4C494458;
+
+    private static final int INDEX_FILE_VERSION = 2;
+
+    private static final String INDEX_FILE_EXTENSION = ".lines";
+
+    private static final byte NEW_LINE = '\n';
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private static final long NEW_LINES = 0x0A0A0A0A0A0A0A0AL;
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private final Path cacheFolder;
+
+    private final int chunkSize;
+
+    public LineIndexer(final Path cacheFolder) {
+        this(cacheFolder, DEFAULT_CHUNK_SIZE);
+    }
+
+    public LineIndexer(final Path cacheFolder, int chunkSize) {
+        this.cacheFolder = cacheFolder;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Index a file in background.
+     *
+     * @param file the file to index
+     * @return the future index
+     */
+    public CompletableFuture<LineIndex> indexAsync(final Path file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return index(file);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Get the line index of a file.
+     * <p>
+     * The saved index is reused if the size and the modification time of the file are unchanged,
+     * otherwise the file is indexed again.
+     *
+     * @param file the file to index
+     * @return the line index
+     * @throws IOException if the file cannot be read
+     */
+    public LineIndex index(final Path file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file, READ)) {
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            long size = fileChannel.size();
+            Optional<LineIndex> savedIndex = loadIndex(file, size, lastModified);
+            if (savedIndex.isPresent()) {
+                return savedIndex.get();
+            }
+
+            LineIndex lineIndex = createIndex();
+            update(fileChannel, lineIndex);
+            if (lineIndex.getIndexedSize() == size &&
+                Files.getLastModifiedTime(file).toMillis() == lastModified) {
+                saveIndex(file, size, lastModified, lineIndex);
+            }
+            return lineIndex;
+        }
+    }
+
+    /**
+     * Index the bytes appended to a file since the last update of the index.
+     * <p>
+     * This is the tail-follow mode used for growing files like logs.
+     *
+     * @param fileChannel the file channel
+     * @param lineIndex   the line index to update
+     * @return true if the index was updated
+     * @throws IOException if the file cannot be read
+     */
+    public boolean update(final FileChannel fileChannel, final LineIndex lineIndex) throws IOException {
+        long size = fileChannel.size();
+        long from = lineIndex.getIndexedSize();
+        if (size <= from) {
+            return false;
+        }
+
+        int chunkCount = (int) ((size - from + chunkSize - 1) / chunkSize);
+        long[][] chunkLineStarts = new long[chunkCount][];
+        LongStream.range(0, chunkCount)
+            .parallel()
+            .forEach(chunk -> chunkLineStarts[(int) chunk] = indexChunk(fileChannel,
+                from + chunk * chunkSize,
+                min(size, from + (chunk + 1) * chunkSize)));
+        for (long[] lineStarts : chunkLineStarts) {
+            lineIndex.addLineStarts(lineStarts);
+        }
+        lineIndex.setIndexedSize(size);
+        return true;
+    }
+
+    private LineIndex createIndex() {
+        LineIndex lineIndex = new LineIndex();
+        lineIndex.addLineStart(0);
+        return lineIndex;
+    }
+
+    private long[] indexChunk(final FileChannel fileChannel, long from, long to) {
+        try {
+            MappedByteBuffer buffer = fileChannel.map(READ_ONLY, from, to - from);
+            LineIndex chunkIndex = new LineIndex();
+            findNewLines(buffer, 0, buffer.limit(), from, chunkIndex::addLineStart);
+            return chunkIndex.toArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Find the new lines in a buffer, reading eight bytes at a time.
+     *
+     * @param buffer     the buffer to search in
+     * @param from       the start position in buffer
+     * @param to         the end position in buffer (exclusive)
+     * @param baseOffset the offset in file of the buffer start
+     * @param lineStarts consumer of the offsets in file following each new line
+     */
+    static void findNewLines(final ByteBuffer buffer,
+                             int from,
+                             int to,
+                             long baseOffset,
+                             final LongConsumer lineStarts) {
+        ByteBuffer words = buffer.duplicate().order(LITTLE_ENDIAN);
+        int position = from;
+        for (; position + Long.BYTES <= to; position += Long.BYTES) {
+            long word = words.getLong(position) ^ NEW_LINES;
+            long matches = ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+            while (matches != 0) {
+                int byteIndex = Long.numberOfTrailingZeros(matches) >>> 3;
+                lineStarts.accept(baseOffset + position + byteIndex + 1);
+                matches &= matches - 1;
+            }
+        }
+        for (; position < to; position++) {
+            if (buffer.get(position) == NEW_LINE) {
+                lineStarts.accept(baseOffset + position + 1);
+            }
+        }
+    }
+
+    private Optional<LineIndex> loadIndex(final Path file, long size, long lastModified) {
+        return getIndexFile(file)
+            .filter(Files::exists)
+            .flatMap(indexFile -> {
+                try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                    if (input.readInt() != INDEX_FILE_MAGIC ||
+                        input.readInt() != INDEX_FILE_VERSION ||
+                        !file.toAbsolutePath().toString().equals(input.readUTF())) {
+                        return Optional.empty();
+                    }
+                    long indexedSize = input.readLong();
+                    long indexedLastModified = input.readLong();
+                    if (indexedSize != size || indexedLastModified != lastModified) {
+                        return Optional.empty();
+                    }
+                    int lineCount = input.readInt();
+                    long[] lineStarts = new long[max(1, lineCount)];
+                    for (int line = 0; line < lineCount; line++) {
+                        lineStarts[line] = input.readLong();
+                    }
+                    return Optional.of(new LineIndex(lineStarts, lineCount, indexedSize));
+                } catch (IOException ex) {
+                    log.debug("Failed to load the line index of file: {}", file, ex);
+                    return Optional.empty();
+                }
+            });
+    }
+
+    private void saveIndex(final Path file, long size, long lastModified, final LineIndex lineIndex) {
+        getIndexFile(file).ifPresent(indexFile -> {
+            try {
+                Files.createDirectories(indexFile.getParent());
+                try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+                    output.writeInt(INDEX_FILE_MAGIC);
+                    output.writeInt(INDEX_FILE_VERSION);
+                    output.writeUTF(file.toAbsolutePath().toString());
+                    output.writeLong(size);
+                    output.writeLong(lastModified);
+                    output.writeInt(lineIndex.getLineCount());
+                    for (int line = 0; line < lineIndex.getLineCount(); line++) {
+                        output.writeLong(lineIndex.getLineStart(line));
+                    }
+                }
+            } catch (IOException ex) {
+                log.warn("Failed to save the line index of file: {}", file, ex);
+            }
+        });
+    }
+
+    private Optional<Path> getIndexFile(final Path file) {
+        return ofNullable(cacheFolder)
+            .map(folder -> folder.resolve(UUID.nameUUIDFromBytes(
+                file.toAbsolutePath().toString().getBytes(UTF_8)) + INDEX_FILE_EXTENSION));
+    }
+
+    public void deleteIndex(final Path file) {
+        getIndexFile(file).ifPresent(indexFile -> {
+            try {
+                Files.deleteIfExists(indexFile);
+            } catch (IOException ex) {
+                log.warn("Failed to delete the line index of file: {}", file, ex);
+            }
+        });
+    }
+
+    /**
+     * Get the lines of the range as string, read from a file channel.
+     *
+     * @param fileChannel the file channel
+     * @param lineIndex   the line index of the file
+     * @param fromLine    the first line
+     * @param count       the maximum number of lines
+     * @param charset     the charset of the file
+     * @return the lines
+     * @throws IOException if the file cannot be read
+     */
+    public static List<String> readLines(final FileChannel fileChannel,
+                                         final LineIndex lineIndex,
+                                         int fromLine,
+                                         int count,
+                                         final Charset charset) throws IOException {
+        int toLine = min(fromLine + count, lineIndex.getLineCount());
+        if (fromLine >= toLine) {
+            return emptyList();
+        }
+
+        long start = lineIndex.getLineStart(fromLine);
+        long end = lineIndex.getLineEnd(toLine - 1);
+        if (end - start > MappedFileView.MAX_LINE_LENGTH) {
+            throw new IOException("Lines " + fromLine + "-" + toLine + " are too long to be read: " +
+                (end - start) + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (fileChannel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        byte[] bytes = buffer.array();
+        List<String> lines = new ArrayList<>(toLine - fromLine);
+        for (int line = fromLine; line < toLine; line++) {
+            int lineStart = (int) (lineIndex.getLineStart(line) - start);
+            int lineEnd = (int) (lineIndex.getLineEnd(line) - start);
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            lines.add(new String(bytes, lineStart, max(0, lineEnd - lineStart), charset));
+        }
+        return lines;
+    }
+}
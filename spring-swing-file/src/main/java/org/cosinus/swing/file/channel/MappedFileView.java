@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.channel;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.cosinus.swing.format.FormatHandler.MEGA_INT;
+
+/**
+ * Read only view over a large file, mapped in memory window by window.
+ * <p>
+ * Only the recently used windows are kept mapped,
+ * so even multi-gigabyte files can be browsed with almost no heap.
+ */
+public class MappedFileView implements Closeable {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * MEGA_INT;
+
+    public static final int DEFAULT_MAX_WINDOWS = 8;
+
+    public static final int MAX_LINE_LENGTH = Integer.MAX_VALUE - 8;
+
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final FileChannel fileChannel;
+
+    @Getter
+    private final int windowSize;
+
+    private final int maxWindows;
+
+    private final Map<Long, MappedByteBuffer> windows;
+
+    private long size;
+
+    private LineIndex lineIndex;
+
+    public MappedFileView(final FileChannel fileChannel) throws IOException {
+        this(fileChannel, DEFAULT_WINDOW_SIZE, DEFAULT_MAX_WINDOWS);
+    }
+
+    public MappedFileView(final FileChannel fileChannel, int windowSize, int maxWindows) throws IOException {
+        if (windowSize <= 0 || maxWindows <= 0) {
+            throw new IllegalArgumentException("Window size and window count must be positive");
+        }
+        this.fileChannel = fileChannel;
+        this.windowSize = windowSize;
+        this.maxWindows = maxWindows;
+        this.size = fileChannel.size();
+        this.windows = new LinkedHashMap<>(maxWindows, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MappedByteBuffer> eldest) {
+                return size() > MappedFileView.this.maxWindows;
+            }
+        };
+    }
+
+    public static MappedFileView open(final Path path) throws IOException {
+        return new MappedFileView(FileChannel.open(path, READ));
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Re-read the file size, for instance when the file is growing.
+     * <p>
+     * The window at the end of the file is re-mapped on next access.
+     *
+     * @return the new size of the file
+     * @throws IOException if the size cannot be read
+     */
+    public synchronized long refresh() throws IOException {
+        long newSize = fileChannel.size();
+        if (newSize != size) {
+            if (newSize < size) {
+                windows.clear();
+                lineIndex = null;
+            } else {
+                windows.remove(size / windowSize);
+            }
+            size = newSize;
+        }
+        return size;
+    }
+
+    public synchronized byte get(long position) throws IOException {
+        checkPosition(position);
+        return getWindow(position / windowSize).get((int) (position % windowSize));
+    }
+
+    /**
+     * Copy bytes starting at a position into a destination buffer.
+     *
+     * @param position    the position in file
+     * @param destination the destination buffer
+     * @return the number of copied bytes, or -1 if the position is at the end of the file
+     * @throws IOException if the file cannot be mapped
+     */
+    public synchronized int read(long position, ByteBuffer destination) throws IOException {
+        if (position >= size) {
+            return -1;
+        }
+        checkPosition(position);
+
+        int count = 0;
+        while (destination.hasRemaining() && position + count < size) {
+            long current = position + count;
+            ByteBuffer window = getWindow(current / windowSize).duplicate();
+            int offset = (int) (current % windowSize);
+            window.position(offset);
+            window.limit(offset + min(window.limit() - offset, destination.remaining()));
+            count += window.remaining();
+            destination.put(window);
+        }
+        return count;
+    }
+
+    public byte[] read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) min(length, max(0, size() - position)));
+        read(position, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Get a read only buffer over a byte range.
+     * <p>
+     * The buffer is a slice of the mapped window when the range does not cross windows,
+     * otherwise the bytes are copied.
+     *
+     * @param position the position in file
+     * @param length   the length of the range
+     * @return the buffer
+     * @throws IOException if the file cannot be mapped
+     */
+    public synchronized ByteBuffer slice(long position, int length) throws IOException {
+        checkPosition(position);
+        int available = (int) min(length, size - position);
+        int offset = (int) (position % windowSize);
+        if (offset + available <= windowSize) {
+            return getWindow(position / windowSize).slice(offset, available).asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(read(position, available)).asReadOnlyBuffer();
+    }
+
+    public synchronized LineIndex getLineIndex() throws IOException {
+        if (lineIndex == null) {
+            lineIndex = new LineIndex();
+            lineIndex.addLineStart(0);
+        }
+        if (lineIndex.getIndexedSize() < size) {
+            indexLines(lineIndex, size);
+        }
+        return lineIndex;
+    }
+
+    public int getLineCount() throws IOException {
+        return getLineIndex().getLineCount();
+    }
+
+    /**
+     * Read a line as string.
+     *
+     * @param line    the line
+     * @param charset the charset of the file
+     * @return the line, without line separator
+     * @throws IOException if the file cannot be mapped or the line is longer than {@link #MAX_LINE_LENGTH}
+     */
+    public String readLine(int line, final Charset charset) throws IOException {
+        LineIndex index = getLineIndex();
+        long start = index.getLineStart(line);
+        long end = index.getLineEnd(line);
+        if (end > start && get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        if (end <= start) {
+            return "";
+        }
+        if (end - start > MAX_LINE_LENGTH) {
+            throw new IOException("Line " + line + " is too long to be read: " + (end - start) + " bytes");
+        }
+        return charset.decode(slice(start, (int) (end - start))).toString();
+    }
+
+    public List<String> readLines(int fromLine, int count, final Charset charset) throws IOException {
+        int toLine = min(fromLine + count, getLineCount());
+        List<String> lines = new ArrayList<>(max(0, toLine - fromLine));
+        for (int line = fromLine; line < toLine; line++) {
+            lines.add(readLine(line, charset));
+        }
+        return lines;
+    }
+
+    private void indexLines(final LineIndex index, long toPosition) throws IOException {
+        long position = index.getIndexedSize();
+        while (position < toPosition) {
+            long windowIndex = position / windowSize;
+            MappedByteBuffer window = getWindow(windowIndex);
+            long windowStart = windowIndex * windowSize;
+            int limit = (int) min(window.limit(), toPosition - windowStart);
+            LineIndexer.findNewLines(window, (int) (position - windowStart), limit, windowStart, index::addLineStart);
+            position = windowStart + limit;
+        }
+        index.setIndexedSize(toPosition);
+    }
+
+    private MappedByteBuffer getWindow(long windowIndex) throws IOException {
+        MappedByteBuffer window = windows.get(windowIndex);
+        if (window == null) {
+            long windowStart = windowIndex * windowSize;
+            window = fileChannel.map(READ_ONLY, windowStart, min(windowSize, size - windowStart));
+            windows.put(windowIndex, window);
+        }
+        return window;
+    }
+
+    private void checkPosition(long position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+    }
+
+    /**
+     * Release the mapped windows and close the file.
+     * <p>
+     * The memory of the released windows is unmapped when they are garbage collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        windows.clear();
+        lineIndex = null;
+        fileChannel.close();
+    }
+}
@@ -27,20 +27,33 @@ import org.cosinus.swing.file.DefaultFileInfoProvider;
 import org.cosinus.swing.file.FileHandler;
 import org.cosinus.swing.file.api.FileInfoProvider;
 import org.cosinus.swing.file.api.FileSystem;
+import org.cosinus.swing.file.channel.LineIndexer;
 import org.cosinus.swing.file.linux.LinuxFileInfoProvider;
 import org.cosinus.swing.file.linux.LinuxFileSystem;
 import org.cosinus.swing.file.mac.MacFileInfoProvider;
 import org.cosinus.swing.file.mac.MacFileSystem;
 import org.cosinus.swing.file.mimetype.MimeTypeResolver;
+import org.cosinus.swing.file.search.FileSearcher;
+import org.cosinus.swing.file.walk.FolderUsageCache;
+import org.cosinus.swing.file.watch.FileWatchService;
 import org.cosinus.swing.file.windows.WindowsFileSystem;
+import org.cosinus.swing.resource.FilesystemResourceResolver;
 import org.cosinus.swing.translate.Translator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 
+import java.nio.file.Paths;
+
+import static org.cosinus.swing.resource.ResourceType.CACHE;
+
 @AutoConfiguration
 public class SpringSwingFileAutoConfiguration {
 
+    public static final String LINE_INDEX_CACHE_FOLDER = "lines";
+
+    public static final String FOLDER_USAGE_CACHE_FILE = "folders.usage";
+
     @Bean
     public FileHandler fileHandler(final MimeTypeResolver mimeTypeResolver,
                                    final FileSystem fileSystem,
@@ -100,4 +113,30 @@ public class SpringSwingFileAutoConfiguration {
     public MimeTypeResolver mimeTypeResolver() {
         return new MimeTypeResolver();
     }
+
+    @Bean
+    public LineIndexer lineIndexer(final FilesystemResourceResolver filesystemResourceResolver) {
+        return new LineIndexer(filesystemResourceResolver
+            .getFilePath(Paths.get(CACHE.getLocation(), LINE_INDEX_CACHE_FOLDER))
+            .orElse(null));
+    }
+
+    @Bean
+    public FileSearcher fileSearcher(final MimeTypeResolver mimeTypeResolver) {
+        return new FileSearcher(mimeTypeResolver);
+    }
+
+    @Bean
+    public FileWatchService fileWatchService() {
+        return new FileWatchService();
+    }
+
+    @Bean
+    public FolderUsageCache folderUsageCache(final FilesystemResourceResolver filesystemResourceResolver,
+                                             final FileWatchService fileWatchService) {
+        return new FolderUsageCache(filesystemResourceResolver
+            .getFilePath(Paths.get(CACHE.getLocation(), FOLDER_USAGE_CACHE_FILE))
+            .orElse(null),
+            fileWatchService);
+    }
 }
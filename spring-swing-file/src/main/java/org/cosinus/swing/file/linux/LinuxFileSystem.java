@@ -23,6 +23,7 @@ import org.cosinus.swing.error.ErrorHandler;
 import org.cosinus.swing.error.JsonConvertException;
 import org.cosinus.swing.error.ProcessExecutionException;
 import org.cosinus.swing.exec.ProcessExecutor;
+import org.cosinus.swing.exec.ProcessResult;
 import org.cosinus.swing.file.DefaultFileSystemRoot;
 import org.cosinus.swing.file.api.*;
 import org.cosinus.swing.file.mac.BlockDevice;
@@ -35,11 +36,14 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.readAllLines;
+import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Optional.ofNullable;
 import static java.util.function.Function.identity;
@@ -94,15 +98,26 @@ public class LinuxFileSystem implements FileSystem {
 
     @Override
     public List<? extends FileSystemRoot> getFileSystemRoots() {
+        //noinspection SpellCheckingInspection
+        CompletableFuture<ProcessResult> partitionsOutput = processExecutor.executeAsync("lsblk", "-J", "-b", "-o",
+            "UUID,NAME,LABEL,PATH,TYPE,SIZE,FSTYPE,RM,ROTA,HOTPLUG,VENDOR,MOUNTPOINT");
+        //noinspection SpellCheckingInspection
+        CompletableFuture<ProcessResult> mtpMountFolderOutput = processExecutor.executePipelineAsync(
+            of("df", "-a"),
+            of("grep", "gvfsd-fuse"));
+        CompletableFuture<ProcessResult> gioMountOutput = processExecutor.executePipelineAsync(
+            of("gio", "mount", "-l"),
+            of("grep", MTP_PROTOCOL));
+
         Map<String, ? extends FileSystemRoot> rootsMap = concat(
             getDefaultFileSystemRoot()
                 .stream()
                 .filter(root -> !root.getMountPoint().startsWith("/tmp/")),
             concat(
-                listPartitions().stream()
+                listPartitions(partitionsOutput).stream()
                     .filter(root -> root.getType() != null &&
                         !IGNORED_FILESYSTEMS.contains(root.getType())),
-                getMtpFilesystemRoots().stream()))
+                getMtpFilesystemRoots(mtpMountFolderOutput, gioMountOutput).stream()))
             .collect(toMap(
                 FileSystemRoot::getId,
                 identity(),
@@ -145,9 +160,10 @@ public class LinuxFileSystem implements FileSystem {
         String[] mkdirCommand = of("mkdir", mountPoint);
         String[] mountCommand = of("mount", fileSystemRoot.getVolume(), mountPoint);
         try {
-            processExecutor.executePipelineWithPrivileges(new File(mountPoint).exists() ?
-                commands(mountCommand) :
-                commands(mkdirCommand, mountCommand));
+            processExecutor.executeAllWithPrivileges(asList(new File(mountPoint).exists() ?
+                    commands(mountCommand) :
+                    commands(mkdirCommand, mountCommand)))
+                .forEach(ProcessResult::successfulOutput);
             fileSystemRoot.setMountPoint(mountPoint);
         } catch (ProcessExecutionException ex) {
             if (ex.getProcessExitCode() != PERMISSION_DENIED) {
@@ -156,10 +172,9 @@ public class LinuxFileSystem implements FileSystem {
         }
     }
 
-    private List<? extends FileSystemRoot> listPartitions() {
-        //noinspection SpellCheckingInspection
-        return processExecutor.executeAndGetOutput("lsblk", "-J", "-b", "-o",
-                "UUID,NAME,LABEL,PATH,TYPE,SIZE,FSTYPE,RM,ROTA,HOTPLUG,VENDOR,MOUNTPOINT")
+    private List<? extends FileSystemRoot> listPartitions(final CompletableFuture<ProcessResult> partitionsOutput) {
+        return waitFor(partitionsOutput)
+            .successfulOutput()
             .map(this::getBlockDevices)
             .map(BlockDevices::getBlockDevices)
             .stream()
@@ -187,9 +202,10 @@ public class LinuxFileSystem implements FileSystem {
         }
     }
 
-    private List<MtpFileSystemRoot> getMtpFilesystemRoots() {
-        return getMtpMountFolder()
-            .map(mtpMountFolder -> getMtpMountedDevices()
+    private List<MtpFileSystemRoot> getMtpFilesystemRoots(final CompletableFuture<ProcessResult> mtpMountFolderOutput,
+                                                          final CompletableFuture<ProcessResult> gioMountOutput) {
+        return getMtpMountFolder(mtpMountFolderOutput)
+            .map(mtpMountFolder -> getMtpMountedDevices(gioMountOutput)
                 .entrySet()
                 .stream()
                 .map(entry -> new MtpFileSystemRoot(
@@ -202,8 +218,8 @@ public class LinuxFileSystem implements FileSystem {
             .orElseGet(Collections::emptyList);
     }
 
-    private Map<String, String> getMtpMountedDevices() {
-        return getGioMountOutput()
+    private Map<String, String> getMtpMountedDevices(final CompletableFuture<ProcessResult> gioMountOutput) {
+        return getOutputIgnoringExitCode(gioMountOutput)
             .map(output -> output.split("\\n"))
             .stream()
             .flatMap(Arrays::stream)
@@ -217,28 +233,30 @@ public class LinuxFileSystem implements FileSystem {
                 (key1, key2) -> key1));
     }
 
-    private Optional<String> getGioMountOutput() {
+    private Optional<String> getMtpMountFolder(final CompletableFuture<ProcessResult> mtpMountFolderOutput) {
+        return getOutputIgnoringExitCode(mtpMountFolderOutput)
+            .map(output -> output.split("\\s+"))
+            .stream()
+            .flatMap(Arrays::stream)
+            .reduce((first, second) -> second);
+    }
+
+    private Optional<String> getOutputIgnoringExitCode(final CompletableFuture<ProcessResult> processOutput) {
         try {
-            return processExecutor.executePipelineAndGetOutput(
-                of("gio", "mount", "-l"),
-                of("grep", MTP_PROTOCOL));
+            return ofNullable(waitFor(processOutput).output());
         } catch (ProcessExecutionException ex) {
             return ofNullable(ex.getOutput());
         }
     }
 
-    private Optional<String> getMtpMountFolder() {
+    private ProcessResult waitFor(final CompletableFuture<ProcessResult> processOutput) {
         try {
-            //noinspection SpellCheckingInspection
-            return processExecutor.executePipelineAndGetOutput(
-                    of("df", "-a"),
-                    of("grep", "gvfsd-fuse"))
-                .map(output -> output.split("\\s+"))
-                .stream()
-                .flatMap(Arrays::stream)
-                .reduce((first, second) -> second);
-        } catch (ProcessExecutionException ex) {
-            return ofNullable(ex.getOutput());
+            return processOutput.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof ProcessExecutionException processExecutionException) {
+                throw processExecutionException;
+            }
+            throw new ProcessExecutionException(ex.getCause());
         }
     }
 
@@ -267,7 +285,8 @@ public class LinuxFileSystem implements FileSystem {
                     (u, v) -> u,
                     FileCompatibleApplications::new));
 
-        processExecutor.executeAndGetOutput("xdg-mime", "query", "default", mimeType)
+        executeInSession("xdg-mime", "query", "default", mimeType)
+            .successfulOutput()
             .flatMap(applicationId -> stream(applicationId.split("\\n")).findFirst())
             .map(compatibleApplications::get)
             .ifPresent(compatibleApplications::setDefaultApplication);
@@ -278,24 +297,24 @@ public class LinuxFileSystem implements FileSystem {
     @Override
     public void setDefaultApplicationToExecuteFile(String applicationId, File file) {
         mimeTypeResolver.mimeType(file.toPath())
-            .ifPresent(mimeType -> processExecutor.execute("xdg-mime", "default", applicationId, mimeType));
+            .ifPresent(mimeType -> executeInSession("xdg-mime", "default", applicationId, mimeType));
     }
 
     @Override
     public boolean moveToTrash(File file) {
-        processExecutor.execute("gio", "trash", file.getAbsolutePath());
-        return true;
+        return executeInSession("gio", "trash", file.getAbsolutePath()).isSuccessful();
     }
 
     @Override
     public void copyPermissions(File fileSource, File fileTarget) {
-        processExecutor.execute(
+        executeSuccessfullyInSession(
             "chmod", "--reference=" + fileSource.getAbsolutePath(), fileTarget.getAbsolutePath());
     }
 
     @Override
     public FilePermissions getFilePermissions(final File file) {
-        return processExecutor.executeAndGetOutput("ls", "-ld", file.getAbsolutePath())
+        return executeInSession("ls", "-ld", file.getAbsolutePath())
+            .successfulOutput()
             .map(ls -> ls.split(" "))
             .filter(parts -> parts.length > 0)
             .map(parts -> FilePermissions.builder()
@@ -324,7 +343,8 @@ public class LinuxFileSystem implements FileSystem {
     }
 
     private Optional<String> getFileSystemTypeForFile(final File file) {
-        return processExecutor.executeAndGetOutput("df", "-T", file.getAbsolutePath())
+        return executeInSession("df", "-T", file.getAbsolutePath())
+            .successfulOutput()
             .map(output -> output.split("\\n"))
             .filter(lines -> lines.length > 1)
             .map(lines -> lines[1].split("\\s+"))
@@ -334,7 +354,7 @@ public class LinuxFileSystem implements FileSystem {
 
     @Override
     public void setPermissions(final File file, final FilePermissions permissions) {
-        processExecutor.execute("chmod", permissions.getNumberView(), file.getAbsolutePath());
+        executeSuccessfullyInSession("chmod", permissions.getNumberView(), file.getAbsolutePath());
     }
 
     @Override
@@ -342,18 +362,29 @@ public class LinuxFileSystem implements FileSystem {
     public void setOwnerForFile(final File file, final String ownerName, final String groupName) {
         if (groupName != null) {
             if (ownerName != null) {
-                processExecutor.execute("chown", ownerName + ":" + groupName, file.getAbsolutePath());
+                executeSuccessfullyInSession("chown", ownerName + ":" + groupName, file.getAbsolutePath());
             } else {
-                processExecutor.execute("chgrp", groupName, file.getAbsolutePath());
+                executeSuccessfullyInSession("chgrp", groupName, file.getAbsolutePath());
             }
         } else if (ownerName != null) {
-            processExecutor.execute("chown", ownerName, file.getAbsolutePath());
+            executeSuccessfullyInSession("chown", ownerName, file.getAbsolutePath());
+        }
+    }
+
+    private ProcessResult executeInSession(String... command) {
+        return processExecutor.executeAll(asList(commands(command))).getFirst();
+    }
+
+    private void executeSuccessfullyInSession(String... command) {
+        ProcessResult result = executeInSession(command);
+        if (!result.isSuccessful()) {
+            throw new ProcessExecutionException(result.exitCode(), result.output(), result.command());
         }
     }
 
     private String[] getAvailableGroupNames(final String ownerName) {
         return ofNullable(ownerName)
-            .flatMap(user -> processExecutor.executeAndGetOutput("groups", user))
+            .flatMap(user -> executeInSession("groups", user).successfulOutput())
             .map(output -> output.split(":"))
             .filter(parts -> parts.length > 1)
             .map(parts -> parts[1].trim().split("\\s+"))
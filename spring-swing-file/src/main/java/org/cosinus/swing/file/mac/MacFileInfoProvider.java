@@ -45,11 +45,11 @@ public class MacFileInfoProvider implements FileInfoProvider, ApplicationInitial
 
     private final Translator translator;
 
-    private Map<String, Application> applicationsMap;
+    private volatile Map<String, Application> applicationsMap;
 
-    private Map<String, Set<Application>> compatibleApplicationsMap;
+    private volatile Map<String, Set<Application>> compatibleApplicationsMap;
 
-    private Map<String, UniformType> uniformTypesMap;
+    private volatile Map<String, UniformType> uniformTypesMap;
 
     public MacFileInfoProvider(final ProcessExecutor processExecutor,
                                final Translator translator) {
@@ -65,6 +65,11 @@ public class MacFileInfoProvider implements FileInfoProvider, ApplicationInitial
         this.uniformTypesMap = buildUniformTypesMap(entries);
     }
 
+    @Override
+    public boolean runOnEventDispatchThread() {
+        return false;
+    }
+
     @Override
     @Cacheable("spring.swing.file.type.description")
     public Optional<String> getFileTypeDescription(final String uniformTypeIdentifier) {
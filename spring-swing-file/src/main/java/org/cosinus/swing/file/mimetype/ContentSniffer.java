@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.mimetype;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.file.channel.DirectBufferPool;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.cosinus.swing.format.FormatHandler.KILO_INT;
+import static org.springframework.util.MimeTypeUtils.APPLICATION_OCTET_STREAM;
+import static org.springframework.util.MimeTypeUtils.TEXT_PLAIN;
+import static org.springframework.util.MimeTypeUtils.parseMimeType;
+
+/**
+ * Detector of the file content type based on the first bytes of the file.
+ * <p>
+ * The magic signatures are compiled into one prefix trie per signature offset,
+ * so the header is matched against all signatures in a single pass.
+ * The header is read through a pooled direct buffer.
+ */
+@Slf4j
+public class ContentSniffer {
+
+    public static final int HEADER_SIZE = 4 * KILO_INT;
+
+    private static final int MAX_POOLED_HEADERS = 8;
+
+    private static final int MAX_CONTROL_CHARACTERS_PERCENT = 10;
+
+    /**
+     * Magic signature of a content type.
+     *
+     * @param offset   the offset of the signature in file
+     * @param bytes    the signature bytes
+     * @param mimeType the content type
+     */
+    public record MagicSignature(int offset, byte[] bytes, MimeType mimeType) {
+
+        public static MagicSignature signature(int offset, String bytes, String mimeType) {
+            return new MagicSignature(offset, bytes.getBytes(ISO_8859_1), parseMimeType(mimeType));
+        }
+
+        public static MagicSignature signature(String bytes, String mimeType) {
+            return signature(0, bytes, mimeType);
+        }
+    }
+
+    /**
+     * Detected content type.
+     *
+     * @param mimeType the content mime type
+     * @param text     true if the content is readable as text
+     */
+    public record ContentType(MimeType mimeType, boolean text) {
+    }
+
+    @SuppressWarnings("SpellCheckingInspection")
+    public static final List<MagicSignature> DEFAULT_SIGNATURES = List.of(
+        MagicSignature.signature("\u0089PNG\r\n\u001A\n", "image/png"),
+        MagicSignature.signature("\u00FF\u00D8\u00FF", "image/jpeg"),
+        MagicSignature.signature("GIF87a", "image/gif"),
+        MagicSignature.signature("GIF89a", "image/gif"),
+        MagicSignature.signature("II*\u0000", "image/tiff"),
+        MagicSignature.signature("MM\u0000*", "image/tiff"),
+        MagicSignature.signature("\u0000\u0000\u0001\u0000", "image/vnd.microsoft.icon"),
+        MagicSignature.signature("icns", "image/icns"),
+        MagicSignature.signature(8, "WEBP", "image/webp"),
+        MagicSignature.signature("<svg", "image/svg+xml"),
+        MagicSignature.signature("%PDF-", "application/pdf"),
+        MagicSignature.signature("%!PS", "application/postscript"),
+        MagicSignature.signature("{\\rtf", "application/rtf"),
+        MagicSignature.signature("<?xml", "application/xml"),
+        MagicSignature.signature("#!", "application/x-shellscript"),
+        MagicSignature.signature("PK\u0003\u0004", "application/zip"),
+        MagicSignature.signature("PK\u0005\u0006", "application/zip"),
+        MagicSignature.signature("\u001F\u008B", "application/gzip"),
+        MagicSignature.signature("BZh", "application/x-bzip2"),
+        MagicSignature.signature("\u00FD7zXZ\u0000", "application/x-xz"),
+        MagicSignature.signature("7z\u00BC\u00AF'\u001C", "application/x-7z-compressed"),
+        MagicSignature.signature("Rar!\u001A\u0007", "application/vnd.rar"),
+        MagicSignature.signature(257, "ustar", "application/x-tar"),
+        MagicSignature.signature("!<arch>\n", "application/x-archive"),
+        MagicSignature.signature("\u007FELF", "application/x-executable"),
+        MagicSignature.signature("\u00CA\u00FE\u00BA\u00BE", "application/java-vm"),
+        MagicSignature.signature("SQLite format 3\u0000", "application/vnd.sqlite3"),
+        MagicSignature.signature("\u00D0\u00CF\u0011\u00E0\u00A1\u00B1\u001A\u00E1", "application/x-ole-storage"),
+        MagicSignature.signature("ID3", "audio/mpeg"),
+        MagicSignature.signature("OggS", "audio/ogg"),
+        MagicSignature.signature("fLaC", "audio/flac"),
+        MagicSignature.signature(8, "WAVE", "audio/wav"),
+        MagicSignature.signature(4, "ftyp", "video/mp4"),
+        MagicSignature.signature("\u001AE\u00DF\u00A3", "video/x-matroska"),
+        MagicSignature.signature("\u00EF\u00BB\u00BF", "text/plain"),
+        MagicSignature.signature("\u00FF\u00FE", "text/plain"),
+        MagicSignature.signature("\u00FE\u00FF", "text/plain"));
+
+    private final Map<Integer, TrieNode> triesByOffset;
+
+    private final DirectBufferPool headerPool;
+
+    public ContentSniffer() {
+        this(DEFAULT_SIGNATURES);
+    }
+
+    public ContentSniffer(final List<MagicSignature> signatures) {
+        this.triesByOffset = new TreeMap<>();
+        this.headerPool = new DirectBufferPool(HEADER_SIZE, MAX_POOLED_HEADERS);
+        signatures.forEach(this::addSignature);
+    }
+
+    private void addSignature(final MagicSignature signature) {
+        TrieNode node = triesByOffset.computeIfAbsent(signature.offset(), offset -> new TrieNode());
+        for (byte value : signature.bytes()) {
+            node = node.child(value);
+        }
+        node.mimeType = signature.mimeType();
+    }
+
+    /**
+     * Detect the content type of a file.
+     *
+     * @param path the file path
+     * @return the detected content type, or {@link Optional#empty()} if the file cannot be read
+     */
+    public Optional<ContentType> sniff(final Path path) {
+        ByteBuffer header = headerPool.acquire();
+        try (FileChannel fileChannel = FileChannel.open(path, READ)) {
+            while (header.hasRemaining()) {
+                if (fileChannel.read(header) < 0) {
+                    break;
+                }
+            }
+            return sniff(header.flip());
+        } catch (IOException | SecurityException ex) {
+            log.debug("Failed to read the header of file: {}", path, ex);
+            return Optional.empty();
+        } finally {
+            headerPool.release(header);
+        }
+    }
+
+    /**
+     * Detect the content type of a file header.
+     * <p>
+     * The header is considered text if it contains no null byte and few control characters.
+     * When no magic signature matches, the content type is either plain text or binary.
+     *
+     * @param header the file header
+     * @return the detected content type, or {@link Optional#empty()} for an empty header
+     */
+    public Optional<ContentType> sniff(final ByteBuffer header) {
+        if (!header.hasRemaining()) {
+            return Optional.empty();
+        }
+        boolean text = isText(header);
+        MimeType mimeType = matchSignature(header)
+            .orElse(text ? TEXT_PLAIN : APPLICATION_OCTET_STREAM);
+        return Optional.of(new ContentType(mimeType, text || TEXT_PLAIN.getType().equals(mimeType.getType())));
+    }
+
+    private Optional<MimeType> matchSignature(final ByteBuffer header) {
+        MimeType matchedMimeType = null;
+        int matchedLength = 0;
+        for (Map.Entry<Integer, TrieNode> trie : triesByOffset.entrySet()) {
+            int offset = trie.getKey();
+            TrieNode node = trie.getValue();
+            for (int index = offset; index < header.limit() && node != null; index++) {
+                node = node.get(header.get(index));
+                if (node != null && node.mimeType != null && index - offset + 1 > matchedLength) {
+                    matchedMimeType = node.mimeType;
+                    matchedLength = index - offset + 1;
+                }
+            }
+        }
+        return Optional.ofNullable(matchedMimeType);
+    }
+
+    private boolean isText(final ByteBuffer header) {
+        int controlCharacters = 0;
+        for (int index = header.position(); index < header.limit(); index++) {
+            int value = header.get(index) & 0xFF;
+            if (value == 0) {
+                return false;
+            }
+            if (value < 0x20 && value != '\n' && value != '\r' && value != '\t' && value != '\f' && value != 0x1B) {
+                controlCharacters++;
+            }
+        }
+        return controlCharacters * 100 <= header.remaining() * MAX_CONTROL_CHARACTERS_PERCENT;
+    }
+
+    private static class TrieNode {
+
+        private TrieNode[] children;
+
+        private MimeType mimeType;
+
+        private TrieNode get(byte value) {
+            return children != null ? children[value & 0xFF] : null;
+        }
+
+        private TrieNode child(byte value) {
+            if (children == null) {
+                children = new TrieNode[256];
+            }
+            int index = value & 0xFF;
+            if (children[index] == null) {
+                children[index] = new TrieNode();
+            }
+            return children[index];
+        }
+    }
+}
@@ -24,6 +24,7 @@ import net.sf.jmimemagic.MagicMatchNotFoundException;
 import net.sf.jmimemagic.MagicParseException;
 import org.apache.commons.collections4.ListValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.cosinus.swing.file.mimetype.ContentSniffer.ContentType;
 import org.springframework.util.InvalidMimeTypeException;
 import org.springframework.util.MimeType;
 import org.springframework.util.StringUtils;
@@ -31,7 +32,10 @@ import org.springframework.util.StringUtils;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Arrays.stream;
@@ -83,10 +87,37 @@ public class MimeTypeResolver {
     public static final Set<String> SHELL_SCRIPT_TYPES =
         Set.of(SH, BAT);
 
+    public static final int DEFAULT_CONTENT_TYPE_CACHE_SIZE = 4096;
+
     private final ListValuedMap<String, MimeType> mimeTypesMap;
 
+    private final ContentSniffer contentSniffer;
+
+    private final Map<Path, CachedFileType<ContentType>> contentTypeCache;
+
+    private final Map<Path, CachedFileType<String>> probedContentTypeCache;
+
+    private final Map<Path, CachedFileType<MimeType>> magicMimeTypeCache;
+
     public MimeTypeResolver() {
-        mimeTypesMap = initMimeTypes();
+        this(new ContentSniffer(), DEFAULT_CONTENT_TYPE_CACHE_SIZE);
+    }
+
+    public MimeTypeResolver(final ContentSniffer contentSniffer, int contentTypeCacheSize) {
+        this.mimeTypesMap = initMimeTypes();
+        this.contentSniffer = contentSniffer;
+        this.contentTypeCache = createFileTypeCache(contentTypeCacheSize);
+        this.probedContentTypeCache = createFileTypeCache(contentTypeCacheSize);
+        this.magicMimeTypeCache = createFileTypeCache(contentTypeCacheSize);
+    }
+
+    private static <T> Map<Path, CachedFileType<T>> createFileTypeCache(int cacheSize) {
+        return new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, CachedFileType<T>> eldest) {
+                return size() > cacheSize;
+            }
+        };
     }
 
     public ListValuedMap<String, MimeType> initMimeTypes() {
@@ -146,8 +177,21 @@ public class MimeTypeResolver {
             .orElseGet(Collections::emptyList);
     }
 
+    /**
+     * Check if a file is text.
+     * <p>
+     * If the file extension is not known, the file content is checked.
+     *
+     * @param path the file to check
+     * @return true if the file is text
+     */
     public boolean isTextCompatible(Path path) {
-        return isCompatible(path, TEXT);
+        List<MimeType> mimeTypes = getMimeTypes(path, false);
+        return mimeTypes.isEmpty() ?
+            getContentType(path)
+                .map(ContentType::text)
+                .orElse(false) :
+            mimeTypes.stream().anyMatch(TEXT::isCompatibleWith);
     }
 
     public boolean isImageCompatible(Path path) {
@@ -158,10 +202,89 @@ public class MimeTypeResolver {
         return isCompatible(path, APPLICATION);
     }
 
+    /**
+     * Check if a file is compatible with a mime type.
+     * <p>
+     * If the file extension is not known, the file content type is checked.
+     *
+     * @param path     the file to check
+     * @param mimeType the mime type
+     * @return true if the file is compatible with the mime type
+     */
     public boolean isCompatible(Path path, MimeType mimeType) {
-        return getMimeTypes(path, false)
-            .stream()
-            .anyMatch(mimeType::isCompatibleWith);
+        List<MimeType> mimeTypes = getMimeTypes(path, false);
+        return mimeTypes.isEmpty() ?
+            getContentType(path)
+                .map(ContentType::mimeType)
+                .filter(mimeType::isCompatibleWith)
+                .isPresent() :
+            mimeTypes.stream().anyMatch(mimeType::isCompatibleWith);
+    }
+
+    /**
+     * Get the content type of a file detected from the first bytes of the file.
+     * <p>
+     * The results are cached per file, as long as the file size and modification time are unchanged.
+     *
+     * @param path the file
+     * @return the content type, or {@link Optional#empty()} if the file is not a readable regular file
+     */
+    public Optional<ContentType> getContentType(Path path) {
+        return getCachedFileType(contentTypeCache, path, contentSniffer::sniff);
+    }
+
+    /**
+     * Get a type of a regular file from a cache,
+     * or resolve it if the file size or modification time changed since it was cached.
+     *
+     * @param cache    the cache of the file types
+     * @param path     the file
+     * @param resolver the resolver of the file type
+     * @param <T>      the file type
+     * @return the file type, or {@link Optional#empty()} if the file is not a readable regular file
+     */
+    private <T> Optional<T> getCachedFileType(Map<Path, CachedFileType<T>> cache,
+                                              Path path,
+                                              Function<Path, Optional<T>> resolver) {
+        if (path == null) {
+            return Optional.empty();
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException | SecurityException ex) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        Path key = path.toAbsolutePath();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        CachedFileType<T> cachedFileType;
+        synchronized (cache) {
+            cachedFileType = cache.get(key);
+        }
+        if (cachedFileType == null ||
+            cachedFileType.lastModified() != lastModified ||
+            cachedFileType.size() != attributes.size()) {
+            cachedFileType = new CachedFileType<>(lastModified, attributes.size(),
+                resolver.apply(path).orElse(null));
+            synchronized (cache) {
+                cache.put(key, cachedFileType);
+            }
+        }
+        return ofNullable(cachedFileType.fileType());
+    }
+
+    public void clearContentTypeCache() {
+        Stream.of(contentTypeCache, probedContentTypeCache, magicMimeTypeCache)
+            .forEach(cache -> {
+                synchronized (cache) {
+                    cache.clear();
+                }
+            });
     }
 
     /**
@@ -188,34 +311,69 @@ public class MimeTypeResolver {
         return getMimeTypes(path, false).isEmpty();
     }
 
+    /**
+     * Get the mime type of a file, probed by the file system or else detected by a magic signature.
+     * <p>
+     * The results are cached per file, as long as the file size and modification time are unchanged.
+     *
+     * @param path the file
+     * @return the mime type, or {@link Optional#empty()} if not found
+     */
     public Optional<String> mimeType(Path path) {
-        return ofNullable(path)
-            .map(Path::toFile)
-            .filter(not(File::isDirectory))
-            .flatMap(file -> ofNullable(getFileContentType(file.toPath()))
-                .or(() -> getMagicMimeType(file)
-                    .map(Objects::toString)));
+        return getCachedFileType(probedContentTypeCache, path, this::getFileContentType)
+            .or(() -> getCachedFileType(magicMimeTypeCache, path, this::getMagicMatchMimeType)
+                .map(Objects::toString));
     }
 
-    private String getFileContentType(Path path) {
+    /**
+     * Get the content mime type detected by a magic signature.
+     * <p>
+     * The generic text and binary content types are ignored,
+     * so the magic matcher can still detect a more specific type.
+     */
+    private Optional<MimeType> getSpecificContentMimeType(Path path) {
+        return getContentType(path)
+            .map(ContentType::mimeType)
+            .filter(not(APPLICATION_OCTET_STREAM::equals))
+            .filter(not(TEXT_PLAIN::equals));
+    }
+
+    private Optional<String> getFileContentType(Path path) {
         try {
-            return Files.probeContentType(path);
+            return ofNullable(Files.probeContentType(path));
         } catch (IOException ex) {
             log.error("Failed to probe the file content type for path: {}", path);
-            return null;
+            return Optional.empty();
         }
     }
 
+    /**
+     * Get the mime type of a file detected by a magic signature.
+     * <p>
+     * The results are cached per file, as long as the file size and modification time are unchanged.
+     *
+     * @param file the file
+     * @return the mime type, or {@link Optional#empty()} if not found
+     */
     public Optional<MimeType> getMagicMimeType(File file) {
+        return getCachedFileType(magicMimeTypeCache, file.toPath(), this::getMagicMatchMimeType);
+    }
+
+    private Optional<MimeType> getMagicMatchMimeType(Path path) {
+        Optional<MimeType> contentMimeType = getSpecificContentMimeType(path);
+        if (contentMimeType.isPresent()) {
+            return contentMimeType;
+        }
         try {
-            return ofNullable(getMagicMatch(file, true))
+            return ofNullable(getMagicMatch(path.toFile(), true))
                 .map(MagicMatch::getMimeType)
                 .flatMap(this::getMimeType);
         } catch (MagicMatchNotFoundException | MagicException | MagicParseException e) {
-            log.error("Failed to match a mime type for path: {}", file);
+            log.error("Failed to match a mime type for path: {}", path);
             return Optional.empty();
         }
     }
 
-
+    private record CachedFileType<T>(long lastModified, long size, T fileType) {
+    }
 }
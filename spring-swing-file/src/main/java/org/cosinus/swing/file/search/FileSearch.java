@@ -0,0 +1,372 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.search;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.file.mimetype.MimeTypeResolver;
+import org.cosinus.swing.file.walk.FileEntry;
+import org.cosinus.swing.file.walk.FileWalk;
+import org.cosinus.swing.find.FindText;
+import org.cosinus.swing.find.LiteralSearcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.cosinus.swing.file.walk.FileWalk.LinkPolicy.SKIP;
+import static org.cosinus.swing.format.FormatHandler.KILO_INT;
+
+/**
+ * Running search of a text in the files of a folder tree.
+ * <p>
+ * The folders are walked in parallel by a {@link FileWalk} and each text file is streamed line by line,
+ * so the memory used does not depend on the file sizes.
+ * The hits are passed to the consumer through a bounded buffer:
+ * when the consumer is slower, the search waits instead of piling up hits.
+ * If the consumer stops taking hits for longer than {@link #ABANDONED_CONSUMER_TIMEOUT_MILLIS},
+ * the search is cancelled.
+ * Only the first {@link #MAX_LINE_LENGTH} characters of a line are searched,
+ * so a huge file without line breaks is never loaded in memory.
+ */
+@Slf4j
+public class FileSearch implements AutoCloseable {
+
+    private static final FileSearchHit END_OF_SEARCH = new FileSearchHit(null, 0, 0, 0, null);
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private static final int SEARCH_BATCH_SIZE = 16;
+
+    public static final long ABANDONED_CONSUMER_TIMEOUT_MILLIS = 60_000;
+
+    public static final int MAX_LINE_LENGTH = 64 * KILO_INT;
+
+    @Getter
+    private final Path root;
+
+    @Getter
+    private final FindText findText;
+
+    private final MimeTypeResolver mimeTypeResolver;
+
+    private final LiteralSearcher literalSearcher;
+
+    private final Pattern pattern;
+
+    private final BlockingQueue<FileSearchHit> hits;
+
+    private final FileWalk fileWalk;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    private final LongAdder fileCount = new LongAdder();
+
+    private final LongAdder searchedFileCount = new LongAdder();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private volatile boolean done;
+
+    private volatile long lastConsumerActivity;
+
+    public FileSearch(final Path root,
+                      final FindText findText,
+                      final MimeTypeResolver mimeTypeResolver,
+                      int hitsBufferSize,
+                      int parallelism) {
+        this.root = root;
+        this.findText = findText;
+        this.mimeTypeResolver = mimeTypeResolver;
+        this.literalSearcher = findText.isRegularExpression() ? null : new LiteralSearcher(findText);
+        this.pattern = findText.isRegularExpression() ? findText.toPattern() : null;
+        this.hits = new ArrayBlockingQueue<>(hitsBufferSize);
+        this.fileWalk = new FileWalk(root)
+            .linkPolicy(SKIP)
+            .batchSize(SEARCH_BATCH_SIZE)
+            .parallelism(parallelism);
+    }
+
+    /**
+     * Start the search in background, if not started already.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            lastConsumerActivity = System.nanoTime();
+            Thread.ofVirtual().name("file-search").start(() -> {
+                try {
+                    fileWalk.run(batch -> {
+                        List<FileEntry> files = batch.stream()
+                            .filter(FileEntry::isRegularFile)
+                            .toList();
+                        fileCount.add(files.size());
+                        files.forEach(file -> searchFile(file.path()));
+                    });
+                } finally {
+                    done = true;
+                    addHit(END_OF_SEARCH);
+                }
+            });
+        }
+    }
+
+    /**
+     * Start the search and get the stream of hits.
+     * <p>
+     * The stream ends when the search is finished or cancelled.
+     * Closing the stream cancels the search.
+     *
+     * @return the stream of hits
+     */
+    public Stream<FileSearchHit> stream() {
+        start();
+        return StreamSupport.stream(new HitsSpliterator(), false)
+            .onClose(this::cancel);
+    }
+
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            fileWalk.cancel();
+            hits.clear();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public boolean isDone() {
+        return done || cancelled.get();
+    }
+
+    /**
+     * Get the number of files found so far.
+     *
+     * @return the number of found files
+     */
+    public long getFileCount() {
+        return fileCount.sum();
+    }
+
+    /**
+     * Get the number of files already searched or skipped.
+     *
+     * @return the number of searched files
+     */
+    public long getSearchedFileCount() {
+        return searchedFileCount.sum();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    @Override
+    public void close() {
+        cancel();
+    }
+
+    private void searchFile(final Path file) {
+        try {
+            if (!cancelled.get() && isTextFile(file)) {
+                try (LineReader reader = new LineReader(
+                    new InputStreamReader(Files.newInputStream(file), newDecoder()), MAX_LINE_LENGTH)) {
+                    Matcher matcher = pattern != null ? pattern.matcher("") : null;
+                    String line;
+                    int lineNumber = 0;
+                    while (!cancelled.get() && (line = reader.readLine()) != null) {
+                        lineNumber++;
+                        if (matcher != null) {
+                            searchLine(file, lineNumber, line, matcher.reset(line));
+                        } else {
+                            searchLine(file, lineNumber, line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException | SecurityException ex) {
+            log.debug("Failed to search in file: {}", file, ex);
+        } finally {
+            searchedFileCount.increment();
+        }
+    }
+
+    private void searchLine(final Path file, int lineNumber, final String line) {
+        int position = 0;
+        while ((position = literalSearcher.indexOf(line, position)) >= 0) {
+            addHit(new FileSearchHit(file, lineNumber, position, literalSearcher.length(), line));
+            position += max(1, literalSearcher.length());
+        }
+    }
+
+    private void searchLine(final Path file, int lineNumber, final String line, final Matcher matcher) {
+        while (matcher.find()) {
+            addHit(new FileSearchHit(file, lineNumber, matcher.start(), matcher.end() - matcher.start(), line));
+        }
+    }
+
+    private boolean isTextFile(final Path file) {
+        return mimeTypeResolver.isTextCompatible(file);
+    }
+
+    private CharsetDecoder newDecoder() {
+        return UTF_8.newDecoder()
+            .onMalformedInput(REPLACE)
+            .onUnmappableCharacter(REPLACE);
+    }
+
+    private void addHit(final FileSearchHit hit) {
+        try {
+            while (!cancelled.get()) {
+                if (hits.offer(hit, POLL_TIMEOUT_MILLIS, MILLISECONDS)) {
+                    if (hit != END_OF_SEARCH) {
+                        hitCount.increment();
+                    }
+                    return;
+                }
+                if (isConsumerAbandoned()) {
+                    log.debug("Cancel the search of {} in {}: hits are no longer consumed", findText, root);
+                    cancel();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isConsumerAbandoned() {
+        return System.nanoTime() - lastConsumerActivity >
+            MILLISECONDS.toNanos(ABANDONED_CONSUMER_TIMEOUT_MILLIS);
+    }
+
+    private class HitsSpliterator extends Spliterators.AbstractSpliterator<FileSearchHit> {
+
+        private HitsSpliterator() {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super FileSearchHit> action) {
+            try {
+                while (!cancelled.get()) {
+                    lastConsumerActivity = System.nanoTime();
+                    FileSearchHit hit = hits.poll(POLL_TIMEOUT_MILLIS, MILLISECONDS);
+                    if (hit == END_OF_SEARCH) {
+                        return false;
+                    }
+                    if (hit != null) {
+                        action.accept(hit);
+                        return true;
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancel();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Line reader keeping only the first characters of each line.
+     * <p>
+     * Unlike {@link BufferedReader#readLine()}, the memory used does not grow with the line length:
+     * the characters after the maximum line length are skipped.
+     */
+    private static class LineReader implements AutoCloseable {
+
+        private final Reader reader;
+
+        private final int maxLineLength;
+
+        private final char[] buffer = new char[8 * KILO_INT];
+
+        private int position;
+
+        private int limit;
+
+        private boolean skipLineFeed;
+
+        private LineReader(final Reader reader, int maxLineLength) {
+            this.reader = reader;
+            this.maxLineLength = maxLineLength;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            boolean empty = true;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return empty ? null : line.toString();
+                    }
+                }
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (buffer[position] == '\n') {
+                        position++;
+                        continue;
+                    }
+                }
+                empty = false;
+                int start = position;
+                while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                    position++;
+                }
+                line.append(buffer, start, min(position - start, max(0, maxLineLength - line.length())));
+                if (position < limit) {
+                    skipLineFeed = buffer[position++] == '\r';
+                    return line.toString();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.search;
+
+import java.nio.file.Path;
+
+/**
+ * A text found in a file.
+ *
+ * @param path       the file path
+ * @param lineNumber the line number, starting with 1
+ * @param offset     the offset of the found text in line
+ * @param length     the length of the found text
+ * @param line       the line containing the found text
+ */
+public record FileSearchHit(Path path, int lineNumber, int offset, int length, String line) {
+}
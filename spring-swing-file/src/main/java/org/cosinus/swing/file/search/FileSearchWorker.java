@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.search;
+
+import org.cosinus.swing.progress.ProgressModel;
+import org.cosinus.swing.worker.StreamWorker;
+import org.cosinus.swing.worker.WorkerModel;
+
+/**
+ * Worker publishing the hits of a file search to a worker model.
+ * <p>
+ * The progress is the number of searched files out of the files found so far.
+ */
+public class FileSearchWorker extends StreamWorker<WorkerModel<FileSearchHit>, FileSearchHit, ProgressModel> {
+
+    public static final String SEARCH_FILES_ACTION_ID = "search-files";
+
+    private final FileSearch fileSearch;
+
+    public FileSearchWorker(final WorkerModel<FileSearchHit> model, final FileSearch fileSearch) {
+        super(SEARCH_FILES_ACTION_ID,
+            model,
+            fileSearch::stream,
+            new ProgressModel());
+        this.fileSearch = fileSearch;
+    }
+
+    @Override
+    public void afterPipelineDataConsume(FileSearchHit hit) {
+        updateProgress(progress -> progress.updateProgress(
+            fileSearch.getSearchedFileCount(),
+            fileSearch.getFileCount()));
+    }
+
+    @Override
+    public boolean cancel() {
+        fileSearch.cancel();
+        return super.cancel();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.search;
+
+import org.cosinus.swing.file.mimetype.MimeTypeResolver;
+import org.cosinus.swing.find.FindText;
+
+import java.nio.file.Path;
+
+/**
+ * Service for searching a text in the files of a folder tree.
+ * <p>
+ * The text to find has the same meaning as in the text editor find:
+ * literal or regular expression, case sensitive or not, whole word or not.
+ * The binary files are skipped.
+ */
+public class FileSearcher {
+
+    public static final int DEFAULT_HITS_BUFFER_SIZE = 1024;
+
+    private final MimeTypeResolver mimeTypeResolver;
+
+    private final int hitsBufferSize;
+
+    private final int parallelism;
+
+    public FileSearcher(final MimeTypeResolver mimeTypeResolver) {
+        this(mimeTypeResolver, DEFAULT_HITS_BUFFER_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public FileSearcher(final MimeTypeResolver mimeTypeResolver, int hitsBufferSize, int parallelism) {
+        if (hitsBufferSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Hits buffer size and parallelism must be positive");
+        }
+        this.mimeTypeResolver = mimeTypeResolver;
+        this.hitsBufferSize = hitsBufferSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create a search of a text in the files of a folder tree.
+     * <p>
+     * The search starts when its stream of hits is opened.
+     *
+     * @param root     the folder to search in, or a single file
+     * @param findText the text to find
+     * @return the search
+     * @throws IllegalArgumentException if the text is an invalid regular expression
+     */
+    public FileSearch search(final Path root, final FindText findText) {
+        return new FileSearch(root, findText, mimeTypeResolver, hitsBufferSize, parallelism);
+    }
+}
@@ -0,0 +1,565 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.transfer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.error.AbortActionException;
+import org.cosinus.swing.file.walk.FileEntry;
+import org.cosinus.swing.file.walk.FileWalk;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.Math.min;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.cosinus.swing.file.walk.FileWalk.LinkPolicy.LIST;
+import static org.cosinus.swing.format.FormatHandler.MEGA;
+
+/**
+ * Copy or move of files and folder trees into a target folder.
+ * <p>
+ * The file contents are copied with {@link FileChannel#transferTo},
+ * which lets the kernel copy the data without passing it through the heap.
+ * The large files are copied one by one, chunk by chunk, while the small files
+ * are copied in parallel on a bounded pool.
+ * The times, read from the attributes already fetched while walking the sources,
+ * and, when both file systems support them, the POSIX permissions are preserved.
+ * <p>
+ * A move is done by renaming the sources when possible,
+ * otherwise by copying and then deleting the sources.
+ * <p>
+ * When a journal file is set, the transferred files are recorded in it,
+ * so an interrupted transfer run again with the same journal skips the files already transferred
+ * and continues the large files from the last transferred chunk.
+ * Only the target files created by the interrupted transfer are overwritten, unless the existing files are replaced.
+ * The sources missing when resuming a move were already renamed by the interrupted transfer, so they are skipped.
+ */
+@Slf4j
+public class FileTransfer {
+
+    public static final long DEFAULT_LARGE_FILE_SIZE = 4 * MEGA;
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    public static final long TRANSFER_CHUNK_SIZE = 16 * MEGA;
+
+    private static final long PROGRESS_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+    private static final String POSIX_ATTRIBUTE_VIEW = "posix";
+
+    /**
+     * A file or folder to transfer.
+     *
+     * @param source       the source path
+     * @param target       the target path
+     * @param relativePath the target path relative to the target folder
+     * @param attributes   the source attributes
+     */
+    private record TransferItem(Path source, Path target, String relativePath, BasicFileAttributes attributes) {
+
+        private int depth() {
+            return target.getNameCount();
+        }
+    }
+
+    private final List<Path> sources;
+
+    @Getter
+    private final Path targetFolder;
+
+    private boolean move;
+
+    private boolean replaceExisting;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private long largeFileSize = DEFAULT_LARGE_FILE_SIZE;
+
+    private Path journalFile;
+
+    private FileTransferListener listener;
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    private final Object pauseLock = new Object();
+
+    private final LongAdder transferredBytes = new LongAdder();
+
+    private final AtomicLong lastProgressTime = new AtomicLong();
+
+    @Getter
+    private volatile boolean paused;
+
+    @Getter
+    private volatile long totalBytes;
+
+    private FileTransferJournal journal;
+
+    private boolean resuming;
+
+    public FileTransfer(final List<Path> sources, final Path targetFolder) {
+        this.sources = List.copyOf(sources);
+        this.targetFolder = targetFolder;
+    }
+
+    public FileTransfer move(boolean move) {
+        this.move = move;
+        return this;
+    }
+
+    public FileTransfer replaceExisting(boolean replaceExisting) {
+        this.replaceExisting = replaceExisting;
+        return this;
+    }
+
+    public FileTransfer parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Set the size from which a file is copied alone, chunk by chunk, instead of in parallel with other files.
+     *
+     * @param largeFileSize the large file size, in bytes
+     * @return this transfer
+     */
+    public FileTransfer largeFileSize(long largeFileSize) {
+        this.largeFileSize = largeFileSize;
+        return this;
+    }
+
+    public FileTransfer journal(final Path journalFile) {
+        this.journalFile = journalFile;
+        return this;
+    }
+
+    /**
+     * Set the listener of the transfer progress.
+     * <p>
+     * The listener is called from the transferring threads, at most every 100 milliseconds.
+     *
+     * @param listener the progress listener
+     * @return this transfer
+     */
+    public FileTransfer listener(final FileTransferListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Run the transfer and wait for it to finish.
+     *
+     * @throws IOException           if a file cannot be transferred, or a source folder cannot be read
+     * @throws AbortActionException  if the transfer was cancelled
+     * @throws IllegalStateException if the transfer was already run
+     */
+    public void run() throws IOException {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The transfer was already run: " + targetFolder);
+        }
+        journal = journalFile != null ? new FileTransferJournal(journalFile) : null;
+        try {
+            resuming = journal != null && journal.load();
+            List<Path> sourcesToCopy = move && !resuming ? moveByRenaming() : sources;
+            transfer(sourcesToCopy);
+            if (journal != null) {
+                journal.delete();
+            }
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+    }
+
+    public void pause() {
+        paused = true;
+        flushJournal();
+    }
+
+    public void resume() {
+        synchronized (pauseLock) {
+            paused = false;
+            pauseLock.notifyAll();
+        }
+    }
+
+    public void cancel() {
+        synchronized (pauseLock) {
+            cancelled.set(true);
+            pauseLock.notifyAll();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes.sum();
+    }
+
+    private List<Path> moveByRenaming() {
+        List<Path> sourcesToCopy = new ArrayList<>();
+        for (Path source : sources) {
+            Path target = resolveTarget(source);
+            try {
+                if (Files.exists(target, NOFOLLOW_LINKS)) {
+                    sourcesToCopy.add(source);
+                } else {
+                    Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } catch (IOException ex) {
+                log.debug("Cannot rename {} to {}, moving by copy", source, target, ex);
+                sourcesToCopy.add(source);
+            }
+        }
+        return sourcesToCopy;
+    }
+
+    private void transfer(final List<Path> sourcesToCopy) throws IOException {
+        Queue<TransferItem> folders = new ConcurrentLinkedQueue<>();
+        Queue<TransferItem> files = new ConcurrentLinkedQueue<>();
+        Queue<TransferItem> links = new ConcurrentLinkedQueue<>();
+        for (Path source : sourcesToCopy) {
+            if (resuming && move && !Files.exists(source, NOFOLLOW_LINKS)) {
+                log.debug("Skip the source already moved by the interrupted transfer: {}", source);
+                continue;
+            }
+            Path target = resolveTarget(source);
+            checkTarget(source, target);
+            FileWalk sourceWalk = new FileWalk(source);
+            sourceWalk
+                .linkPolicy(LIST)
+                .run(batch -> batch.forEach(entry -> {
+                    TransferItem item = createItem(source, target, entry);
+                    if (entry.isDirectory()) {
+                        folders.add(item);
+                    } else if (entry.isSymbolicLink()) {
+                        links.add(item);
+                    } else if (entry.isRegularFile()) {
+                        files.add(item);
+                    }
+                }));
+            if (sourceWalk.getErrorCount() > 0) {
+                throw new FileSystemException(source.toString(), null,
+                    "Cannot read " + sourceWalk.getErrorCount() + " of the files or folders to transfer");
+            }
+        }
+        totalBytes = files.stream()
+            .mapToLong(item -> item.attributes().size())
+            .sum();
+        reportProgress(true);
+
+        List<TransferItem> sortedFolders = folders.stream()
+            .sorted(comparingInt(TransferItem::depth))
+            .toList();
+        for (TransferItem folder : sortedFolders) {
+            Files.createDirectories(folder.target());
+        }
+        copyFiles(files);
+        for (TransferItem link : links) {
+            if (!isStopped()) {
+                copyLink(link);
+            }
+        }
+        checkStopped();
+
+        for (TransferItem folder : sortedFolders.reversed()) {
+            copyAttributes(folder);
+        }
+        if (move) {
+            deleteSources(files, links, sortedFolders);
+        }
+        reportProgress(true);
+    }
+
+    private void checkTarget(final Path source, final Path target) throws IOException {
+        Path absoluteSource = source.toAbsolutePath().normalize();
+        Path absoluteTarget = target.toAbsolutePath().normalize();
+        if (absoluteTarget.startsWith(absoluteSource) ||
+            Files.exists(target, NOFOLLOW_LINKS) && Files.isSameFile(source, target)) {
+            throw new FileSystemException(source.toString(), target.toString(), "Cannot transfer a file into itself");
+        }
+    }
+
+    private TransferItem createItem(final Path source, final Path target, final FileEntry entry) {
+        String relativePath = source.relativize(entry.path()).toString();
+        Path itemTarget = relativePath.isEmpty() ? target : target.resolve(relativePath);
+        return new TransferItem(entry.path(),
+            itemTarget,
+            targetFolder.relativize(itemTarget).toString(),
+            entry.attributes());
+    }
+
+    private Path resolveTarget(final Path source) {
+        return targetFolder.resolve(source.getFileName().toString());
+    }
+
+    private void copyFiles(final Collection<TransferItem> files) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform()
+            .name("file-transfer-", 0)
+            .daemon()
+            .factory());
+        try {
+            List<Future<?>> smallFileCopies = files.stream()
+                .filter(item -> item.attributes().size() < largeFileSize)
+                .<Future<?>>map(item -> executor.submit(() -> copyFileOrFail(item)))
+                .toList();
+            files.stream()
+                .filter(item -> item.attributes().size() >= largeFileSize)
+                .forEach(this::copyFileOrFail);
+            for (Future<?> copy : smallFileCopies) {
+                copy.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+        } catch (ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        checkStopped();
+    }
+
+    private void copyFileOrFail(final TransferItem item) {
+        try {
+            copyFile(item);
+        } catch (IOException | UncheckedIOException | SecurityException ex) {
+            IOException error = ex instanceof IOException ioException ? ioException :
+                ex instanceof UncheckedIOException uncheckedException ? uncheckedException.getCause() :
+                    new IOException(ex);
+            failure.compareAndSet(null, error);
+        }
+    }
+
+    private void copyFile(final TransferItem item) throws IOException {
+        if (isStopped()) {
+            return;
+        }
+        if (journal != null && journal.isDone(item.relativePath())) {
+            addTransferredBytes(item.attributes().size());
+            return;
+        }
+        long offset = journal != null ? journal.getOffset(item.relativePath()) : 0;
+        boolean large = item.attributes().size() >= largeFileSize;
+        try (FileChannel sourceChannel = FileChannel.open(item.source(), READ);
+             FileChannel targetChannel = openTarget(item, offset)) {
+            long size = sourceChannel.size();
+            long position = 0;
+            if (offset > 0) {
+                position = min(min(offset, targetChannel.size()), size);
+                targetChannel.truncate(position);
+                targetChannel.position(position);
+                addTransferredBytes(position);
+            }
+            while (position < size) {
+                if (isStopped()) {
+                    return;
+                }
+                long count = sourceChannel.transferTo(position, min(TRANSFER_CHUNK_SIZE, size - position), targetChannel);
+                if (count <= 0) {
+                    break;
+                }
+                position += count;
+                addTransferredBytes(count);
+                if (large && journal != null) {
+                    journal.recordProgress(item.relativePath(), position);
+                }
+            }
+        }
+        copyAttributes(item);
+        if (journal != null) {
+            journal.recordDone(item.relativePath());
+        }
+    }
+
+    /**
+     * Open the target file, failing if it exists unless it is replaced or was created by the resumed transfer.
+     * <p>
+     * The existence check is done by the open itself, saving a system call per file.
+     * A created file is recorded in the journal, so only the files created by the transfer
+     * are overwritten when it is resumed.
+     */
+    private FileChannel openTarget(final TransferItem item, long offset) throws IOException {
+        if (offset > 0) {
+            return FileChannel.open(item.target(), WRITE, CREATE);
+        }
+        if (replaceExisting || resuming && journal.isStarted(item.relativePath())) {
+            return FileChannel.open(item.target(), WRITE, CREATE, TRUNCATE_EXISTING);
+        }
+        FileChannel targetChannel = FileChannel.open(item.target(), WRITE, CREATE_NEW);
+        if (journal != null) {
+            try {
+                journal.recordStarted(item.relativePath());
+            } catch (IOException ex) {
+                targetChannel.close();
+                throw ex;
+            }
+        }
+        return targetChannel;
+    }
+
+    /**
+     * Copy a symbolic link.
+     * <p>
+     * When resuming, a link already copied by the interrupted transfer is kept.
+     */
+    private void copyLink(final TransferItem link) throws IOException {
+        Path linkTarget = Files.readSymbolicLink(link.source());
+        if (Files.exists(link.target(), NOFOLLOW_LINKS)) {
+            if (resuming &&
+                Files.isSymbolicLink(link.target()) &&
+                Files.readSymbolicLink(link.target()).equals(linkTarget)) {
+                return;
+            }
+            if (!replaceExisting) {
+                throw new FileAlreadyExistsException(link.target().toString());
+            }
+            Files.delete(link.target());
+        }
+        Files.createSymbolicLink(link.target(), linkTarget);
+    }
+
+    /**
+     * Copy the times and the POSIX permissions of a file.
+     * <p>
+     * The walked attributes are only the basic ones, so the permissions are read from the source,
+     * when both the source and the target file systems support them.
+     */
+    private void copyAttributes(final TransferItem item) throws IOException {
+        BasicFileAttributes attributes = item.attributes();
+        Files.getFileAttributeView(item.target(), BasicFileAttributeView.class, NOFOLLOW_LINKS)
+            .setTimes(attributes.lastModifiedTime(), attributes.lastAccessTime(), attributes.creationTime());
+        if (supportsPosixPermissions(item.source()) && supportsPosixPermissions(item.target())) {
+            try {
+                Files.setPosixFilePermissions(item.target(),
+                    Files.getPosixFilePermissions(item.source(), NOFOLLOW_LINKS));
+            } catch (UnsupportedOperationException ex) {
+                log.debug("Cannot set the permissions of file: {}", item.target());
+            }
+        }
+    }
+
+    private boolean supportsPosixPermissions(final Path path) {
+        return path.getFileSystem()
+            .supportedFileAttributeViews()
+            .contains(POSIX_ATTRIBUTE_VIEW);
+    }
+
+    private void deleteSources(final Collection<TransferItem> files,
+                               final Collection<TransferItem> links,
+                               final List<TransferItem> sortedFolders) throws IOException {
+        for (TransferItem file : files) {
+            Files.deleteIfExists(file.source());
+        }
+        for (TransferItem link : links) {
+            Files.deleteIfExists(link.source());
+        }
+        for (TransferItem folder : sortedFolders.reversed()) {
+            Files.deleteIfExists(folder.source());
+        }
+    }
+
+    private void addTransferredBytes(long count) {
+        transferredBytes.add(count);
+        reportProgress(false);
+    }
+
+    private void reportProgress(boolean force) {
+        if (listener == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long lastTime = lastProgressTime.get();
+        if (force || now - lastTime >= PROGRESS_INTERVAL_NANOS && lastProgressTime.compareAndSet(lastTime, now)) {
+            listener.transferProgressed(getTransferredBytes(), totalBytes);
+        }
+    }
+
+    /**
+     * Wait while the transfer is paused.
+     *
+     * @return true if the transfer is cancelled or failed
+     */
+    private boolean isStopped() {
+        if (paused) {
+            synchronized (pauseLock) {
+                while (paused && !cancelled.get()) {
+                    try {
+                        pauseLock.wait();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        cancelled.set(true);
+                    }
+                }
+            }
+        }
+        return cancelled.get() || failure.get() != null;
+    }
+
+    private void checkStopped() throws IOException {
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        if (cancelled.get()) {
+            flushJournal();
+            throw new AbortActionException("File transfer cancelled");
+        }
+    }
+
+    private void flushJournal() {
+        try {
+            if (journal != null) {
+                journal.flush();
+            }
+        } catch (IOException ex) {
+            log.warn("Failed to flush the file transfer journal: {}", journalFile, ex);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.transfer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Journal of a file transfer, used to resume an interrupted transfer.
+ * <p>
+ * The journal is a text file with one line per target file created by the transfer,
+ * one line per transferred file, and one line per transferred chunk of a large file:
+ * <pre>
+ * S	relative/path
+ * D	relative/path
+ * P	offset	relative/path
+ * </pre>
+ * Only the target files recorded as started are overwritten when the transfer is resumed.
+ * The other records are flushed in groups, so after a crash a few files may be transferred again.
+ */
+@Slf4j
+public class FileTransferJournal implements Closeable {
+
+    private static final String STARTED_RECORD = "S";
+
+    private static final String DONE_RECORD = "D";
+
+    private static final String PROGRESS_RECORD = "P";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final int FLUSH_RECORD_COUNT = 64;
+
+    private final Path journalFile;
+
+    private final Set<String> startedFiles = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> doneFiles = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Long> fileOffsets = new ConcurrentHashMap<>();
+
+    private BufferedWriter writer;
+
+    private int unflushedRecordCount;
+
+    public FileTransferJournal(final Path journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Load the journal of a previous transfer, if any.
+     *
+     * @return true if a previous transfer was found
+     * @throws IOException if the journal cannot be read
+     */
+    public boolean load() throws IOException {
+        if (!Files.exists(journalFile)) {
+            return false;
+        }
+        List<String> records = Files.readAllLines(journalFile, UTF_8);
+        for (String record : records) {
+            String[] fields = record.split(SEPARATOR, 3);
+            if (STARTED_RECORD.equals(fields[0]) && fields.length == 2) {
+                startedFiles.add(fields[1]);
+            } else if (DONE_RECORD.equals(fields[0]) && fields.length == 2) {
+                doneFiles.add(fields[1]);
+                fileOffsets.remove(fields[1]);
+            } else if (PROGRESS_RECORD.equals(fields[0]) && fields.length == 3) {
+                try {
+                    fileOffsets.put(fields[2], Long.parseLong(fields[1]));
+                } catch (NumberFormatException ex) {
+                    log.debug("Skipped invalid journal record: {}", record);
+                }
+            }
+        }
+        return !records.isEmpty();
+    }
+
+    /**
+     * Check if a target file was created by the journaled transfer.
+     *
+     * @param file the relative path of the file
+     * @return true if the file was created by the transfer, so it can be overwritten when resuming
+     */
+    public boolean isStarted(final String file) {
+        return startedFiles.contains(file);
+    }
+
+    public boolean isDone(final String file) {
+        return doneFiles.contains(file);
+    }
+
+    public long getOffset(final String file) {
+        return fileOffsets.getOrDefault(file, 0L);
+    }
+
+    /**
+     * Record that a target file was created by the transfer.
+     * <p>
+     * The record is flushed at once, as it allows to overwrite the file when resuming.
+     *
+     * @param file the relative path of the file
+     * @throws IOException if the record cannot be written
+     */
+    public void recordStarted(final String file) throws IOException {
+        startedFiles.add(file);
+        write(STARTED_RECORD + SEPARATOR + file, true);
+    }
+
+    public void recordDone(final String file) throws IOException {
+        doneFiles.add(file);
+        write(DONE_RECORD + SEPARATOR + file, false);
+    }
+
+    public void recordProgress(final String file, long offset) throws IOException {
+        write(PROGRESS_RECORD + SEPARATOR + offset + SEPARATOR + file, true);
+    }
+
+    private synchronized void write(final String record, boolean flush) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(journalFile, UTF_8, CREATE, APPEND);
+        }
+        writer.write(record);
+        writer.newLine();
+        if (flush || ++unflushedRecordCount >= FLUSH_RECORD_COUNT) {
+            flush();
+        }
+    }
+
+    public synchronized void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+            unflushedRecordCount = 0;
+        }
+    }
+
+    /**
+     * Close and delete the journal, once the transfer is complete.
+     *
+     * @throws IOException if the journal cannot be deleted
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        Files.deleteIfExists(journalFile);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
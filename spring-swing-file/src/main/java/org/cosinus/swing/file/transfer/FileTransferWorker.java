@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.transfer;
+
+import org.cosinus.swing.action.execute.SimpleActionModel;
+import org.cosinus.swing.error.ActionException;
+import org.cosinus.swing.progress.ProgressModel;
+import org.cosinus.swing.worker.Worker;
+import org.cosinus.swing.worker.WorkerModel;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Worker running a file transfer, with the transferred bytes as progress.
+ */
+public class FileTransferWorker extends Worker<WorkerModel<Path>, Path, ProgressModel> {
+
+    public static final String TRANSFER_FILES_ACTION_ID = "transfer-files";
+
+    private final FileTransfer fileTransfer;
+
+    public FileTransferWorker(final FileTransfer fileTransfer) {
+        super(new SimpleActionModel(TRANSFER_FILES_ACTION_ID), new ProgressModel());
+        this.fileTransfer = fileTransfer;
+    }
+
+    @Override
+    protected void doWork() {
+        progressModel.startProgress();
+        fileTransfer.listener((transferredBytes, totalBytes) -> {
+            progressModel.updateProgress(transferredBytes, totalBytes);
+            publish();
+        });
+        try {
+            fileTransfer.run();
+        } catch (IOException ex) {
+            throw new ActionException(ex, actionModel.getActionId());
+        }
+        progressModel.finishProgress();
+    }
+
+    @Override
+    public void setPaused(boolean paused) {
+        super.setPaused(paused);
+        if (paused) {
+            fileTransfer.pause();
+        } else {
+            fileTransfer.resume();
+        }
+    }
+
+    @Override
+    public boolean cancel() {
+        fileTransfer.cancel();
+        return super.cancel();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.walk;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributes;
+
+/**
+ * A file found by a {@link FileWalk}, with its attributes read once while walking.
+ *
+ * @param path       the file path
+ * @param attributes the file attributes
+ * @param depth      the depth relative to the walk root, which has depth 0
+ */
+public record FileEntry(Path path, BasicFileAttributes attributes, int depth) {
+
+    public boolean isDirectory() {
+        return attributes.isDirectory();
+    }
+
+    public boolean isRegularFile() {
+        return attributes.isRegularFile();
+    }
+
+    public boolean isSymbolicLink() {
+        return attributes.isSymbolicLink();
+    }
+
+    public long size() {
+        return attributes.size();
+    }
+
+    /**
+     * Check if the file is hidden.
+     * <p>
+     * It uses the attributes read while walking, so no more file system calls are made:
+     * the hidden flag where the file system has one, otherwise a name starting with a dot.
+     *
+     * @return true if the file is hidden
+     */
+    public boolean isHidden() {
+        if (attributes instanceof DosFileAttributes dosAttributes) {
+            return dosAttributes.isHidden();
+        }
+        Path fileName = path.getFileName();
+        return fileName != null && fileName.toString().startsWith(".");
+    }
+}
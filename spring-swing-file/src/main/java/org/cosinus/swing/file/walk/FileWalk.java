@@ -0,0 +1,353 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.walk;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.lang.System.nanoTime;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Walk of a folder tree with the subfolders traversed in parallel.
+ * <p>
+ * Each folder is listed by one fork/join task and the attributes of each entry are read once,
+ * so the consumer gets the size, time and type of the files without reading them again.
+ * The entries are passed to the consumer in batches, from several threads at the same time,
+ * and in no particular order.
+ */
+@Slf4j
+public class FileWalk {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * The way symbolic links are handled.
+     */
+    public enum LinkPolicy {
+        /**
+         * The links are ignored.
+         */
+        SKIP,
+        /**
+         * The links are reported with their own attributes, but not followed.
+         */
+        LIST,
+        /**
+         * The links are followed, reporting the attributes of the target.
+         * Each folder is visited only once, so link cycles are safe.
+         */
+        FOLLOW
+    }
+
+    @Getter
+    private final Path root;
+
+    private int maxDepth = Integer.MAX_VALUE;
+
+    private Predicate<FileEntry> filter = entry -> true;
+
+    private LinkPolicy linkPolicy = LinkPolicy.LIST;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    private final LongAdder entryCount = new LongAdder();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    private final Set<Object> visitedFolders = ConcurrentHashMap.newKeySet();
+
+    private Consumer<List<FileEntry>> batchConsumer;
+
+    private volatile long startTime;
+
+    private volatile long endTime;
+
+    public FileWalk(final Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Limit the depth of the walk.
+     *
+     * @param maxDepth the maximum depth of the reported entries, 0 for the root only
+     * @return this walk
+     */
+    public FileWalk maxDepth(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Max depth must not be negative");
+        }
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Filter the walked entries.
+     * <p>
+     * A folder rejected by the filter is not walked into.
+     *
+     * @param filter the entry filter
+     * @return this walk
+     */
+    public FileWalk filter(final Predicate<FileEntry> filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public FileWalk linkPolicy(final LinkPolicy linkPolicy) {
+        this.linkPolicy = linkPolicy;
+        return this;
+    }
+
+    public FileWalk batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public FileWalk parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Walk the tree and wait for the walk to finish.
+     * <p>
+     * The consumer is called from the walking threads, so it must be thread safe.
+     * The folders which cannot be read are skipped.
+     *
+     * @param batchConsumer the consumer of the entry batches
+     * @throws IllegalStateException if the walk was already run
+     */
+    public void run(final Consumer<List<FileEntry>> batchConsumer) {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("The walk was already run: " + root);
+        }
+        this.batchConsumer = batchConsumer;
+        startTime = nanoTime();
+        ForkJoinPool walkPool = new ForkJoinPool(parallelism);
+        try {
+            FileEntry rootEntry = readEntry(root, 0);
+            if (rootEntry != null && filter.test(rootEntry)) {
+                walkPool.invoke(new FolderTask(rootEntry));
+            }
+        } finally {
+            walkPool.shutdown();
+            endTime = nanoTime();
+        }
+    }
+
+    /**
+     * Walk the tree and sum the sizes of the regular files.
+     *
+     * @return the total size in bytes
+     */
+    public long size() {
+        LongAdder size = new LongAdder();
+        run(batch -> batch.stream()
+            .filter(FileEntry::isRegularFile)
+            .mapToLong(FileEntry::size)
+            .forEach(size::add));
+        return size.sum();
+    }
+
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public long getEntryCount() {
+        return entryCount.sum();
+    }
+
+    /**
+     * Get the number of folders or links which could not be read.
+     *
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Get the walk speed, while walking or after the walk finished.
+     *
+     * @return the number of entries walked per second
+     */
+    public long getEntriesPerSecond() {
+        if (startTime == 0) {
+            return 0;
+        }
+        long elapsedTime = (endTime != 0 ? endTime : nanoTime()) - startTime;
+        return elapsedTime > 0 ? getEntryCount() * SECONDS.toNanos(1) / elapsedTime : 0;
+    }
+
+    private FileEntry readEntry(final Path path, int depth) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINKS);
+            if (attributes.isSymbolicLink()) {
+                if (linkPolicy == LinkPolicy.SKIP) {
+                    return null;
+                }
+                if (linkPolicy == LinkPolicy.FOLLOW) {
+                    attributes = readLinkTargetAttributes(path, attributes);
+                }
+            }
+            return new FileEntry(path, attributes, depth);
+        } catch (IOException | SecurityException ex) {
+            log.debug("Failed to read the attributes of file: {}", path, ex);
+            errorCount.increment();
+            return null;
+        }
+    }
+
+    private BasicFileAttributes readLinkTargetAttributes(final Path link, final BasicFileAttributes linkAttributes) {
+        try {
+            return Files.readAttributes(link, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            log.debug("Failed to follow the link: {}", link, ex);
+            return linkAttributes;
+        }
+    }
+
+    private boolean shouldWalkInto(final FileEntry entry) {
+        if (!entry.isDirectory() || entry.depth() >= maxDepth) {
+            return false;
+        }
+        if (linkPolicy != LinkPolicy.FOLLOW) {
+            return true;
+        }
+        try {
+            Object folderKey = entry.attributes().fileKey();
+            return visitedFolders.add(folderKey != null ? folderKey : entry.path().toRealPath());
+        } catch (IOException ex) {
+            log.debug("Failed to resolve the folder: {}", entry.path(), ex);
+            errorCount.increment();
+            return false;
+        }
+    }
+
+    private void consume(final List<FileEntry> batch) {
+        entryCount.add(batch.size());
+        batchConsumer.accept(unmodifiableList(batch));
+    }
+
+    /**
+     * Task listing a folder.
+     * <p>
+     * The subfolders are forked as new tasks and the full batches are consumed in parallel,
+     * so neither deep nor wide trees are walked by a single thread.
+     */
+    @SuppressWarnings("serial")
+    private class FolderTask extends RecursiveAction {
+
+        private final FileEntry folder;
+
+        private FolderTask(final FileEntry folder) {
+            this.folder = folder;
+        }
+
+        @Override
+        protected void compute() {
+            List<FileEntry> batch = new ArrayList<>();
+            if (folder.depth() == 0) {
+                batch.add(folder);
+            }
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            if (shouldWalkInto(folder)) {
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder.path())) {
+                    for (Path path : entries) {
+                        if (cancelled.get()) {
+                            break;
+                        }
+                        FileEntry entry = readEntry(path, folder.depth() + 1);
+                        if (entry == null || !filter.test(entry)) {
+                            continue;
+                        }
+                        batch.add(entry);
+                        if (batch.size() >= batchSize) {
+                            tasks.add(new BatchTask(batch).fork());
+                            batch = new ArrayList<>();
+                        }
+                        if (entry.isDirectory() && entry.depth() < maxDepth) {
+                            tasks.add(new FolderTask(entry).fork());
+                        }
+                    }
+                } catch (IOException | DirectoryIteratorException | SecurityException ex) {
+                    log.debug("Failed to list the folder: {}", folder.path(), ex);
+                    errorCount.increment();
+                }
+            }
+            if (!batch.isEmpty() && !cancelled.get()) {
+                consume(batch);
+            }
+            tasks.forEach(ForkJoinTask::join);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private class BatchTask extends RecursiveAction {
+
+        private final List<FileEntry> batch;
+
+        private BatchTask(final List<FileEntry> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        protected void compute() {
+            if (!cancelled.get()) {
+                consume(batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.walk;
+
+/**
+ * Aggregated usage of a folder tree.
+ *
+ * @param size        the total size of the regular files, in bytes
+ * @param fileCount   the number of regular files
+ * @param folderCount the number of folders, including the root folder
+ */
+public record FolderUsage(long size, long fileCount, long folderCount) {
+
+    public static final FolderUsage EMPTY = new FolderUsage(0, 0, 0);
+
+    public FolderUsage add(final FolderUsage usage) {
+        return new FolderUsage(size + usage.size, fileCount + usage.fileCount, folderCount + usage.folderCount);
+    }
+}
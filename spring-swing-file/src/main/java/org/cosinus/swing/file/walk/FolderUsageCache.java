@@ -0,0 +1,452 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.walk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cosinus.swing.file.watch.FileWatchService;
+import org.cosinus.swing.file.watch.FileWatchSubscription;
+
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Cache of the folder sizes and file counts.
+ * <p>
+ * For each folder, the cache keeps its modification time, the size and count of the files directly in it,
+ * and its subfolder names. A query only lists again the folders whose modification time changed,
+ * and sums the cached values for the others.
+ * <p>
+ * While the application runs, the scanned folders are also watched for changes:
+ * a folder tree with all its folders watched and unchanged is answered from memory,
+ * without touching the disk. The changes of the file sizes inside an unwatched folder
+ * are not detected by the modification time of the folder, so they are picked up
+ * only when the folder itself changes.
+ * <p>
+ * The folders are watched through the {@link FileWatchService}.
+ * The cache is saved in the application cache folder on close.
+ * <p>
+ * Like {@link FileWalk}, each query walks the folders in its own fork-join pool,
+ * so the blocking file system calls never run in the common pool.
+ * Concurrent queries are not serialized, they share the cached folders.
+ */
+@Slf4j
+public class FolderUsageCache implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_WATCHED_FOLDERS = 4096;
+
+    private static final int CACHE_FILE_MAGIC = 0x46555347;
+
+    private static final int CACHE_FILE_VERSION = 1;
+
+    private final Path cacheFile;
+
+    private final int maxWatchedFolders;
+
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final Map<Path, FolderNode> folders = new ConcurrentHashMap<>();
+
+    private final AtomicInteger watchedFolderCount = new AtomicInteger();
+
+    private final FileWatchService fileWatchService;
+
+    private volatile boolean changed;
+
+    private boolean loaded;
+
+    public FolderUsageCache(final Path cacheFile, final FileWatchService fileWatchService) {
+        this(cacheFile, fileWatchService, DEFAULT_MAX_WATCHED_FOLDERS);
+    }
+
+    public FolderUsageCache(final Path cacheFile, final FileWatchService fileWatchService, int maxWatchedFolders) {
+        this.cacheFile = cacheFile;
+        this.fileWatchService = fileWatchService;
+        this.maxWatchedFolders = maxWatchedFolders;
+    }
+
+    /**
+     * Get the usage of a folder tree, or of a file.
+     * <p>
+     * The symbolic links are not followed.
+     *
+     * @param path the folder or file
+     * @return the folder usage
+     */
+    public FolderUsage getUsage(final Path path) {
+        loadIfNeeded();
+        Path folder = path.toAbsolutePath().normalize();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(folder, BasicFileAttributes.class, NOFOLLOW_LINKS);
+            if (!attributes.isDirectory()) {
+                return attributes.isRegularFile() ?
+                    new FolderUsage(attributes.size(), 1, 0) :
+                    FolderUsage.EMPTY;
+            }
+            return computeUsage(new FolderTask(folder, attributes));
+        } catch (IOException ex) {
+            log.debug("Failed to read the attributes of file: {}", folder, ex);
+            removeFolder(folder);
+            return FolderUsage.EMPTY;
+        }
+    }
+
+    private FolderUsage computeUsage(final FolderTask folderTask) {
+        ForkJoinPool usagePool = new ForkJoinPool(parallelism);
+        try {
+            return usagePool.invoke(folderTask);
+        } finally {
+            usagePool.shutdown();
+        }
+    }
+
+    /**
+     * Drop the cached usage of a folder and of its parents.
+     *
+     * @param path the changed folder
+     */
+    public void invalidate(final Path path) {
+        Path folder = path.toAbsolutePath().normalize();
+        ofNullable(folders.get(folder)).ifPresent(FolderNode::invalidate);
+        for (Path parent = folder.getParent(); parent != null; parent = parent.getParent()) {
+            ofNullable(folders.get(parent)).ifPresent(FolderNode::distrust);
+        }
+    }
+
+    public int getCachedFolderCount() {
+        return folders.size();
+    }
+
+    private FolderNode scanFolder(final Path folder, long modifiedTime) throws IOException {
+        FolderNode node = folders.computeIfAbsent(folder, FolderNode::new);
+        watch(node);
+        long version = node.getVersion();
+        long ownSize = 0;
+        long ownFileCount = 0;
+        List<String> subfolders = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(folder)) {
+            for (Path entry : entries) {
+                try {
+                    BasicFileAttributes attributes =
+                        Files.readAttributes(entry, BasicFileAttributes.class, NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        subfolders.add(entry.getFileName().toString());
+                    } else if (attributes.isRegularFile()) {
+                        ownSize += attributes.size();
+                        ownFileCount++;
+                    }
+                } catch (IOException ex) {
+                    log.debug("Failed to read the attributes of file: {}", entry, ex);
+                }
+            }
+        } catch (DirectoryIteratorException ex) {
+            throw ex.getCause();
+        }
+
+        node.subfolders.stream()
+            .filter(subfolder -> !subfolders.contains(subfolder))
+            .forEach(subfolder -> removeFolder(folder.resolve(subfolder)));
+        node.update(modifiedTime, ownSize, ownFileCount, subfolders, version);
+        changed = true;
+        return node;
+    }
+
+    private void removeFolder(final Path folder) {
+        FolderNode node = folders.remove(folder);
+        if (node != null) {
+            if (node.subscription != null) {
+                node.subscription.close();
+                watchedFolderCount.decrementAndGet();
+            }
+            node.subfolders.forEach(subfolder -> removeFolder(folder.resolve(subfolder)));
+            changed = true;
+        }
+    }
+
+    private void watch(final FolderNode node) {
+        synchronized (node) {
+            if (fileWatchService == null ||
+                node.subscription != null ||
+                watchedFolderCount.get() >= maxWatchedFolders) {
+                return;
+            }
+            try {
+                node.subscription = fileWatchService.subscribe(node.folder, changes -> invalidate(changes.folder()));
+                watchedFolderCount.incrementAndGet();
+            } catch (UncheckedIOException | UnsupportedOperationException ex) {
+                log.debug("Failed to watch the folder: {}", node.folder, ex);
+            }
+        }
+    }
+
+    private synchronized void loadIfNeeded() {
+        if (!loaded) {
+            load();
+            loaded = true;
+        }
+    }
+
+    private void load() {
+        if (cacheFile == null || !Files.exists(cacheFile)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (input.readInt() != CACHE_FILE_MAGIC || input.readInt() != CACHE_FILE_VERSION) {
+                return;
+            }
+            int folderCount = input.readInt();
+            for (int index = 0; index < folderCount; index++) {
+                FolderNode node = new FolderNode(Paths.get(input.readUTF()));
+                long modifiedTime = input.readLong();
+                long ownSize = input.readLong();
+                long ownFileCount = input.readLong();
+                int subfolderCount = input.readInt();
+                List<String> subfolders = new ArrayList<>(subfolderCount);
+                for (int subfolder = 0; subfolder < subfolderCount; subfolder++) {
+                    subfolders.add(input.readUTF());
+                }
+                node.update(modifiedTime, ownSize, ownFileCount, subfolders, node.getVersion());
+                folders.put(node.folder, node);
+            }
+        } catch (IOException ex) {
+            log.debug("Failed to load the folder usage cache: {}", cacheFile, ex);
+            folders.clear();
+        }
+    }
+
+    /**
+     * Save the cache, if changed.
+     */
+    public synchronized void save() {
+        if (cacheFile == null || !changed) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(CACHE_FILE_MAGIC);
+                output.writeInt(CACHE_FILE_VERSION);
+                List<FolderNode> nodes = new ArrayList<>(folders.values());
+                output.writeInt(nodes.size());
+                for (FolderNode node : nodes) {
+                    output.writeUTF(node.folder.toString());
+                    output.writeLong(node.modifiedTime);
+                    output.writeLong(node.ownSize);
+                    output.writeLong(node.ownFileCount);
+                    output.writeInt(node.subfolders.size());
+                    for (String subfolder : node.subfolders) {
+                        output.writeUTF(subfolder);
+                    }
+                }
+            }
+            Files.move(tempFile, cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+            changed = false;
+        } catch (IOException ex) {
+            log.warn("Failed to save the folder usage cache: {}", cacheFile, ex);
+        }
+    }
+
+    /**
+     * Save the cache and stop watching the folders.
+     */
+    @Override
+    public synchronized void close() {
+        save();
+        folders.values()
+            .stream()
+            .map(node -> node.subscription)
+            .filter(Objects::nonNull)
+            .forEach(FileWatchSubscription::close);
+        folders.values().forEach(node -> node.subscription = null);
+        watchedFolderCount.set(0);
+    }
+
+    /**
+     * Cached state of a folder.
+     * <p>
+     * The version is increased on each change notification,
+     * so a notification received during a scan is not lost.
+     * The subtree version is increased on each change notification below the folder,
+     * so a usage summed from subfolders which changed during the query is not kept.
+     */
+    private static class FolderNode {
+
+        private final Path folder;
+
+        private volatile long modifiedTime = -1;
+
+        private volatile long ownSize;
+
+        private volatile long ownFileCount;
+
+        private volatile List<String> subfolders = emptyList();
+
+        private volatile FileWatchSubscription subscription;
+
+        private long version;
+
+        private long scannedVersion = -1;
+
+        private long subtreeVersion;
+
+        private FolderUsage usage;
+
+        private boolean trusted;
+
+        private FolderNode(final Path folder) {
+            this.folder = folder;
+        }
+
+        private synchronized long getVersion() {
+            return version;
+        }
+
+        private synchronized long getSubtreeVersion() {
+            return subtreeVersion;
+        }
+
+        private synchronized void update(long modifiedTime,
+                                         long ownSize,
+                                         long ownFileCount,
+                                         final List<String> subfolders,
+                                         long scannedVersion) {
+            this.modifiedTime = modifiedTime;
+            this.ownSize = ownSize;
+            this.ownFileCount = ownFileCount;
+            this.subfolders = List.copyOf(subfolders);
+            this.scannedVersion = scannedVersion;
+        }
+
+        private synchronized boolean isUpToDate(long currentModifiedTime) {
+            return modifiedTime == currentModifiedTime && scannedVersion == version;
+        }
+
+        private synchronized FolderUsage getTrustedUsage() {
+            return trusted ? usage : null;
+        }
+
+        private synchronized void setUsage(final FolderUsage usage,
+                                           boolean subfoldersTrusted,
+                                           long queriedSubtreeVersion) {
+            if (subtreeVersion != queriedSubtreeVersion) {
+                return;
+            }
+            this.usage = usage;
+            this.trusted = subfoldersTrusted && subscription != null && scannedVersion == version;
+        }
+
+        private synchronized void invalidate() {
+            version++;
+            trusted = false;
+        }
+
+        private synchronized void distrust() {
+            subtreeVersion++;
+            trusted = false;
+        }
+    }
+
+    /**
+     * Task computing the usage of a folder, forking one task per subfolder.
+     */
+    @SuppressWarnings("serial")
+    private class FolderTask extends RecursiveTask<FolderUsage> {
+
+        private final Path folder;
+
+        private final BasicFileAttributes attributes;
+
+        private boolean trusted;
+
+        private FolderTask(final Path folder, final BasicFileAttributes attributes) {
+            this.folder = folder;
+            this.attributes = attributes;
+        }
+
+        @Override
+        protected FolderUsage compute() {
+            FolderNode node = folders.get(folder);
+            FolderUsage trustedUsage = node != null ? node.getTrustedUsage() : null;
+            if (trustedUsage != null) {
+                trusted = true;
+                return trustedUsage;
+            }
+
+            // a new folder starts with the first subtree version
+            long subtreeVersion = node != null ? node.getSubtreeVersion() : 0;
+            long modifiedTime = attributes.lastModifiedTime().toMillis();
+            try {
+                if (node != null) {
+                    watch(node);
+                }
+                if (node == null || !node.isUpToDate(modifiedTime)) {
+                    node = scanFolder(folder, modifiedTime);
+                }
+            } catch (IOException | SecurityException ex) {
+                log.debug("Failed to list the folder: {}", folder, ex);
+                removeFolder(folder);
+                return FolderUsage.EMPTY;
+            }
+
+            List<FolderTask> tasks = new ArrayList<>();
+            for (String subfolder : node.subfolders) {
+                Path subfolderPath = folder.resolve(subfolder);
+                try {
+                    BasicFileAttributes subfolderAttributes =
+                        Files.readAttributes(subfolderPath, BasicFileAttributes.class, NOFOLLOW_LINKS);
+                    if (subfolderAttributes.isDirectory()) {
+                        tasks.add(new FolderTask(subfolderPath, subfolderAttributes));
+                        continue;
+                    }
+                } catch (IOException ex) {
+                    log.debug("Failed to read the attributes of file: {}", subfolderPath, ex);
+                }
+                node.invalidate();
+                removeFolder(subfolderPath);
+            }
+            invokeAll(tasks);
+
+            FolderUsage usage = new FolderUsage(node.ownSize, node.ownFileCount, 1);
+            boolean subfoldersTrusted = true;
+            for (FolderTask task : tasks) {
+                usage = usage.add(task.join());
+                subfoldersTrusted &= task.trusted;
+            }
+            node.setUsage(usage, subfoldersTrusted, subtreeVersion);
+            trusted = node.getTrustedUsage() != null;
+            return usage;
+        }
+    }
+}
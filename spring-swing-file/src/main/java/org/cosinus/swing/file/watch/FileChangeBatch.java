@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.watch;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * The coalesced changes of a watched folder.
+ * <p>
+ * Each changed file appears once, with the overall change:
+ * a file created then modified is reported as created,
+ * while a file created then deleted is not reported at all.
+ *
+ * @param folder  the watched folder
+ * @param changes the file changes
+ * @param rescan  true if some changes were lost and the folder must be read again
+ */
+public record FileChangeBatch(Path folder, List<FileChange> changes, boolean rescan) {
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.watch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static javax.swing.SwingUtilities.invokeLater;
+import static org.cosinus.swing.file.watch.FileChangeType.CREATED;
+import static org.cosinus.swing.file.watch.FileChangeType.DELETED;
+import static org.cosinus.swing.file.watch.FileChangeType.MODIFIED;
+
+/**
+ * Service for watching the content of folders.
+ * <p>
+ * A folder is watched once, whatever the number of subscribers,
+ * and stops being watched when its last subscription is closed.
+ * The changes of a folder are coalesced and delivered in one batch
+ * after a quiet period without changes, or after a max delay for folders changing continuously.
+ * <p>
+ * One thread watches all the folders. The changes are delivered on a separate thread,
+ * in order, or on the event dispatch thread, with all the batches ready at the same time
+ * delivered in one event.
+ */
+@Slf4j
+public class FileWatchService implements AutoCloseable {
+
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(200);
+
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+
+    private final long quietPeriod;
+
+    private final long maxDelay;
+
+    private final Map<Path, WatchedFolder> watchedFolders = new HashMap<>();
+
+    private final Map<Path, PendingChanges> pendingChanges = new LinkedHashMap<>();
+
+    private WatchService watchService;
+
+    private ExecutorService deliveryExecutor;
+
+    public FileWatchService() {
+        this(DEFAULT_QUIET_PERIOD, DEFAULT_MAX_DELAY);
+    }
+
+    public FileWatchService(final Duration quietPeriod, final Duration maxDelay) {
+        this.quietPeriod = quietPeriod.toNanos();
+        this.maxDelay = max(this.quietPeriod, maxDelay.toNanos());
+    }
+
+    /**
+     * Subscribe to the changes of a folder, delivered outside the event dispatch thread.
+     *
+     * @param folder   the folder to watch
+     * @param listener the listener of the changes
+     * @return the subscription
+     * @throws UncheckedIOException if the folder cannot be watched
+     */
+    public FileWatchSubscription subscribe(final Path folder, final FileChangeListener listener) {
+        return subscribe(folder, listener, false);
+    }
+
+    /**
+     * Subscribe to the changes of a folder.
+     *
+     * @param folder                the folder to watch
+     * @param listener              the listener of the changes
+     * @param onEventDispatchThread true to deliver the changes on the event dispatch thread
+     * @return the subscription
+     * @throws UncheckedIOException if the folder cannot be watched
+     */
+    public FileWatchSubscription subscribe(final Path folder,
+                                           final FileChangeListener listener,
+                                           boolean onEventDispatchThread) {
+        Path watchedPath = folder.toAbsolutePath().normalize();
+        FileWatchSubscription subscription =
+            new FileWatchSubscription(watchedPath, listener, onEventDispatchThread, this::unsubscribe);
+        synchronized (watchedFolders) {
+            WatchedFolder watchedFolder = watchedFolders.get(watchedPath);
+            if (watchedFolder == null) {
+                try {
+                    WatchKey watchKey = watchedPath.register(getWatchService(), ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                    watchedFolder = new WatchedFolder(watchedPath, watchKey);
+                    watchedFolders.put(watchedPath, watchedFolder);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            watchedFolder.subscriptions.add(subscription);
+        }
+        return subscription;
+    }
+
+    private void unsubscribe(final FileWatchSubscription subscription) {
+        synchronized (watchedFolders) {
+            WatchedFolder watchedFolder = watchedFolders.get(subscription.getFolder());
+            if (watchedFolder != null &&
+                watchedFolder.subscriptions.remove(subscription) &&
+                watchedFolder.subscriptions.isEmpty()) {
+                watchedFolder.watchKey.cancel();
+                watchedFolders.remove(watchedFolder.folder);
+            }
+        }
+    }
+
+    public int getWatchedFolderCount() {
+        synchronized (watchedFolders) {
+            return watchedFolders.size();
+        }
+    }
+
+    private WatchService getWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            deliveryExecutor = Executors.newSingleThreadExecutor(Thread.ofVirtual()
+                .name("file-watch-delivery")
+                .factory());
+            WatchService service = watchService;
+            ExecutorService executor = deliveryExecutor;
+            Thread.ofVirtual()
+                .name("file-watch")
+                .start(() -> watchChanges(service, executor));
+        }
+        return watchService;
+    }
+
+    private void watchChanges(final WatchService service, final ExecutorService executor) {
+        try {
+            while (true) {
+                WatchKey watchKey = pendingChanges.isEmpty() ?
+                    service.take() :
+                    service.poll(getNextDeliveryDelay(System.nanoTime()), NANOSECONDS);
+                while (watchKey != null) {
+                    collectChanges(watchKey);
+                    watchKey = service.poll();
+                }
+                deliverChanges(System.nanoTime(), executor);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            log.debug("Stopped watching the files");
+        }
+    }
+
+    private void collectChanges(final WatchKey watchKey) {
+        Path folder = (Path) watchKey.watchable();
+        WatchedFolder watchedFolder;
+        synchronized (watchedFolders) {
+            watchedFolder = watchedFolders.get(folder);
+            if (watchedFolder != null && watchedFolder.watchKey != watchKey) {
+                watchedFolder = null;
+            }
+        }
+        if (watchedFolder == null) {
+            watchKey.pollEvents();
+            watchKey.reset();
+            return;
+        }
+
+        long now = System.nanoTime();
+        PendingChanges changes = pendingChanges.computeIfAbsent(folder, key -> new PendingChanges(now));
+        changes.folder = watchedFolder;
+        changes.lastChangeTime = now;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changes.rescan = true;
+            } else if (event.context() instanceof Path file) {
+                changes.add(folder.resolve(file), toChangeType(event.kind()));
+            }
+        }
+        if (!watchKey.reset()) {
+            changes.add(folder, DELETED);
+            synchronized (watchedFolders) {
+                watchedFolders.remove(folder, watchedFolder);
+            }
+        }
+    }
+
+    private FileChangeType toChangeType(final WatchEvent.Kind<?> kind) {
+        return kind == ENTRY_CREATE ? CREATED : kind == ENTRY_DELETE ? DELETED : MODIFIED;
+    }
+
+    private long getNextDeliveryDelay(long now) {
+        long nextDeliveryTime = pendingChanges.values()
+            .stream()
+            .mapToLong(PendingChanges::getDeliveryTime)
+            .min()
+            .orElse(now);
+        return max(1, nextDeliveryTime - now);
+    }
+
+    private void deliverChanges(long now, final ExecutorService executor) {
+        List<Runnable> eventDispatchThreadDeliveries = new ArrayList<>();
+        Iterator<PendingChanges> iterator = pendingChanges.values().iterator();
+        while (iterator.hasNext()) {
+            PendingChanges changes = iterator.next();
+            if (changes.getDeliveryTime() > now) {
+                continue;
+            }
+            iterator.remove();
+            if (changes.changes.isEmpty() && !changes.rescan) {
+                continue;
+            }
+
+            FileChangeBatch batch = changes.toBatch();
+            for (FileWatchSubscription subscription : changes.folder.subscriptions) {
+                Runnable delivery = () -> deliver(subscription, batch);
+                if (subscription.isOnEventDispatchThread()) {
+                    eventDispatchThreadDeliveries.add(delivery);
+                } else {
+                    try {
+                        executor.execute(delivery);
+                    } catch (RejectedExecutionException ex) {
+                        // the service was closed after the changes were collected
+                        log.debug("Dropped the changes of folder: {}", batch.folder());
+                        return;
+                    }
+                }
+            }
+        }
+        if (!eventDispatchThreadDeliveries.isEmpty()) {
+            invokeLater(() -> eventDispatchThreadDeliveries.forEach(Runnable::run));
+        }
+    }
+
+    private void deliver(final FileWatchSubscription subscription, final FileChangeBatch batch) {
+        try {
+            subscription.deliver(batch);
+        } catch (RuntimeException ex) {
+            log.error("Failed to deliver the changes of folder: {}", batch.folder(), ex);
+        }
+    }
+
+    /**
+     * Stop watching all the folders.
+     */
+    @Override
+    public void close() {
+        synchronized (watchedFolders) {
+            watchedFolders.clear();
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException ex) {
+                    log.debug("Failed to close the watch service", ex);
+                }
+                deliveryExecutor.shutdown();
+                watchService = null;
+            }
+        }
+    }
+
+    private static class WatchedFolder {
+
+        private final Path folder;
+
+        private final WatchKey watchKey;
+
+        private final List<FileWatchSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        private WatchedFolder(final Path folder, final WatchKey watchKey) {
+            this.folder = folder;
+            this.watchKey = watchKey;
+        }
+    }
+
+    private class PendingChanges {
+
+        private final Map<Path, FileChangeType> changes = new LinkedHashMap<>();
+
+        private final long firstChangeTime;
+
+        private long lastChangeTime;
+
+        private WatchedFolder folder;
+
+        private boolean rescan;
+
+        private PendingChanges(long firstChangeTime) {
+            this.firstChangeTime = firstChangeTime;
+            this.lastChangeTime = firstChangeTime;
+        }
+
+        private long getDeliveryTime() {
+            return min(lastChangeTime + quietPeriod, firstChangeTime + maxDelay);
+        }
+
+        private void add(final Path file, final FileChangeType type) {
+            FileChangeType previousType = changes.get(file);
+            FileChangeType changeType = previousType == null ? type : switch (previousType) {
+                case CREATED -> type == DELETED ? null : CREATED;
+                case DELETED -> type == CREATED ? MODIFIED : DELETED;
+                case MODIFIED -> type == DELETED ? DELETED : MODIFIED;
+            };
+            if (changeType != null) {
+                changes.put(file, changeType);
+            } else {
+                changes.remove(file);
+            }
+        }
+
+        private FileChangeBatch toBatch() {
+            return new FileChangeBatch(folder.folder,
+                changes.entrySet()
+                    .stream()
+                    .map(change -> new FileChange(change.getKey(), change.getValue()))
+                    .toList(),
+                rescan);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.file.watch;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Subscription to the changes of a folder, returned by {@link FileWatchService#subscribe}.
+ * <p>
+ * Closing the subscription stops the delivery of changes,
+ * and stops watching the folder when no other subscription uses it.
+ */
+public class FileWatchSubscription implements AutoCloseable {
+
+    @Getter
+    private final Path folder;
+
+    private final FileChangeListener listener;
+
+    @Getter
+    private final boolean onEventDispatchThread;
+
+    private final Consumer<FileWatchSubscription> unsubscriber;
+
+    private volatile boolean closed;
+
+    FileWatchSubscription(final Path folder,
+                          final FileChangeListener listener,
+                          boolean onEventDispatchThread,
+                          final Consumer<FileWatchSubscription> unsubscriber) {
+        this.folder = folder;
+        this.listener = listener;
+        this.onEventDispatchThread = onEventDispatchThread;
+        this.unsubscriber = unsubscriber;
+    }
+
+    public boolean isActive() {
+        return !closed;
+    }
+
+    void deliver(final FileChangeBatch changes) {
+        if (!closed) {
+            listener.onFileChanges(changes);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            unsubscriber.accept(this);
+        }
+    }
+}
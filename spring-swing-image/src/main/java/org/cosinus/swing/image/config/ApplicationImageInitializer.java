@@ -75,4 +75,9 @@ public class ApplicationImageInitializer implements ApplicationInitializer {
     public boolean beforeInitializeApplicationFrame() {
         return false;
     }
+
+    @Override
+    public boolean runOnEventDispatchThread() {
+        return false;
+    }
 }
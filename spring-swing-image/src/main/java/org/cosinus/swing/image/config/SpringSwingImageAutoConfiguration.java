@@ -20,6 +20,7 @@ package org.cosinus.swing.image.config;
 import org.apache.commons.imaging.formats.icns.IcnsImageParser;
 import org.cosinus.swing.boot.condition.*;
 import org.cosinus.swing.context.ApplicationProperties;
+import org.cosinus.swing.context.LazySwingComponent;
 import org.cosinus.swing.file.FileHandler;
 import org.cosinus.swing.file.api.FileSystem;
 import org.cosinus.swing.file.mimetype.MimeTypeResolver;
@@ -71,6 +72,7 @@ public class SpringSwingImageAutoConfiguration {
 
     @Bean
     @ConditionalOnWindows
+    @LazySwingComponent
     public IconProvider windowsIconProvider(final ImageHandler imageHandler,
                                             final IconNameProvider iconNameProvider) {
         return new WindowsIconProvider(imageHandler, iconNameProvider);
@@ -90,6 +92,7 @@ public class SpringSwingImageAutoConfiguration {
 
     @Bean
     @ConditionalOnLinux
+    @LazySwingComponent
     public IconProvider linuxIconProvider(final ApplicationProperties applicationProperties,
                                           final ApplicationUIHandler uiHandler,
                                           final UIThemeProvider uiThemeProvider,
@@ -113,6 +116,7 @@ public class SpringSwingImageAutoConfiguration {
 
     @Bean
     @ConditionalOnMac
+    @LazySwingComponent
     public IconProvider macIconProvider(final FileSystem fileSystem,
                                         final IcnsImageParser icnsImageParser,
                                         final ImageHandler imageHandler,
@@ -122,6 +126,7 @@ public class SpringSwingImageAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
+    @LazySwingComponent
     public IconProvider iconProvider(ApplicationUIHandler uiHandler) {
         return new DefaultIconProvider(uiHandler);
     }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import static javax.lang.model.element.Modifier.*;
+
+/**
+ * Annotation processor generating a context injector for each class
+ * with SwingAutowired or Autowired fields.
+ * <p>
+ * The generated injectors are used by the ApplicationContextInjector instead of reflection.
+ * A class is skipped, and then injected by reflection, if it has injection points the generated code cannot handle,
+ * like autowired methods, qualified or generic dependencies.
+ * Use the processor option {@value #VERBOSE_OPTION} to list the skipped classes.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ContextInjectorProcessor.VERBOSE_OPTION)
+public class ContextInjectorProcessor extends AbstractProcessor {
+
+    public static final String VERBOSE_OPTION = "swing.injector.verbose";
+
+    public static final String CONTEXT_INJECTOR_SUFFIX = "_ContextInjector";
+
+    private static final String CONTEXT_INJECTOR = "org.cosinus.swing.context.ContextInjector";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + CONTEXT_INJECTOR;
+
+    private static final String SWING_AUTOWIRED = "org.cosinus.swing.context.SwingAutowired";
+
+    private static final String AUTOWIRED = "org.springframework.beans.factory.annotation.Autowired";
+
+    private static final String COMPONENT = "org.springframework.stereotype.Component";
+
+    private static final Set<String> UNSUPPORTED_ANNOTATIONS = Set.of(
+        "org.springframework.beans.factory.annotation.Value",
+        "org.springframework.beans.factory.annotation.Qualifier",
+        "org.springframework.context.annotation.Lazy",
+        "jakarta.inject.Inject",
+        "jakarta.inject.Named",
+        "jakarta.annotation.Resource",
+        "javax.annotation.Resource");
+
+    private final Set<String> contextInjectors = new TreeSet<>();
+
+    private boolean verbose;
+
+    private boolean injectorsSupported;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        verbose = Boolean.parseBoolean(processingEnv.getOptions().get(VERBOSE_OPTION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (injectorsSupported) {
+                writeServiceFile();
+            }
+        } else if (processingEnv.getElementUtils().getTypeElement(CONTEXT_INJECTOR) != null) {
+            injectorsSupported = true;
+            ElementFilter.typesIn(roundEnv.getRootElements())
+                .forEach(this::processType);
+        }
+        return false;
+    }
+
+    private void processType(final TypeElement type) {
+        if (isInjectable(type)) {
+            findInjectedFields(type)
+                .filter(fields -> !fields.isEmpty())
+                .ifPresent(fields -> writeContextInjector(type, fields));
+        }
+        ElementFilter.typesIn(type.getEnclosedElements())
+            .forEach(this::processType);
+    }
+
+    private boolean isInjectable(final TypeElement type) {
+        return type.getKind() == ElementKind.CLASS &&
+            !type.getModifiers().contains(ABSTRACT) &&
+            (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getNestingKind() == NestingKind.MEMBER) &&
+            isAccessible(type, getPackage(type)) &&
+            !isAnnotated(type, COMPONENT);
+    }
+
+    /**
+     * Find the injected fields of a class and of its superclasses,
+     * the autowired fields of the superclasses first.
+     *
+     * @param type the class
+     * @return the injected fields, or empty if the class has injection points not supported by generated code
+     */
+    private Optional<List<InjectedField>> findInjectedFields(final TypeElement type) {
+        PackageElement targetPackage = getPackage(type);
+        LinkedList<InjectedField> autowiredFields = new LinkedList<>();
+        List<InjectedField> swingAutowiredFields = new ArrayList<>();
+        for (TypeElement declaringType = type;
+             declaringType != null && !isJavaType(declaringType);
+             declaringType = getSuperclass(declaringType)) {
+
+            for (ExecutableElement method : ElementFilter.methodsIn(declaringType.getEnclosedElements())) {
+                if (isAnnotated(method, AUTOWIRED) || isAnnotatedWithAny(method, UNSUPPORTED_ANNOTATIONS)) {
+                    return skip(type, "injected method " + declaringType + "." + method.getSimpleName());
+                }
+            }
+
+            List<InjectedField> declaredAutowiredFields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+                boolean autowired = isAnnotated(field, AUTOWIRED);
+                boolean swingAutowired = isAnnotated(field, SWING_AUTOWIRED);
+                if (isAnnotatedWithAny(field, UNSUPPORTED_ANNOTATIONS)) {
+                    return skip(type, "qualified field " + declaringType + "." + field.getSimpleName());
+                }
+                if (field.getModifiers().contains(STATIC) || !autowired && !swingAutowired) {
+                    continue;
+                }
+                if (swingAutowired && isObject(field.asType()) && !autowired) {
+                    continue;
+                }
+
+                Optional<TypeElement> fieldType = getInjectableType(field.asType(), targetPackage, !swingAutowired);
+                if (fieldType.isEmpty() || field.getModifiers().contains(FINAL) ||
+                    !isAccessible(declaringType, targetPackage)) {
+                    return skip(type, "unsupported field " + declaringType + "." + field.getSimpleName());
+                }
+
+                String declaringClass = declaringType.getQualifiedName().toString();
+                String fieldTypeName = fieldType.get().getQualifiedName().toString();
+                String name = field.getSimpleName().toString();
+                boolean accessible = isAccessible(field, declaringType, targetPackage);
+                if (autowired) {
+                    declaredAutowiredFields.add(new InjectedField(
+                        declaringClass, name, fieldTypeName, false, isRequired(field), accessible));
+                }
+                if (swingAutowired && !isObject(field.asType())) {
+                    swingAutowiredFields.add(new InjectedField(
+                        declaringClass, name, fieldTypeName, true, true, accessible));
+                }
+            }
+            autowiredFields.addAll(0, declaredAutowiredFields);
+        }
+
+        List<InjectedField> injectedFields = new ArrayList<>(autowiredFields);
+        injectedFields.addAll(swingAutowiredFields);
+        return Optional.of(injectedFields);
+    }
+
+    /**
+     * Get the class of an injected field type.
+     * <p>
+     * Autowired fields are resolved by class only, so the parameterized types,
+     * used for collections, optional or provider dependencies, are not supported.
+     */
+    private Optional<TypeElement> getInjectableType(final TypeMirror type,
+                                                    final PackageElement targetPackage,
+                                                    boolean autowired) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return Optional.empty();
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (autowired && !typeElement.getTypeParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(typeElement)
+            .filter(element -> isAccessible(element, targetPackage));
+    }
+
+    private boolean isRequired(final VariableElement field) {
+        return field.getAnnotationMirrors()
+            .stream()
+            .filter(annotation -> getName(annotation).equals(AUTOWIRED))
+            .flatMap(annotation -> annotation.getElementValues().entrySet().stream())
+            .filter(entry -> entry.getKey().getSimpleName().contentEquals("required"))
+            .map(entry -> (Boolean) entry.getValue().getValue())
+            .findFirst()
+            .orElse(true);
+    }
+
+    private boolean isAccessible(final VariableElement field,
+                                 final TypeElement declaringType,
+                                 final PackageElement targetPackage) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(PRIVATE) &&
+            (modifiers.contains(PUBLIC) || getPackage(declaringType).equals(targetPackage));
+    }
+
+    private boolean isAccessible(final TypeElement type, final PackageElement targetPackage) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(PRIVATE) ||
+                !modifiers.contains(PUBLIC) && !getPackage(element).equals(targetPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a class is part of the Java platform, so it cannot have injection points.
+     */
+    private boolean isJavaType(final TypeElement type) {
+        String name = type.getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    private boolean isObject(final TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED &&
+            ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private boolean isAnnotatedWithAny(final Element element, final Set<String> annotationNames) {
+        return annotationNames.stream().anyMatch(annotationName -> isAnnotated(element, annotationName));
+    }
+
+    private boolean isAnnotated(final Element element, final String annotationName) {
+        return isAnnotated(element, annotationName, new HashSet<>());
+    }
+
+    private boolean isAnnotated(final Element element, final String annotationName, final Set<String> visited) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = getName(annotation);
+            if (name.equals(annotationName) ||
+                !name.startsWith("java.lang.") && visited.add(name) &&
+                    isAnnotated(annotation.getAnnotationType().asElement(), annotationName, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getName(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ?
+            (TypeElement) ((DeclaredType) superclass).asElement() :
+            null;
+    }
+
+    private PackageElement getPackage(final Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private <T> Optional<T> skip(final TypeElement type, final String reason) {
+        if (verbose) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "No context injector generated for " + type + ": " + reason, type);
+        }
+        return Optional.empty();
+    }
+
+    private void writeContextInjector(final TypeElement type, final List<InjectedField> fields) {
+        String packageName = getPackage(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String injectorName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) +
+            CONTEXT_INJECTOR_SUFFIX;
+        String injectorClass = packageName.isEmpty() ? injectorName : packageName + "." + injectorName;
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(injectorClass, type);
+            try (Writer writer = sourceFile.openWriter()) {
+                new ContextInjectorWriter(packageName, injectorName, type.getQualifiedName().toString(), fields)
+                    .write(writer);
+            }
+            contextInjectors.add(injectorClass);
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Failed to generate the context injector of " + type + ": " + ex.getMessage(), type);
+        }
+    }
+
+    /**
+     * Write the service file listing the injectors generated by this compilation.
+     * <p>
+     * The file is rebuilt rather than merged with the one of a previous compilation,
+     * so it never lists the injectors of classes which were removed or no longer need one.
+     */
+    private void writeServiceFile() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject serviceFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String contextInjector : contextInjectors) {
+                    writer.write(contextInjector);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Failed to write the context injectors service file: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writer of the source code of a context injector.
+ * <p>
+ * The generated injector resolves the beans once, through the injection resolver,
+ * and then writes the fields of each object directly,
+ * or through a {@link java.lang.invoke.VarHandle} when the field is not accessible from the injector package.
+ * The target is cast to the declaring class only for the fields inherited from a superclass.
+ */
+public class ContextInjectorWriter {
+
+    private static final String CONTEXT_INJECTOR = "org.cosinus.swing.context.ContextInjector";
+
+    private static final String INJECTION_RESOLVER = "org.cosinus.swing.context.InjectionResolver";
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+
+    private final String injectorName;
+
+    private final String targetClass;
+
+    private final List<InjectedField> fields;
+
+    public ContextInjectorWriter(final String packageName,
+                                 final String injectorName,
+                                 final String targetClass,
+                                 final List<InjectedField> fields) {
+        this.packageName = packageName;
+        this.injectorName = injectorName;
+        this.targetClass = targetClass;
+        this.fields = fields;
+    }
+
+    public void write(final Writer writer) throws IOException {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Context injector of {@link ").append(targetClass).append("},\n")
+            .append(" * generated by ").append(ContextInjectorProcessor.class.getName()).append(".\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(injectorName)
+            .append(" implements ").append(CONTEXT_INJECTOR).append("<").append(targetClass).append("> {\n");
+
+        for (int index = 0; index < fields.size(); index++) {
+            InjectedField field = fields.get(index);
+            if (!field.accessible()) {
+                source.append("\n")
+                    .append(INDENT).append("private static final java.lang.invoke.VarHandle FIELD_").append(index)
+                    .append(" =\n")
+                    .append(INDENT).append(INDENT).append(CONTEXT_INJECTOR)
+                    .append(".fieldHandle(java.lang.invoke.MethodHandles.lookup(), ")
+                    .append(field.declaringClass()).append(".class, \"")
+                    .append(field.name()).append("\", ")
+                    .append(field.type()).append(".class);\n");
+            }
+        }
+
+        source.append("\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public Class<").append(targetClass).append("> getTargetClass() {\n")
+            .append(INDENT).append(INDENT).append("return ").append(targetClass).append(".class;\n")
+            .append(INDENT).append("}\n\n")
+            .append(INDENT).append("@Override\n")
+            .append(INDENT).append("public java.util.function.Consumer<").append(targetClass).append("> resolve(")
+            .append("final ").append(INJECTION_RESOLVER).append(" resolver) {\n");
+
+        for (int index = 0; index < fields.size(); index++) {
+            InjectedField field = fields.get(index);
+            source.append(INDENT).append(INDENT).append("final ");
+            if (field.swingAutowired()) {
+                source.append(field.type()).append(" bean").append(index)
+                    .append(" = resolver.getSwingComponent(\"").append(field.name()).append("\", ")
+                    .append(field.type()).append(".class);\n");
+            } else {
+                source.append("java.util.function.Supplier<").append(field.type()).append("> bean").append(index)
+                    .append(" = resolver.getBean(\"").append(field.name()).append("\", ")
+                    .append(field.type()).append(".class, ").append(field.required()).append(");\n");
+            }
+        }
+
+        source.append(INDENT).append(INDENT).append("return target -> {\n");
+        for (int index = 0; index < fields.size(); index++) {
+            InjectedField field = fields.get(index);
+            String indent = INDENT.repeat(3);
+            String value = "bean" + index;
+            if (!field.swingAutowired()) {
+                value = "value" + index;
+                source.append(indent).append(field.type()).append(" ").append(value)
+                    .append(" = bean").append(index).append(".get();\n")
+                    .append(indent).append("if (").append(value).append(" != null) {\n");
+                indent += INDENT;
+            }
+            if (field.accessible() && field.declaringClass().equals(targetClass)) {
+                source.append(indent).append("target.")
+                    .append(field.name()).append(" = ").append(value).append(";\n");
+            } else if (field.accessible()) {
+                source.append(indent).append("((").append(field.declaringClass()).append(") target).")
+                    .append(field.name()).append(" = ").append(value).append(";\n");
+            } else {
+                source.append(indent).append("FIELD_").append(index)
+                    .append(".set(target, ").append(value).append(");\n");
+            }
+            if (!field.swingAutowired()) {
+                source.append(INDENT.repeat(3)).append("}\n");
+            }
+        }
+        source.append(INDENT).append(INDENT).append("};\n")
+            .append(INDENT).append("}\n")
+            .append("}\n");
+
+        writer.write(source.toString());
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.processor;
+
+/**
+ * Field injected by a generated context injector.
+ *
+ * @param declaringClass the canonical name of the class declaring the field
+ * @param name           the field name
+ * @param type           the canonical name of the erased field type
+ * @param swingAutowired true for a SwingAutowired field, false for an Autowired field
+ * @param required       true if the injected bean is required
+ * @param accessible     true if the field can be written directly by the injector
+ */
+public record InjectedField(String declaringClass,
+                            String name,
+                            String type,
+                            boolean swingAutowired,
+                            boolean required,
+                            boolean accessible) {
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Annotation processor writing the index of the resources in the class output folder.
+ * <p>
+ * The resources are copied into the class output folder before compilation,
+ * so the index is written at the end of the compilation.
+ * It lists the path, size, last modified time and CRC-32 of each resource,
+ * followed by the content of the resources smaller than {@value #DEFAULT_PACKED_MAX_SIZE} bytes
+ * (or the {@value #PACKED_MAX_SIZE_OPTION} option), packed together.
+ * <p>
+ * The index is read at runtime by the ResourceIndex, which defines the same format:
+ * <pre>
+ * int magic, int version, int entry count,
+ * entries: short path length, path bytes (UTF-8), int size, long last modified, int CRC-32,
+ *          long data offset (-1 if not packed),
+ * data: the packed resources
+ * </pre>
+ * The index is not written if the {@value #RESOURCE_INDEX_OPTION} option is false.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({ResourceIndexProcessor.RESOURCE_INDEX_OPTION, ResourceIndexProcessor.PACKED_MAX_SIZE_OPTION})
+public class ResourceIndexProcessor extends AbstractProcessor {
+
+    public static final String RESOURCE_INDEX_OPTION = "swing.resource.index";
+
+    public static final String PACKED_MAX_SIZE_OPTION = "swing.resource.packedMaxSize";
+
+    public static final String RESOURCE_INDEX_PATH = "META-INF/spring-swing/resources.idx";
+
+    public static final int DEFAULT_PACKED_MAX_SIZE = 64 * 1024;
+
+    private static final String RESOURCE_INDEX = "org.cosinus.swing.resource.ResourceIndex";
+
+    private static final int RESOURCE_INDEX_MAGIC = 0x53574958;
+
+    private static final int RESOURCE_INDEX_VERSION = 2;
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private boolean enabled;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        enabled = !"false".equals(processingEnv.getOptions().get(RESOURCE_INDEX_OPTION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (!roundEnv.processingOver()) {
+            enabled &= processingEnv.getElementUtils().getTypeElement(RESOURCE_INDEX) != null;
+        } else if (enabled) {
+            enabled = false;
+            writeResourceIndex();
+        }
+        return false;
+    }
+
+    private void writeResourceIndex() {
+        try {
+            FileObject indexFile = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_INDEX_PATH);
+            if (!"file".equals(indexFile.toUri().getScheme())) {
+                return;
+            }
+            Path classOutput = Paths.get(indexFile.toUri()).getParent().getParent().getParent();
+            List<Path> resources = findResources(classOutput);
+            try (OutputStream output = indexFile.openOutputStream()) {
+                writeResourceIndex(classOutput, resources, output, getPackedMaxSize());
+            }
+        } catch (IOException | RuntimeException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Failed to write the resource index: " + ex.getMessage());
+        }
+    }
+
+    private List<Path> findResources(final Path classOutput) throws IOException {
+        Path indexPath = classOutput.resolve(RESOURCE_INDEX_PATH);
+        try (Stream<Path> files = Files.walk(classOutput)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> !file.getFileName().toString().endsWith(CLASS_FILE_EXTENSION))
+                .filter(file -> !file.equals(indexPath))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private void writeResourceIndex(final Path classOutput,
+                                    final List<Path> resources,
+                                    final OutputStream outputStream,
+                                    int packedMaxSize) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(RESOURCE_INDEX_MAGIC);
+        output.writeInt(RESOURCE_INDEX_VERSION);
+        output.writeInt(resources.size());
+
+        long[] sizes = new long[resources.size()];
+        long offset = 0;
+        for (int index = 0; index < resources.size(); index++) {
+            Path resource = resources.get(index);
+            byte[] path = classOutput.relativize(resource).toString().replace('\\', '/').getBytes(UTF_8);
+            sizes[index] = Files.size(resource);
+            boolean packed = sizes[index] <= packedMaxSize;
+            output.writeShort(path.length);
+            output.write(path);
+            output.writeInt((int) sizes[index]);
+            output.writeLong(Files.getLastModifiedTime(resource).toMillis());
+            output.writeInt((int) getChecksum(resource));
+            output.writeLong(packed ? offset : -1);
+            if (packed) {
+                offset += sizes[index];
+            }
+        }
+
+        for (int index = 0; index < resources.size(); index++) {
+            if (sizes[index] <= packedMaxSize) {
+                byte[] content = Files.readAllBytes(resources.get(index));
+                if (content.length != sizes[index]) {
+                    throw new IOException("Resource changed while indexing: " + resources.get(index));
+                }
+                output.write(content);
+            }
+        }
+        output.flush();
+    }
+
+    private long getChecksum(final Path resource) throws IOException {
+        try (CheckedInputStream input = new CheckedInputStream(Files.newInputStream(resource), new CRC32())) {
+            input.transferTo(OutputStream.nullOutputStream());
+            return input.getChecksum().getValue();
+        }
+    }
+
+    private int getPackedMaxSize() {
+        try {
+            String packedMaxSize = processingEnv.getOptions().get(PACKED_MAX_SIZE_OPTION);
+            return packedMaxSize != null ? Integer.parseInt(packedMaxSize) : DEFAULT_PACKED_MAX_SIZE;
+        } catch (NumberFormatException ex) {
+            return DEFAULT_PACKED_MAX_SIZE;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.test.boot.event;
+
+import org.cosinus.swing.boot.event.ApplicationContextAfterInitializeBeanEvent;
+import org.cosinus.swing.boot.event.ApplicationContextBeforeInitializeBeanEvent;
+import org.cosinus.swing.boot.event.ApplicationContextStartupAutoConfiguration;
+import org.cosinus.swing.boot.event.StartupProgress;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.cosinus.swing.boot.event.StartupProgress.STARTUP_PROGRESS_BEAN_NAME;
+import static org.junit.Assert.*;
+
+/**
+ * Check that the per bean events are published when not required by a startup listener
+ * only if the context has listeners declared for them.
+ */
+public class BeanProcessorListenerTest {
+
+    @Test
+    public void testNoBeanEventsForGenericListeners() {
+        try (AnnotationConfigApplicationContext context = createContext(ApplicationEventListener.class)) {
+            assertTrue(context.getBean(StartupProgress.class).getInitializedBeanCount() > 0);
+            assertTrue(context.getBean(ApplicationEventListener.class).beanEvents.isEmpty());
+        }
+    }
+
+    @Test
+    public void testBeanEventsForListenerBean() {
+        try (AnnotationConfigApplicationContext context = createContext(BeanEventListener.class)) {
+            assertTrue(context.getBean(BeanEventListener.class).beanNames.contains(beanName(context, TestBean.class)));
+        }
+    }
+
+    @Test
+    public void testBeanEventsForEventListenerMethod() {
+        try (AnnotationConfigApplicationContext context = createContext(BeanEventMethodListener.class)) {
+            context.getBean(LazyBean.class);
+
+            assertEquals(List.of(beanName(context, LazyBean.class)),
+                context.getBean(BeanEventMethodListener.class).beanNames);
+        }
+    }
+
+    private AnnotationConfigApplicationContext createContext(final Class<?> listenerClass) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().registerSingleton(STARTUP_PROGRESS_BEAN_NAME, new StartupProgress(false));
+        context.register(ApplicationContextStartupAutoConfiguration.class,
+            listenerClass,
+            TestBean.class,
+            LazyBean.class);
+        context.refresh();
+        return context;
+    }
+
+    private String beanName(final AnnotationConfigApplicationContext context, final Class<?> beanClass) {
+        return context.getBeanNamesForType(beanClass)[0];
+    }
+
+    public static class TestBean {
+    }
+
+    @Lazy
+    public static class LazyBean {
+    }
+
+    public static class ApplicationEventListener implements ApplicationListener<ApplicationEvent> {
+
+        private final List<ApplicationEvent> beanEvents = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(final ApplicationEvent event) {
+            if (event instanceof ApplicationContextBeforeInitializeBeanEvent ||
+                event instanceof ApplicationContextAfterInitializeBeanEvent) {
+                beanEvents.add(event);
+            }
+        }
+    }
+
+    public static class BeanEventListener implements ApplicationListener<ApplicationContextAfterInitializeBeanEvent> {
+
+        private final List<String> beanNames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onApplicationEvent(final ApplicationContextAfterInitializeBeanEvent event) {
+            beanNames.add(event.getBeanName());
+        }
+    }
+
+    public static class BeanEventMethodListener {
+
+        private final List<String> beanNames = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void beanInitialized(final ApplicationContextAfterInitializeBeanEvent event) {
+            beanNames.add(event.getBeanName());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.boot.initialize;
+
+import org.cosinus.swing.boot.initialize.ApplicationFrameInitializer;
+import org.cosinus.swing.boot.initialize.ApplicationInitializationReport;
+import org.cosinus.swing.boot.initialize.ApplicationInitializer;
+import org.cosinus.swing.boot.initialize.ApplicationInitializerGraph;
+import org.cosinus.swing.boot.initialize.InitializerTiming;
+import org.cosinus.swing.error.SpringSwingException;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.cosinus.swing.boot.initialize.ApplicationInitializerGraph.APPLICATION_FRAME_NODE;
+import static org.junit.Assert.*;
+
+public class ApplicationInitializerGraphTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService backgroundExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @After
+    public void tearDown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testDependencyOrder() {
+        ApplicationInitializationReport report = createGraph(false,
+            new Landing(), new Deploy(), new Drive(), new Sample())
+            .run()
+            .join();
+
+        assertBefore("Landing", "Deploy");
+        assertBefore("Deploy", APPLICATION_FRAME_NODE);
+        assertBefore(APPLICATION_FRAME_NODE, "Drive");
+        assertBefore("Drive", "Sample");
+        assertEquals(5, report.timings().size());
+        assertTrue(getTiming(report, "Deploy").eventDispatchThread());
+        assertFalse(getTiming(report, "Landing").eventDispatchThread());
+        assertTrue(report.timings().stream().noneMatch(InitializerTiming::failed));
+    }
+
+    @Test
+    public void testFailedInitializerDoesNotStopDependents() {
+        Landing landing = new Landing();
+        landing.failure = new IllegalStateException("Parachute failed");
+
+        ApplicationInitializationReport report = createGraph(false, landing, new Deploy(), new Drive())
+            .run()
+            .join();
+
+        assertTrue(getTiming(report, "Landing").failed());
+        assertTrue(events.contains("Deploy"));
+        assertTrue(events.contains("Drive"));
+    }
+
+    @Test
+    public void testFailedFrameStopsDependents() {
+        ApplicationInitializerGraph graph = createGraph(true, new Landing(), new Drive(), new Sample());
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> graph.run().join());
+
+        assertTrue(exception.getCause() instanceof SpringSwingException);
+        assertTrue(events.contains("Landing"));
+        assertFalse(events.contains("Drive"));
+        assertFalse(events.contains("Sample"));
+    }
+
+    @Test
+    public void testRunAndWaitOnEventDispatchThread() throws Exception {
+        AtomicReference<ApplicationInitializationReport> report = new AtomicReference<>();
+
+        SwingUtilities.invokeAndWait(() -> report.set(
+            createGraph(false, new Landing(), new Deploy(), new Drive(), new Sample()).runAndWait()));
+
+        assertEquals(5, report.get().timings().size());
+        assertEquals(List.of("Landing", "Deploy", APPLICATION_FRAME_NODE, "Drive", "Sample"), events);
+    }
+
+    @Test
+    public void testRunAndWaitWithFailedFrame() throws Exception {
+        AtomicReference<Exception> exception = new AtomicReference<>();
+
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                createGraph(true, new Landing(), new Drive()).runAndWait();
+            } catch (SpringSwingException ex) {
+                exception.set(ex);
+            }
+        });
+
+        assertNotNull(exception.get());
+        assertFalse(events.contains("Drive"));
+    }
+
+    @Test
+    public void testCyclicDependencies() {
+        assertThrows(IllegalStateException.class, () -> createGraph(false, new Drive(), new Sample(), new Return()));
+    }
+
+    private ApplicationInitializerGraph createGraph(boolean failingFrame, ApplicationInitializer... initializers) {
+        return new ApplicationInitializerGraph(List.of(initializers), new ApplicationFrameInitializer(null) {
+            @Override
+            public void initialize() {
+                assertTrue(SwingUtilities.isEventDispatchThread());
+                events.add(APPLICATION_FRAME_NODE);
+                if (failingFrame) {
+                    throw new IllegalStateException("No frame");
+                }
+            }
+        }, backgroundExecutor);
+    }
+
+    private void assertBefore(String first, String second) {
+        assertTrue(first + " should run before " + second, events.indexOf(first) < events.indexOf(second));
+        assertTrue(events.indexOf(first) >= 0);
+    }
+
+    private InitializerTiming getTiming(ApplicationInitializationReport report, String name) {
+        return report.timings()
+            .stream()
+            .filter(timing -> timing.name().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private abstract class RecordingInitializer implements ApplicationInitializer {
+
+        private final boolean eventDispatchThread;
+
+        private final boolean beforeFrame;
+
+        private final Set<Class<? extends ApplicationInitializer>> dependencies;
+
+        protected RuntimeException failure;
+
+        protected RecordingInitializer(boolean eventDispatchThread,
+                                       boolean beforeFrame,
+                                       Set<Class<? extends ApplicationInitializer>> dependencies) {
+            this.eventDispatchThread = eventDispatchThread;
+            this.beforeFrame = beforeFrame;
+            this.dependencies = dependencies;
+        }
+
+        @Override
+        public void initialize() {
+            assertEquals(eventDispatchThread, SwingUtilities.isEventDispatchThread());
+            events.add(getClass().getSimpleName());
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public boolean beforeInitializeApplicationFrame() {
+            return beforeFrame;
+        }
+
+        @Override
+        public Set<Class<? extends ApplicationInitializer>> getDependencies() {
+            return dependencies;
+        }
+
+        @Override
+        public boolean runOnEventDispatchThread() {
+            return eventDispatchThread;
+        }
+    }
+
+    private class Landing extends RecordingInitializer {
+        private Landing() {
+            super(false, true, Set.of());
+        }
+    }
+
+    private class Deploy extends RecordingInitializer {
+        private Deploy() {
+            super(true, true, Set.of(Landing.class));
+        }
+    }
+
+    private class Drive extends RecordingInitializer {
+        private Drive() {
+            super(false, false, Set.of(Return.class));
+        }
+    }
+
+    private class Sample extends RecordingInitializer {
+        private Sample() {
+            super(false, false, Set.of(Drive.class));
+        }
+    }
+
+    private class Return extends RecordingInitializer {
+        private Return() {
+            super(false, false, Set.of(Sample.class));
+        }
+    }
+}
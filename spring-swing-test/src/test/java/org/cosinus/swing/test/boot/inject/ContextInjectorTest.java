@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.boot.inject;
+
+import org.cosinus.swing.context.ApplicationContextInjector;
+import org.cosinus.swing.context.ContextInjector;
+import org.cosinus.swing.context.SwingAutowired;
+import org.cosinus.swing.context.SwingComponent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.cosinus.swing.context.ApplicationContextInjector.injectContext;
+import static org.cosinus.swing.context.ContextInjector.CONTEXT_INJECTOR_SUFFIX;
+import static org.cosinus.swing.util.ReflectionUtils.findBeanForField;
+import static org.cosinus.swing.util.ReflectionUtils.getAnnotatedFields;
+import static org.junit.Assert.*;
+import static org.springframework.util.ReflectionUtils.getField;
+import static org.springframework.util.ReflectionUtils.makeAccessible;
+import static org.springframework.util.ReflectionUtils.setField;
+
+/**
+ * Check that the context injectors generated by the annotation processor
+ * inject the same beans as the reflection based injection.
+ */
+public class ContextInjectorTest {
+
+    private ApplicationContext previousApplicationContext;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    @Before
+    public void setUp() {
+        previousApplicationContext = ApplicationContextInjector.applicationContext;
+        applicationContext = new AnnotationConfigApplicationContext(InjectedService.class, InjectedComponent.class);
+        new ApplicationContextInjector(applicationContext);
+    }
+
+    @After
+    public void tearDown() {
+        applicationContext.close();
+        ApplicationContextInjector.applicationContext = previousApplicationContext;
+        ApplicationContextInjector.clearInjectionCache();
+    }
+
+    @Test
+    public void testContextInjectorIsGenerated() {
+        String injectorName = InjectedObject.class.getName() + CONTEXT_INJECTOR_SUFFIX;
+
+        assertTrue(ServiceLoader.load(ContextInjector.class)
+            .stream()
+            .anyMatch(provider -> provider.type().getName().equals(injectorName)));
+    }
+
+    @Test
+    public void testGeneratedInjectionMatchesReflection() {
+        InjectedObject generated = new InjectedObject();
+        injectContext(generated);
+
+        InjectedObject reflective = new InjectedObject();
+        injectByReflection(reflective);
+
+        assertNotNull(generated.parentService);
+        assertNotNull(generated.getService());
+        assertNotNull(generated.packageService);
+        assertNotNull(generated.component);
+        assertNull(generated.missing);
+        for (Class<?> type = InjectedObject.class; type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                makeAccessible(field);
+                assertSame(field.getName(), getField(field, reflective), getField(field, generated));
+            }
+        }
+    }
+
+    private void injectByReflection(final Object object) {
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(object);
+        Map<String, Object> swingComponents = applicationContext.getBeansWithAnnotation(SwingComponent.class);
+        getAnnotatedFields(object.getClass(), Object.class, SwingAutowired.class)
+            .forEach(field -> {
+                makeAccessible(field);
+                setField(field, object, findBeanForField(field, swingComponents).orElseThrow());
+            });
+    }
+
+    public static class InjectedService {
+    }
+
+    @SwingComponent
+    public static class InjectedComponent {
+    }
+
+    public static class InjectedParent {
+
+        @Autowired
+        protected InjectedService parentService;
+    }
+
+    public static class InjectedObject extends InjectedParent {
+
+        @Autowired
+        private InjectedService service;
+
+        @Autowired
+        InjectedService packageService;
+
+        @Autowired(required = false)
+        Runnable missing;
+
+        @SwingAutowired
+        InjectedComponent component;
+
+        public InjectedService getService() {
+            return service;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.boot.profile;
+
+import org.cosinus.swing.boot.SpringSwingApplicationBuilder;
+import org.cosinus.swing.boot.profile.ProfilingApplicationStartupListener;
+import org.cosinus.swing.boot.profile.StartupRegression;
+import org.cosinus.swing.boot.profile.StartupTimeline;
+import org.cosinus.swing.test.boot.frame.TestSpringSwingFrameApplication;
+import org.cosinus.swing.test.storage.TestApplicationStorageConfiguration;
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.cosinus.swing.boot.profile.ProfilingApplicationStartupListener.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Boot the test frame application with the startup profiler and check it against a baseline.
+ * <p>
+ * The baseline is the timeline file given by the "startup-profile-baseline" system property,
+ * recorded by a previous build on the same machine. Without it, the test is skipped.
+ */
+public class StartupProfileTest {
+
+    @Test
+    public void testNoStartupRegression() throws Exception {
+        String baselineFile = System.getProperty(STARTUP_PROFILE_BASELINE);
+        assumeTrue("No startup profile baseline", baselineFile != null && Files.exists(Path.of(baselineFile)));
+        StartupTimeline baseline = StartupTimeline.read(Path.of(baselineFile));
+
+        StartupTimeline timeline = bootAndProfile();
+
+        assertTrue(timeline.durationNanos() > 0);
+        assertFalse(timeline.spans().isEmpty());
+        List<StartupRegression> regressions = timeline.findRegressions(baseline,
+            Integer.getInteger(STARTUP_PROFILE_TOLERANCE, DEFAULT_TOLERANCE_PERCENT),
+            DEFAULT_MIN_DELTA_NANOS);
+        assertEquals(emptyList(), regressions);
+    }
+
+    private StartupTimeline bootAndProfile() throws Exception {
+        SpringSwingApplicationBuilder applicationBuilder = new SpringSwingApplicationBuilder(
+            TestSpringSwingFrameApplication.class,
+            TestApplicationStorageConfiguration.class);
+        ProfilingApplicationStartupListener profiler = new ProfilingApplicationStartupListener(
+            applicationBuilder.application(),
+            null,
+            null,
+            DEFAULT_TOLERANCE_PERCENT);
+        ConfigurableApplicationContext context = applicationBuilder
+            .startupListeners(profiler)
+            .run();
+        try {
+            return profiler.getTimeline().get(1, MINUTES);
+        } finally {
+            context.close();
+        }
+    }
+}
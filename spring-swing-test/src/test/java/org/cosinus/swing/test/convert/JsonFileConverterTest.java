@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.convert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cosinus.swing.convert.JsonFileConverter;
+import org.cosinus.swing.resource.ResourceLocator;
+import org.cosinus.swing.resource.ResourceResolver;
+import org.cosinus.swing.resource.ResourceSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.cosinus.swing.resource.ResourceSource.FILESYSTEM;
+import static org.junit.Assert.*;
+
+public class JsonFileConverterTest {
+
+    private static final String ROVER = "rover";
+
+    private static final FileTime LAST_MODIFIED = FileTime.fromMillis(1_000_000_000_000L);
+
+    private Path workFolder;
+
+    private RoverConverter converter;
+
+    @Before
+    public void setUp() throws IOException {
+        workFolder = Files.createTempDirectory("json-converter-test");
+        converter = new RoverConverter(new FolderResourceResolver(workFolder));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testCachedModelIsReused() throws IOException {
+        writeRover("{\"name\": \"Curiosity\"}");
+
+        Rover rover = converter.convert(FILESYSTEM, ROVER).orElseThrow();
+
+        assertSame(rover, converter.convert(FILESYSTEM, ROVER).orElseThrow());
+    }
+
+    @Test
+    public void testSaveModelEvictsCachedModel() throws IOException {
+        writeRover("{\"name\": \"Curiosity\"}");
+        Rover curiosity = converter.convert(FILESYSTEM, ROVER).orElseThrow();
+
+        Rover perseverance = new Rover();
+        perseverance.name = "Perseverance";
+        converter.saveModel(ROVER, perseverance);
+        // same modification time, as for two saves within the file system time resolution
+        Files.setLastModifiedTime(roverFile(), LAST_MODIFIED);
+
+        Rover savedRover = converter.convert(FILESYSTEM, ROVER).orElseThrow();
+        assertNotSame(curiosity, savedRover);
+        assertEquals("Perseverance", savedRover.name);
+    }
+
+    @Test
+    public void testSaveModelsListEvictsCachedModels() throws IOException {
+        writeRover("[{\"name\": \"Curiosity\"}]");
+        assertEquals(1, converter.convertToListOfModels(FILESYSTEM, ROVER).orElseThrow().size());
+
+        Rover perseverance = new Rover();
+        perseverance.name = "Perseverance";
+        converter.saveModelsList(ROVER, List.of(perseverance, perseverance));
+        Files.setLastModifiedTime(roverFile(), LAST_MODIFIED);
+
+        assertEquals(2, converter.convertToListOfModels(FILESYSTEM, ROVER).orElseThrow().size());
+    }
+
+    @Test
+    public void testDeleteFileEvictsCachedModel() throws IOException {
+        writeRover("{\"name\": \"Curiosity\"}");
+        assertTrue(converter.convert(FILESYSTEM, ROVER).isPresent());
+
+        assertTrue(converter.deleteFile(ROVER));
+
+        assertTrue(converter.convert(FILESYSTEM, ROVER).isEmpty());
+    }
+
+    @Test
+    public void testChangedFileIsConvertedAgain() throws IOException {
+        writeRover("{\"name\": \"Curiosity\"}");
+        assertEquals("Curiosity", converter.convert(FILESYSTEM, ROVER).orElseThrow().name);
+
+        Files.writeString(roverFile(), "{\"name\": \"Sojourner\"}", UTF_8);
+        Files.setLastModifiedTime(roverFile(), FileTime.fromMillis(LAST_MODIFIED.toMillis() + 2000));
+
+        assertEquals("Sojourner", converter.convert(FILESYSTEM, ROVER).orElseThrow().name);
+    }
+
+    private void writeRover(final String json) throws IOException {
+        Files.createDirectories(roverFile().getParent());
+        Files.writeString(roverFile(), json, UTF_8);
+        Files.setLastModifiedTime(roverFile(), LAST_MODIFIED);
+    }
+
+    private Path roverFile() {
+        return workFolder.resolve(RoverConverter.LOCATION).resolve(ROVER + JsonFileConverter.JSON_EXTENSION);
+    }
+
+    public static class Rover {
+
+        public String name;
+    }
+
+    private static class RoverConverter extends JsonFileConverter<Rover> {
+
+        private static final String LOCATION = "rovers";
+
+        RoverConverter(final ResourceResolver resourceResolver) {
+            super(new ObjectMapper(), Rover.class, Set.of(resourceResolver));
+        }
+
+        @Override
+        protected String adjustName(final String name) {
+            return name + JSON_EXTENSION;
+        }
+
+        @Override
+        protected ResourceLocator resourceLocator() {
+            return ResourceLocator.resourceLocator(LOCATION);
+        }
+    }
+
+    /**
+     * Filesystem resource resolver of the files in a folder.
+     */
+    private record FolderResourceResolver(Path folder) implements ResourceResolver {
+
+        @Override
+        public Optional<Path> resolveResourcePath(final ResourceLocator resourceLocator, final String name) {
+            return Optional.of(folder.resolve(resourceLocator.getLocation()).resolve(name));
+        }
+
+        @Override
+        public Optional<byte[]> resolveAsBytes(final ResourceLocator resourceLocator, final String name) {
+            return resolveResourcePath(resourceLocator, name)
+                .flatMap(this::readBytes);
+        }
+
+        @Override
+        public Optional<byte[]> resolveAsBytes(final String resourcePath) {
+            return readBytes(folder.resolve(resourcePath));
+        }
+
+        @Override
+        public Stream<String> resolveResources(final ResourceLocator resourceLocator, final String fileExtension) {
+            return Stream.empty();
+        }
+
+        @Override
+        public ResourceSource getResourceSource() {
+            return FILESYSTEM;
+        }
+
+        private Optional<byte[]> readBytes(final Path path) {
+            try {
+                return Files.isRegularFile(path) ? Optional.of(Files.readAllBytes(path)) : Optional.empty();
+            } catch (IOException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.exec;
+
+import org.cosinus.swing.error.ProcessExecutionException;
+import org.cosinus.swing.exec.CommandSession;
+import org.cosinus.swing.exec.ProcessResult;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.cosinus.swing.exec.ProcessExecutor.DEFAULT_MAX_OUTPUT_SIZE;
+import static org.junit.Assert.*;
+
+public class CommandSessionTest {
+
+    @Test
+    public void testExecute() throws Exception {
+        try (CommandSession session = new CommandSession()) {
+            ProcessResult result = session.execute("echo", "rover's name");
+
+            assertTrue(result.isSuccessful());
+            assertEquals("rover's name\n", result.output());
+        }
+    }
+
+    @Test
+    public void testExecuteExitCode() throws Exception {
+        try (CommandSession session = new CommandSession()) {
+            List<ProcessResult> results = session.executeAll(List.of(
+                new String[]{"sh", "-c", "exit 3"},
+                new String[]{"echo", "landed"}));
+
+            assertEquals(3, results.get(0).exitCode());
+            assertEquals("landed\n", results.get(1).output());
+            assertTrue(session.isAlive());
+        }
+    }
+
+    @Test
+    public void testExecuteTimeout() throws Exception {
+        CommandSession timedOutSession = new CommandSession(
+            Duration.ofMillis(200), DEFAULT_MAX_OUTPUT_SIZE, CommandSession.SHELL);
+        try {
+            long start = System.nanoTime();
+            ProcessExecutionException exception =
+                assertThrows(ProcessExecutionException.class, () -> timedOutSession.execute("sleep", "30"));
+
+            assertTrue(exception.getMessage().startsWith("Command timed out"));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toSeconds() < 10);
+        } finally {
+            timedOutSession.close();
+        }
+        assertFalse(timedOutSession.isAlive());
+
+        try (CommandSession session = new CommandSession(
+            Duration.ofMillis(200), DEFAULT_MAX_OUTPUT_SIZE, CommandSession.SHELL)) {
+            assertEquals("touchdown\n", session.execute("echo", "touchdown").output());
+        }
+    }
+}
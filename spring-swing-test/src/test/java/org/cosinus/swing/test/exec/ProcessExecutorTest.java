@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.exec;
+
+import org.cosinus.swing.error.ProcessExecutionException;
+import org.cosinus.swing.exec.DefaultProcessExecutor;
+import org.cosinus.swing.exec.ProcessExecutor;
+import org.cosinus.swing.exec.ProcessResult;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class ProcessExecutorTest {
+
+    @Test
+    public void testExecuteAllWithPrivilegesExitCode() {
+        ProcessExecutor processExecutor = new DefaultProcessExecutor() {
+            @Override
+            public Optional<String> executeWithPrivilegesAndGetOutput(String... command) {
+                return executeAndGetOutput(command);
+            }
+        };
+
+        List<ProcessResult> results = processExecutor.executeAllWithPrivileges(List.of(
+            new String[]{"sh", "-c", "echo dust; exit 3"},
+            new String[]{"echo", "landed"}));
+
+        assertEquals(3, results.get(0).exitCode());
+        assertEquals("dust\n", results.get(0).output());
+        assertFalse(results.get(0).isSuccessful());
+        assertEquals(0, results.get(1).exitCode());
+        assertEquals("landed\n", results.get(1).output());
+    }
+
+    @Test
+    public void testExecuteAllWithPrivilegesNotSupported() {
+        ProcessExecutor processExecutor = new DefaultProcessExecutor();
+
+        assertThrows(ProcessExecutionException.class,
+            () -> processExecutor.executeAllWithPrivileges(List.<String[]>of(new String[]{"echo", "landed"})));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.file.transfer;
+
+import org.cosinus.swing.error.AbortActionException;
+import org.cosinus.swing.file.transfer.FileTransfer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.nio.file.attribute.PosixFilePermissions.fromString;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+public class FileTransferTest {
+
+    private static final Set<PosixFilePermission> FOLDER_PERMISSIONS = fromString("rwxr-x---");
+
+    private static final Set<PosixFilePermission> SCRIPT_PERMISSIONS = fromString("rwx------");
+
+    private static final Set<PosixFilePermission> READ_ONLY_PERMISSIONS = fromString("r--r--r--");
+
+    private Path workFolder;
+
+    private Path sourceFolder;
+
+    private Path targetFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        workFolder = Files.createTempDirectory("file-transfer-test");
+        assumeTrue(workFolder.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        sourceFolder = Files.createDirectory(workFolder.resolve("source"));
+        targetFolder = Files.createDirectory(workFolder.resolve("target"));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.setPosixFilePermissions(path, fromString(Files.isDirectory(path) ? "rwx------" : "rw-------"));
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testCopy() throws IOException {
+        Path rover = createRover("rover");
+
+        new FileTransfer(List.of(rover), targetFolder).run();
+
+        assertRover(targetFolder.resolve("rover"));
+        assertTrue(Files.exists(rover));
+    }
+
+    @Test
+    public void testMoveByRenaming() throws IOException {
+        Path rover = createRover("rover");
+
+        new FileTransfer(List.of(rover), targetFolder).move(true).run();
+
+        assertRover(targetFolder.resolve("rover"));
+        assertFalse(Files.exists(rover));
+    }
+
+    @Test
+    public void testMoveByCopy() throws IOException {
+        Path rover = createRover("rover");
+        Files.createDirectory(targetFolder.resolve("rover"));
+
+        new FileTransfer(List.of(rover), targetFolder).move(true).replaceExisting(true).run();
+
+        assertRover(targetFolder.resolve("rover"));
+        assertFalse(Files.exists(rover));
+    }
+
+    @Test
+    public void testResumeMove() throws IOException {
+        Path perseverance = createRover("perseverance");
+        Path curiosity = createRover("curiosity");
+        Files.createDirectory(targetFolder.resolve("curiosity"));
+        Path journal = workFolder.resolve("transfer.journal");
+
+        FileTransfer interruptedTransfer = new FileTransfer(List.of(perseverance, curiosity), targetFolder)
+            .move(true)
+            .replaceExisting(true)
+            .parallelism(1)
+            .journal(journal);
+        interruptedTransfer.listener((transferredBytes, totalBytes) -> {
+            if (transferredBytes > 0) {
+                interruptedTransfer.cancel();
+            }
+        });
+        assertThrows(AbortActionException.class, interruptedTransfer::run);
+        assertFalse(Files.exists(perseverance));
+        assertTrue(Files.exists(curiosity));
+        assertTrue(Files.exists(journal));
+
+        new FileTransfer(List.of(perseverance, curiosity), targetFolder)
+            .move(true)
+            .replaceExisting(true)
+            .journal(journal)
+            .run();
+
+        assertRover(targetFolder.resolve("perseverance"));
+        assertRover(targetFolder.resolve("curiosity"));
+        assertFalse(Files.exists(curiosity));
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test
+    public void testResumeKeepsExistingFiles() throws IOException {
+        Path perseverance = createRover("perseverance");
+        Path curiosity = createRover("curiosity");
+        Path existingScript = Files.writeString(
+            Files.createDirectory(targetFolder.resolve("curiosity")).resolve("drive.sh"), "drive --to gale");
+        Path journal = workFolder.resolve("transfer.journal");
+
+        FileTransfer interruptedTransfer = new FileTransfer(List.of(perseverance, curiosity), targetFolder)
+            .parallelism(1)
+            .journal(journal);
+        interruptedTransfer.listener((transferredBytes, totalBytes) -> {
+            if (transferredBytes > 0) {
+                interruptedTransfer.cancel();
+            }
+        });
+        assertThrows(AbortActionException.class, interruptedTransfer::run);
+
+        FileTransfer resumedTransfer = new FileTransfer(List.of(perseverance, curiosity), targetFolder)
+            .journal(journal);
+        assertThrows(FileAlreadyExistsException.class, resumedTransfer::run);
+        assertEquals("drive --to gale", Files.readString(existingScript));
+    }
+
+    @Test
+    public void testUnreadableSourceFolder() throws IOException {
+        Path rover = createRover("rover");
+        Path instruments = rover.resolve("instruments");
+        Files.setPosixFilePermissions(instruments, fromString("---------"));
+        try {
+            assumeFalse("the folder is still readable, e.g. by root", Files.isReadable(instruments));
+
+            assertThrows(FileSystemException.class, new FileTransfer(List.of(rover), targetFolder)::run);
+            assertFalse(Files.exists(targetFolder.resolve("rover/drive.sh")));
+        } finally {
+            Files.setPosixFilePermissions(instruments, FOLDER_PERMISSIONS);
+        }
+    }
+
+    private Path createRover(String name) throws IOException {
+        Path rover = Files.createDirectory(sourceFolder.resolve(name));
+        Path instruments = Files.createDirectory(rover.resolve("instruments"));
+        Files.writeString(rover.resolve("drive.sh"), "drive --to jezero");
+        Files.setPosixFilePermissions(rover.resolve("drive.sh"), SCRIPT_PERMISSIONS);
+        for (int index = 0; index < 10; index++) {
+            Path log = Files.writeString(instruments.resolve("log-" + index + ".txt"), "sol " + index);
+            Files.setPosixFilePermissions(log, READ_ONLY_PERMISSIONS);
+        }
+        Files.setPosixFilePermissions(instruments, FOLDER_PERMISSIONS);
+        return rover;
+    }
+
+    private void assertRover(Path rover) throws IOException {
+        Path instruments = rover.resolve("instruments");
+        assertEquals("drive --to jezero", Files.readString(rover.resolve("drive.sh")));
+        assertEquals(SCRIPT_PERMISSIONS, Files.getPosixFilePermissions(rover.resolve("drive.sh")));
+        assertEquals(FOLDER_PERMISSIONS, Files.getPosixFilePermissions(instruments));
+        for (int index = 0; index < 10; index++) {
+            Path log = instruments.resolve("log-" + index + ".txt");
+            assertEquals("sol " + index, Files.readString(log));
+            assertEquals(READ_ONLY_PERMISSIONS, Files.getPosixFilePermissions(log));
+        }
+    }
+}
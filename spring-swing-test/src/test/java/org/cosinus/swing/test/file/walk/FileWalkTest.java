@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.test.file.walk;
+
+import org.cosinus.swing.file.walk.FileEntry;
+import org.cosinus.swing.file.walk.FileWalk;
+import org.cosinus.swing.file.walk.FileWalk.LinkPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.attribute.PosixFilePermissions.fromString;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+public class FileWalkTest {
+
+    private Path rootFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        rootFolder = Files.createTempDirectory("file-walk-test");
+        assumeTrue(rootFolder.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Files.writeString(rootFolder.resolve("file"), "12345");
+        Files.writeString(rootFolder.resolve(".hidden"), "1");
+        Path folder = Files.createDirectories(rootFolder.resolve("folder/subfolder"));
+        Files.writeString(folder.resolve("deep"), "123");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (rootFolder == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(rootFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+                    Files.setPosixFilePermissions(path, fromString("rwx------"));
+                }
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testWalk() {
+        FileWalk walk = new FileWalk(rootFolder).batchSize(1);
+        Map<Path, FileEntry> entries = walk(walk);
+
+        assertEquals(6, entries.size());
+        assertEquals(6, walk.getEntryCount());
+        assertEquals(0, walk.getErrorCount());
+        assertEquals(0, entries.get(rootFolder).depth());
+        assertEquals(3, entries.get(rootFolder.resolve("folder/subfolder/deep")).depth());
+        assertEquals(5, entries.get(rootFolder.resolve("file")).size());
+        assertTrue(entries.get(rootFolder.resolve("folder")).isDirectory());
+        assertEquals(9, new FileWalk(rootFolder).size());
+    }
+
+    @Test
+    public void testHiddenEntries() {
+        Map<Path, FileEntry> entries = walk(new FileWalk(rootFolder));
+
+        assertTrue(entries.get(rootFolder.resolve(".hidden")).isHidden());
+        assertFalse(entries.get(rootFolder.resolve("file")).isHidden());
+        assertFalse(entries.get(rootFolder.resolve("folder")).isHidden());
+    }
+
+    @Test
+    public void testMaxDepthAndFilter() {
+        Map<Path, FileEntry> entries = walk(new FileWalk(rootFolder)
+            .maxDepth(2)
+            .filter(entry -> !entry.isHidden()));
+
+        assertTrue(entries.containsKey(rootFolder.resolve("folder/subfolder")));
+        assertFalse(entries.containsKey(rootFolder.resolve("folder/subfolder/deep")));
+        assertFalse(entries.containsKey(rootFolder.resolve(".hidden")));
+    }
+
+    @Test
+    public void testFolderVanishedWhileWalking() throws IOException {
+        Path vanishing = Files.createDirectory(rootFolder.resolve("vanishing"));
+        FileWalk walk = new FileWalk(rootFolder)
+            .filter(entry -> !entry.path().equals(vanishing) || deleteFolder(vanishing));
+        Map<Path, FileEntry> entries = walk(walk);
+
+        assertEquals(1, walk.getErrorCount());
+        assertTrue(entries.containsKey(rootFolder.resolve("folder/subfolder/deep")));
+    }
+
+    @Test
+    public void testUnreadableFolder() throws IOException {
+        Path locked = Files.createDirectory(rootFolder.resolve("locked"));
+        Files.writeString(locked.resolve("secret"), "1");
+        Files.setPosixFilePermissions(locked, fromString("---------"));
+        assumeFalse("the folder is still readable, e.g. by root", Files.isReadable(locked));
+
+        FileWalk walk = new FileWalk(rootFolder);
+        Map<Path, FileEntry> entries = walk(walk);
+
+        assertEquals(1, walk.getErrorCount());
+        assertTrue(entries.containsKey(locked));
+        assertFalse(entries.containsKey(locked.resolve("secret")));
+        assertTrue(entries.containsKey(rootFolder.resolve("folder/subfolder/deep")));
+    }
+
+    @Test
+    public void testLinkPolicies() throws IOException {
+        Path folderLink = Files.createSymbolicLink(rootFolder.resolve("folder-link"), rootFolder.resolve("folder"));
+        Path brokenLink = Files.createSymbolicLink(rootFolder.resolve("broken-link"), rootFolder.resolve("missing"));
+
+        Map<Path, FileEntry> skipped = walk(new FileWalk(rootFolder).linkPolicy(LinkPolicy.SKIP));
+        assertFalse(skipped.containsKey(folderLink));
+        assertFalse(skipped.containsKey(brokenLink));
+
+        Map<Path, FileEntry> listed = walk(new FileWalk(rootFolder).linkPolicy(LinkPolicy.LIST));
+        assertTrue(listed.get(folderLink).isSymbolicLink());
+        assertTrue(listed.get(brokenLink).isSymbolicLink());
+        assertFalse(listed.containsKey(folderLink.resolve("subfolder")));
+
+        FileWalk followWalk = new FileWalk(rootFolder).linkPolicy(LinkPolicy.FOLLOW);
+        Map<Path, FileEntry> followed = walk(followWalk);
+        assertTrue(followed.get(folderLink).isDirectory());
+        assertTrue(followed.get(brokenLink).isSymbolicLink());
+        // the linked folder is walked once, either through the link or through the folder itself
+        assertTrue(followed.containsKey(folderLink.resolve("subfolder")) ^
+            followed.containsKey(rootFolder.resolve("folder/subfolder")));
+        assertEquals(0, followWalk.getErrorCount());
+    }
+
+    @Test
+    public void testLinkLoop() throws IOException {
+        Path loop = Files.createSymbolicLink(rootFolder.resolve("folder/subfolder/loop"), rootFolder);
+        Files.createSymbolicLink(rootFolder.resolve("self"), Path.of("."));
+
+        FileWalk walk = new FileWalk(rootFolder).linkPolicy(LinkPolicy.FOLLOW);
+        Map<Path, FileEntry> entries = walk(walk);
+
+        assertTrue(entries.get(loop).isDirectory());
+        assertFalse(entries.containsKey(loop.resolve("folder")));
+        assertEquals(0, walk.getErrorCount());
+        assertEquals(8, entries.size());
+    }
+
+    private Map<Path, FileEntry> walk(final FileWalk walk) {
+        Map<Path, FileEntry> entries = new ConcurrentHashMap<>();
+        walk.run(batch -> batch.forEach(entry -> assertNull(entries.put(entry.path(), entry))));
+        return entries;
+    }
+
+    private boolean deleteFolder(final Path folder) {
+        try {
+            Files.delete(folder);
+            return true;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
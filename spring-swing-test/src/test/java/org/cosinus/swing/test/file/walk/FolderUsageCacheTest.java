@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.test.file.walk;
+
+import org.cosinus.swing.file.walk.FolderUsage;
+import org.cosinus.swing.file.walk.FolderUsageCache;
+import org.cosinus.swing.file.watch.FileChangeListener;
+import org.cosinus.swing.file.watch.FileWatchService;
+import org.cosinus.swing.file.watch.FileWatchSubscription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class FolderUsageCacheTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private Path rootFolder;
+
+    private HookedFileWatchService fileWatchService;
+
+    private FolderUsageCache folderUsageCache;
+
+    @Before
+    public void setUp() throws IOException {
+        rootFolder = Files.createTempDirectory("folder-usage-test").toRealPath();
+        // the real notifications never come, the changes are notified by the tests
+        fileWatchService = new HookedFileWatchService();
+        folderUsageCache = new FolderUsageCache(null, fileWatchService);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        folderUsageCache.close();
+        fileWatchService.close();
+        try (Stream<Path> paths = Files.walk(rootFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testUsage() throws IOException {
+        Files.writeString(Files.createDirectories(rootFolder.resolve("first")).resolve("file"), "12");
+        Files.writeString(Files.createDirectories(rootFolder.resolve("second/third")).resolve("file"), "345");
+
+        assertEquals(new FolderUsage(5, 2, 4), folderUsageCache.getUsage(rootFolder));
+        assertEquals(new FolderUsage(5, 2, 4), folderUsageCache.getUsage(rootFolder));
+        assertEquals(4, folderUsageCache.getCachedFolderCount());
+    }
+
+    @Test
+    public void testNotifiedChange() throws IOException {
+        Path folder = Files.createDirectories(rootFolder.resolve("first/second"));
+        Files.writeString(folder.resolve("file"), "12");
+        assertEquals(new FolderUsage(2, 1, 3), folderUsageCache.getUsage(rootFolder));
+
+        // the folder modification time does not change when a file is rewritten
+        Files.writeString(folder.resolve("file"), "1234");
+        folderUsageCache.invalidate(folder);
+
+        assertEquals(new FolderUsage(4, 1, 3), folderUsageCache.getUsage(rootFolder));
+    }
+
+    @Test
+    public void testChangeNotifiedDuringQuery() throws IOException {
+        for (String folder : List.of("first", "second")) {
+            Files.writeString(Files.createDirectories(rootFolder.resolve(folder).resolve("sub")).resolve("file"), "12");
+        }
+
+        // when the second folder tree is walked, the usage of the first one is already summed,
+        // so a change notified for it must not leave the root usage trusted
+        AtomicBoolean notified = new AtomicBoolean();
+        fileWatchService.hook(folder -> {
+            Path walkedFolder = folder.getParent();
+            Path summedFolder = walkedFolder.resolveSibling(
+                walkedFolder.getFileName().toString().equals("first") ? "second" : "first");
+            if (folder.getFileName().toString().equals("sub") &&
+                fileWatchService.isSubscribed(summedFolder.resolve("sub")) &&
+                notified.compareAndSet(false, true)) {
+                writeFile(summedFolder.resolve("sub/file"), "1234");
+                folderUsageCache.invalidate(summedFolder.resolve("sub"));
+            }
+        });
+        folderUsageCache.getUsage(rootFolder);
+
+        assertTrue(notified.get());
+        assertEquals(new FolderUsage(6, 2, 5), folderUsageCache.getUsage(rootFolder));
+    }
+
+    private void writeFile(final Path file, final String text) {
+        try {
+            Files.writeString(file, text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * File watch service running a hook before a folder is subscribed,
+     * with the real change notifications delayed past the end of the tests.
+     */
+    private static class HookedFileWatchService extends FileWatchService {
+
+        private final Set<Path> subscribedFolders = ConcurrentHashMap.newKeySet();
+
+        private volatile Consumer<Path> hook = folder -> {
+        };
+
+        private HookedFileWatchService() {
+            super(NEVER, NEVER);
+        }
+
+        private void hook(final Consumer<Path> hook) {
+            this.hook = hook;
+        }
+
+        private boolean isSubscribed(final Path folder) {
+            return subscribedFolders.contains(folder);
+        }
+
+        @Override
+        public FileWatchSubscription subscribe(final Path folder, final FileChangeListener listener) {
+            hook.accept(folder);
+            subscribedFolders.add(folder);
+            return super.subscribe(folder, listener);
+        }
+    }
+}
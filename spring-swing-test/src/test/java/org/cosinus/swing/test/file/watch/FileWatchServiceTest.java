@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.test.file.watch;
+
+import org.cosinus.swing.file.watch.FileChange;
+import org.cosinus.swing.file.watch.FileChangeBatch;
+import org.cosinus.swing.file.watch.FileWatchService;
+import org.cosinus.swing.file.watch.FileWatchSubscription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.cosinus.swing.file.watch.FileChangeType.CREATED;
+import static org.cosinus.swing.file.watch.FileChangeType.DELETED;
+import static org.cosinus.swing.file.watch.FileChangeType.MODIFIED;
+import static org.junit.Assert.*;
+
+public class FileWatchServiceTest {
+
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(300);
+
+    private static final Duration MAX_DELAY = Duration.ofSeconds(3);
+
+    private static final long BATCH_TIMEOUT = 10;
+
+    private Path folder;
+
+    private FileWatchService fileWatchService;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("file-watch-test").toRealPath();
+        fileWatchService = new FileWatchService(QUIET_PERIOD, MAX_DELAY);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileWatchService.close();
+        if (Files.exists(folder)) {
+            try (Stream<Path> paths = Files.walk(folder)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCoalescedChanges() throws Exception {
+        Path existing = Files.writeString(folder.resolve("existing"), "1");
+        BlockingQueue<FileChangeBatch> batches = new LinkedBlockingQueue<>();
+        fileWatchService.subscribe(folder, batches::add);
+
+        Path created = folder.resolve("created");
+        for (int index = 0; index < 5; index++) {
+            Files.writeString(created, "12345".substring(0, index + 1));
+        }
+        Path temporary = Files.writeString(folder.resolve("temporary"), "1");
+        Files.delete(temporary);
+        Files.writeString(existing, "12");
+        Files.delete(existing);
+        Files.writeString(existing, "123");
+
+        FileChangeBatch batch = batches.poll(BATCH_TIMEOUT, SECONDS);
+        assertNotNull(batch);
+        assertEquals(folder, batch.folder());
+        assertEquals(List.of(new FileChange(created, CREATED), new FileChange(existing, MODIFIED)),
+            batch.changes());
+        assertNull(batches.poll(QUIET_PERIOD.toMillis() * 2, MILLISECONDS));
+    }
+
+    @Test
+    public void testReferenceCountedSubscriptions() throws Exception {
+        BlockingQueue<FileChangeBatch> firstBatches = new LinkedBlockingQueue<>();
+        BlockingQueue<FileChangeBatch> secondBatches = new LinkedBlockingQueue<>();
+        FileWatchSubscription first = fileWatchService.subscribe(folder, firstBatches::add);
+        FileWatchSubscription second = fileWatchService.subscribe(folder.resolve("."), secondBatches::add);
+        assertEquals(1, fileWatchService.getWatchedFolderCount());
+
+        first.close();
+        first.close();
+        assertFalse(first.isActive());
+        assertEquals(1, fileWatchService.getWatchedFolderCount());
+
+        Files.writeString(folder.resolve("file"), "1");
+        assertNotNull(secondBatches.poll(BATCH_TIMEOUT, SECONDS));
+        assertTrue(firstBatches.isEmpty());
+
+        second.close();
+        assertEquals(0, fileWatchService.getWatchedFolderCount());
+
+        Files.writeString(folder.resolve("other"), "1");
+        assertNull(secondBatches.poll(QUIET_PERIOD.toMillis() * 3, MILLISECONDS));
+    }
+
+    @Test
+    public void testDeletedFolder() throws Exception {
+        Path watched = Files.createDirectory(folder.resolve("watched"));
+        Path file = Files.writeString(watched.resolve("file"), "1");
+        BlockingQueue<FileChangeBatch> batches = new LinkedBlockingQueue<>();
+        fileWatchService.subscribe(watched, batches::add);
+
+        Files.delete(file);
+        Files.delete(watched);
+
+        List<FileChange> changes = pollChanges(batches, new FileChange(watched, DELETED));
+        assertTrue(changes.contains(new FileChange(file, DELETED)));
+        assertEquals(0, fileWatchService.getWatchedFolderCount());
+    }
+
+    @Test
+    public void testCloseWithPendingChanges() throws Exception {
+        BlockingQueue<FileChangeBatch> batches = new LinkedBlockingQueue<>();
+        BlockingQueue<Throwable> uncaughtErrors = new LinkedBlockingQueue<>();
+        Thread.UncaughtExceptionHandler defaultHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> uncaughtErrors.add(error));
+        try {
+            fileWatchService.subscribe(folder, batches::add);
+
+            Files.writeString(folder.resolve("file"), "1");
+            fileWatchService.close();
+
+            assertEquals(0, fileWatchService.getWatchedFolderCount());
+            assertNull(batches.poll(QUIET_PERIOD.toMillis() * 3, MILLISECONDS));
+            assertTrue(uncaughtErrors.isEmpty());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(defaultHandler);
+        }
+    }
+
+    private List<FileChange> pollChanges(final BlockingQueue<FileChangeBatch> batches,
+                                         final FileChange expectedChange) throws InterruptedException {
+        List<FileChange> changes = new ArrayList<>();
+        while (!changes.contains(expectedChange)) {
+            FileChangeBatch batch = batches.poll(BATCH_TIMEOUT, SECONDS);
+            assertNotNull("Missing change: " + expectedChange, batch);
+            changes.addAll(batch.changes());
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.find;
+
+import org.cosinus.swing.find.FindIndex;
+import org.cosinus.swing.find.FindResult;
+import org.cosinus.swing.find.FindText;
+import org.cosinus.swing.find.IncrementalTextFinder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+
+import static org.cosinus.swing.find.FindText.buildFindText;
+import static org.junit.Assert.*;
+
+public class IncrementalTextFinderTest {
+
+    private static final int SMALL_CHUNK_SIZE = 1000;
+
+    @Test
+    public void testFindAllLiteral() {
+        String text = randomText(300_000, "ab ");
+        FindText findText = buildFindText("ab a");
+
+        assertFindAllAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindAllOverlappingLiteral() {
+        String text = "a".repeat(10_001);
+        FindText findText = buildFindText("aa");
+
+        assertFindAllAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindAllCaseInsensitiveLiteral() {
+        String text = randomText(100_000, "aAbB");
+        FindText findText = buildFindText("Ab");
+
+        assertFindAllAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindAllRegularExpression() {
+        String text = randomText(300_000, "xyz\n");
+        FindText findText = buildFindText("x[yz]+").regularExpression(true);
+
+        assertFindAllAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindAllLongMatch() {
+        String text = "x".repeat(70_000);
+        FindText findText = buildFindText("x+").regularExpression(true);
+
+        FindIndex findIndex = new IncrementalTextFinder(text, findText).findAllIndexed();
+
+        assertEquals(1, findIndex.count());
+        assertEquals(0, findIndex.getStartPosition(0));
+        assertEquals(70_000, findIndex.getEndPosition(0));
+        assertFindAllAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindAllMatchLongerThanChunks() {
+        String text = "a" + "x".repeat(5_000) + "b" + "x".repeat(5_000) + "y";
+        FindText findText = buildFindText("a.*y|b").regularExpression(true);
+
+        assertFindAllAsSequential(text, findText);
+        assertFindNextAsSequential(text, findText);
+    }
+
+    @Test
+    public void testFindNext() {
+        String text = randomText(100_000, "ab ");
+        FindText findText = buildFindText("ba").wholeWord(true);
+
+        assertFindNextAsSequential(text, findText);
+    }
+
+    private void assertFindAllAsSequential(String text, FindText findText) {
+        List<int[]> expected = findSequentially(text, findText);
+        for (IncrementalTextFinder textFinder : List.of(
+            new IncrementalTextFinder(text, findText),
+            new IncrementalTextFinder(text, findText, SMALL_CHUNK_SIZE))) {
+            FindIndex findIndex = textFinder.findAllIndexed();
+
+            assertEquals(expected.size(), findIndex.count());
+            for (int index = 0; index < expected.size(); index++) {
+                assertEquals(expected.get(index)[0], findIndex.getStartPosition(index));
+                assertEquals(expected.get(index)[1], findIndex.getEndPosition(index));
+            }
+        }
+    }
+
+    private void assertFindNextAsSequential(String text, FindText findText) {
+        List<int[]> expected = findSequentially(text, findText);
+        IncrementalTextFinder textFinder = new IncrementalTextFinder(text, findText, SMALL_CHUNK_SIZE);
+        List<FindResult> findResults = textFinder.findAll().toList();
+
+        assertEquals(expected.size(), findResults.size());
+        for (int index = 0; index < expected.size(); index++) {
+            assertEquals(expected.get(index)[0], findResults.get(index).startPosition());
+            assertEquals(expected.get(index)[1], findResults.get(index).endPosition());
+        }
+    }
+
+    private List<int[]> findSequentially(String text, FindText findText) {
+        List<int[]> positions = new ArrayList<>();
+        Matcher matcher = findText.toPattern().matcher(text);
+        while (matcher.find()) {
+            positions.add(new int[]{matcher.start(), matcher.end()});
+        }
+        return positions;
+    }
+
+    private String randomText(int length, String alphabet) {
+        Random random = new Random(length);
+        StringBuilder text = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
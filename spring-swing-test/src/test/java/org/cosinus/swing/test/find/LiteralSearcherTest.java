@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+package org.cosinus.swing.test.find;
+
+import org.cosinus.swing.find.LiteralSearcher;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.UNICODE_CASE;
+import static org.junit.Assert.*;
+
+public class LiteralSearcherTest {
+
+    @Test
+    public void testCaseFolding() {
+        LiteralSearcher caseInsensitive = new LiteralSearcher("ÄbC", false, false);
+        LiteralSearcher caseSensitive = new LiteralSearcher("ÄbC", true, false);
+
+        assertEquals(2, caseInsensitive.indexOf("xxäBcxx", 0));
+        assertEquals(2, caseInsensitive.indexOf(new StringBuilder("xxäBcxx"), 0));
+        assertEquals(-1, caseSensitive.indexOf("xxäBcxx", 0));
+        assertEquals(-1, caseSensitive.indexOf(new StringBuilder("xxäBcxx"), 0));
+        assertEquals(2, caseSensitive.indexOf(new StringBuilder("xxÄbCxx"), 0));
+    }
+
+    @Test
+    public void testEmptyPattern() {
+        LiteralSearcher searcher = new LiteralSearcher("", false, false);
+
+        assertEquals(0, searcher.length());
+        assertEquals(-1, searcher.indexOf("text", 0));
+        assertEquals(-1, searcher.indexOf("", 0));
+    }
+
+    @Test
+    public void testMatchAtTheEnd() {
+        LiteralSearcher searcher = new LiteralSearcher("end", false, false);
+        LiteralSearcher wholeWordSearcher = new LiteralSearcher("end", false, true);
+
+        assertEquals(5, searcher.indexOf("the lend", 0));
+        assertEquals(5, searcher.indexOf(new StringBuilder("the lEND"), 0));
+        assertEquals(-1, searcher.indexOf("the len", 0));
+        assertEquals(-1, wholeWordSearcher.indexOf("the lend", 0));
+        assertEquals(4, wholeWordSearcher.indexOf("the end", 0));
+    }
+
+    @Test
+    public void testOverlappingMatches() {
+        LiteralSearcher searcher = new LiteralSearcher("aa", false, false);
+        String text = "aaaa";
+
+        assertEquals(0, searcher.indexOf(text, 0));
+        assertEquals(1, searcher.indexOf(text, 1));
+        assertEquals(2, searcher.indexOf(text, 2));
+        assertEquals(-1, searcher.indexOf(text, 3));
+        assertEquals(1, searcher.indexOf(new StringBuilder("baaa"), 0));
+        assertEquals(2, searcher.indexOf(new StringBuilder("baaa"), 2));
+    }
+
+    @Test
+    public void testBoundedSearch() {
+        LiteralSearcher searcher = new LiteralSearcher("abc", true, false);
+        LiteralSearcher wholeWordSearcher = new LiteralSearcher("abc", true, true);
+
+        assertEquals(-1, searcher.indexOf("xxabcxx", 0, 4));
+        assertEquals(2, searcher.indexOf("xxabcxx", 0, 5));
+        assertEquals(-1, searcher.indexOf(new StringBuilder("xxabcxx"), 0, 4));
+        assertEquals(2, searcher.indexOf(new StringBuilder("xxabcxx"), 0, 5));
+        // the word boundary after the range is still checked against the whole text
+        assertEquals(-1, wholeWordSearcher.indexOf("xx abcx", 0, 6));
+        assertEquals(3, wholeWordSearcher.indexOf("xx abc x", 0, 6));
+    }
+
+    @Test
+    public void testSameMatchesAsPattern() {
+        Random random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            String text = randomText(random, 200, "aAbB ");
+            String literal = randomText(random, 1 + random.nextInt(3), "aAbB");
+            boolean caseSensitive = random.nextBoolean();
+            LiteralSearcher searcher = new LiteralSearcher(literal, caseSensitive, false);
+            Matcher matcher = Pattern.compile(Pattern.quote(literal),
+                    caseSensitive ? 0 : CASE_INSENSITIVE | UNICODE_CASE)
+                .matcher(text);
+
+            int position = 0;
+            while (matcher.find(position)) {
+                assertEquals(matcher.start(), searcher.indexOf(new StringBuilder(text), position));
+                assertEquals(matcher.start(), searcher.indexOf(text, position));
+                position = matcher.start() + 1;
+            }
+            assertEquals(-1, searcher.indexOf(text, position));
+        }
+    }
+
+    private String randomText(Random random, int length, String alphabet) {
+        StringBuilder text = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Cosinus Software
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.cosinus.swing.test.resource;
+
+import org.cosinus.swing.resource.IndexedClasspathResourceResolver;
+import org.cosinus.swing.resource.ResourceIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeNotNull;
+
+public class ResourceIndexTest {
+
+    private static final String MENU = "menu/menu.json";
+
+    private static final String ICON = "icons/rover.svg";
+
+    private Path workFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        workFolder = Files.createTempDirectory("resource-index-test");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void testServeFromFolderIndex() throws IOException {
+        Path classes = createIndexedFolder("classes");
+
+        ResourceIndex resourceIndex = load(classes);
+
+        assertEquals(2, resourceIndex.size());
+        assertContent("menu", resourceIndex, MENU);
+        assertContent("rover", resourceIndex, ICON);
+    }
+
+    @Test
+    public void testChangedFolderResourceIsNotServed() throws IOException {
+        Path classes = createIndexedFolder("classes");
+        Files.writeString(classes.resolve(MENU), "changed menu", UTF_8);
+
+        ResourceIndex resourceIndex = load(classes);
+
+        assertTrue(resourceIndex.getBytes(MENU).isEmpty());
+        assertContent("rover", resourceIndex, ICON);
+    }
+
+    @Test
+    public void testServeFromJarIndex() throws IOException {
+        Path jar = createJar(createIndexedFolder("classes"), "module.jar", null);
+
+        ResourceIndex resourceIndex = load(jar);
+
+        assertContent("menu", resourceIndex, MENU);
+        assertContent("rover", resourceIndex, ICON);
+    }
+
+    @Test
+    public void testChangedJarResourceIsNotServed() throws IOException {
+        Path jar = createJar(createIndexedFolder("classes"), "module.jar", "mown");
+
+        ResourceIndex resourceIndex = load(jar);
+
+        assertTrue(resourceIndex.getBytes(MENU).isEmpty());
+        assertContent("rover", resourceIndex, ICON);
+    }
+
+    @Test
+    public void testUnindexedRootShadowsIndexedRoot() throws IOException {
+        Path classes = createIndexedFolder("classes");
+        Path unindexed = Files.createDirectories(workFolder.resolve("unindexed"));
+        Files.createDirectories(unindexed.resolve(MENU).getParent());
+        Files.writeString(unindexed.resolve(MENU), "shadow", UTF_8);
+
+        assertTrue(load(unindexed, classes).getBytes(MENU).isEmpty());
+        assertTrue(load(unindexed, classes).getBytes(ICON).isEmpty());
+        assertContent("menu", load(classes, unindexed), MENU);
+    }
+
+    @Test
+    public void testFirstIndexedRootWins() throws IOException {
+        Path first = createIndexedFolder("first");
+        Path second = createIndexedFolder("second");
+        Files.writeString(second.resolve(MENU), "second", UTF_8);
+        writeIndex(second);
+
+        assertContent("menu", load(first, second), MENU);
+        assertContent("second", load(second, first), MENU);
+    }
+
+    @Test
+    public void testCompleteIndex() throws IOException {
+        Path classes = createIndexedFolder("classes");
+        Path jar = createJar(createIndexedFolder("module"), "module.jar", null);
+        Path unindexed = Files.createDirectories(workFolder.resolve("unindexed"));
+
+        assertTrue(load(classes, jar).isComplete());
+        assertFalse(load(classes, unindexed).isComplete());
+        assertFalse(load(unindexed, classes).isComplete());
+    }
+
+    @Test
+    public void testResolveResourcesWithIncompleteIndex() throws IOException {
+        Path classes = createIndexedFolder("classes");
+        Path unindexed = Files.createDirectories(workFolder.resolve("unindexed"));
+        Files.createDirectories(unindexed.resolve(MENU).getParent());
+        Files.writeString(unindexed.resolve("menu/extra.json"), "extra", UTF_8);
+
+        assertEquals(Set.of("menu.json"), resolveResources(classes));
+        assertEquals(Set.of("menu.json", "extra.json"), resolveResources(unindexed, classes));
+    }
+
+    private Set<String> resolveResources(final Path... classpath) throws IOException {
+        try (URLClassLoader classLoader = createClassLoader(classpath)) {
+            IndexedClasspathResourceResolver resourceResolver = new IndexedClasspathResourceResolver(
+                new PathMatchingResourcePatternResolver(classLoader),
+                ResourceIndex.load(classLoader));
+            return resourceResolver.resolveResources(() -> "menu", ".json")
+                .collect(toSet());
+        }
+    }
+
+    private Path createIndexedFolder(final String name) throws IOException {
+        Path folder = Files.createDirectories(workFolder.resolve(name));
+        Files.createDirectories(folder.resolve(MENU).getParent());
+        Files.createDirectories(folder.resolve(ICON).getParent());
+        Files.writeString(folder.resolve(MENU), "menu", UTF_8);
+        Files.writeString(folder.resolve(ICON), "rover", UTF_8);
+        writeIndex(folder);
+        return folder;
+    }
+
+    /**
+     * Write the index of a folder by running the resource index processor on an empty compilation.
+     */
+    private void writeIndex(final Path folder) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        Path source = Files.writeString(workFolder.resolve("Empty.java"), "class Empty {}", UTF_8);
+        int result = compiler.run(null, null, null,
+            "-proc:only",
+            "-processor", "org.cosinus.swing.processor.ResourceIndexProcessor",
+            "-cp", System.getProperty("java.class.path"),
+            "-d", folder.toString(),
+            source.toString());
+        Files.delete(source);
+        assertEquals(0, result);
+        assertTrue(Files.exists(folder.resolve(ResourceIndex.RESOURCE_INDEX_PATH)));
+    }
+
+    /**
+     * Pack a folder in a jar, optionally replacing the menu with a content of the same size.
+     */
+    private Path createJar(final Path folder, final String name, final String menu) throws IOException {
+        Path jar = workFolder.resolve(name);
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(folder)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                String path = folder.relativize(file).toString().replace('\\', '/');
+                output.putNextEntry(new JarEntry(path));
+                if (menu != null && path.equals(MENU)) {
+                    output.write(menu.getBytes(UTF_8));
+                } else {
+                    Files.copy(file, output);
+                }
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private ResourceIndex load(final Path... classpath) throws IOException {
+        try (URLClassLoader classLoader = createClassLoader(classpath)) {
+            return ResourceIndex.load(classLoader);
+        }
+    }
+
+    private URLClassLoader createClassLoader(final Path... classpath) throws IOException {
+        URL[] urls = new URL[classpath.length];
+        for (int index = 0; index < classpath.length; index++) {
+            urls[index] = classpath[index].toUri().toURL();
+        }
+        return new URLClassLoader(urls, null);
+    }
+
+    private void assertContent(final String expected, final ResourceIndex resourceIndex, final String path) {
+        assertEquals(expected, resourceIndex.getBytes(path)
+            .map(bytes -> new String(bytes, UTF_8))
+            .orElse(null));
+    }
+}